@@ -0,0 +1,75 @@
+package cyclops.futurestream;
+
+import com.oath.cyclops.react.collectors.lazy.MaxActive;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+public class MaxActiveThroughput {
+
+    @Param({"10", "100", "1000"})
+    int maxActive;
+
+    ExecutorService executor;
+    LazyReact react;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(8);
+        react = new LazyReact(executor).autoOptimizeOff()
+                                       .withMaxActive(new MaxActive(maxActive, maxActive - Math.max(1, maxActive / 10)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void collect(Blackhole bh) {
+
+        List<Integer> result = react.range(0, 10000)
+                                    .map(i -> i * 2)
+                                    .toList();
+        bh.consume(result);
+
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void collectUnevenLatency(Blackhole bh) {
+
+        List<Integer> result = react.range(0, 1000)
+                                    .map(i -> {
+                                        if (i % 10 == 0)
+                                            LockSupport.parkNanos(50_000);
+                                        return i * 2;
+                                    })
+                                    .toList();
+        bh.consume(result);
+
+    }
+}
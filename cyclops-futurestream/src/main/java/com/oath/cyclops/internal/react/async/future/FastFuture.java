@@ -4,11 +4,14 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.oath.cyclops.async.wait.SpinThenParkWait;
+import com.oath.cyclops.async.wait.WaitStrategy;
 import com.oath.cyclops.internal.react.exceptions.SimpleReactCompletionException;
 
 import lombok.AllArgsConstructor;
@@ -51,6 +54,22 @@ public class FastFuture<T> {
                                                           0);
     private final AtomicInteger max = new AtomicInteger(
                                                         0);
+    //System.nanoTime when timing was started by an adaptive MaxActive collector, 0 when not timed
+    private volatile long startedAt;
+    private volatile long completedAt;
+    //listener notified once on completion, DONE_SIGNALLED once completion has been signalled
+    private volatile Consumer doneListener;
+    private static final Consumer DONE_SIGNALLED = f -> {
+    };
+    private static final AtomicReferenceFieldUpdater<FastFuture, Consumer> DONE_LISTENER = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                                  Consumer.class,
+                                                                                                                                  "doneListener");
+    //thread blocked in join / await, unparked on completion
+    private volatile Thread waiter;
+    private static final AtomicReferenceFieldUpdater<FastFuture, Thread> WAITER = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                         Thread.class,
+                                                                                                                         "waiter");
+    private static volatile WaitStrategy<?> waitStrategy = new SpinThenParkWait<>();
 
     public FastFuture() {
         max.set(0);
@@ -58,6 +77,8 @@ public class FastFuture<T> {
         this.pipeline = null;
     }
 
+    //result and exception are written before the volatile done / completedExceptionally flags that guard these reads,
+    //so the loops below only retry if the future is being recycled concurrently
     private T result() {
         Object res = UNSET;
         while ((res = result.get()) == UNSET) {
@@ -87,13 +108,48 @@ public class FastFuture<T> {
         this.doFinally = null;
     }
 
+    /**
+     * Set the strategy used by threads waiting in join or await for a FastFuture to complete. Completing a future
+     * unparks its waiting thread, so parking strategies do not need to poll. Defaults to {@link SpinThenParkWait}
+     *
+     * @param strategy WaitStrategy for all FastFutures
+     */
+    public static void setWaitStrategy(final WaitStrategy<?> strategy) {
+        waitStrategy = strategy;
+    }
+
+    public static WaitStrategy<?> getWaitStrategy() {
+        return waitStrategy;
+    }
+
     public void await() {
 
-        long spin = 1;
-        while (!done) {
-            LockSupport.parkNanos(spin++);
+        awaitDone();
+
+    }
+
+    private void awaitDone() {
+        if (done)
+            return;
+        if (!WAITER.compareAndSet(this, null, Thread.currentThread())) {
+            //only one thread can be unparked, any others poll
+            long spin = 1;
+            while (!done) {
+                LockSupport.parkNanos(spin++);
+            }
+            return;
+        }
+        try {
+            waitStrategy.await(this::isDone);
+        } finally {
+            waiter = null;
         }
+    }
 
+    private void wakeWaiter() {
+        final Thread thread = waiter;
+        if (thread != null)
+            LockSupport.unpark(thread);
     }
 
     /**
@@ -104,10 +160,7 @@ public class FastFuture<T> {
     public T join() {
 
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
+            awaitDone();
             if (completedExceptionally)
                 throw new SimpleReactCompletionException(
                                                          exception());
@@ -117,6 +170,25 @@ public class FastFuture<T> {
         }
     }
 
+    /**
+     * Start timing this future, its completion time is then recorded for latency based limits
+     */
+    public void startTiming() {
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * @param now Current System.nanoTime, used if this future completed before timing started
+     * @return Nanoseconds from timing being started until completion, or -1 if not timed
+     */
+    public long latencyNanos(final long now) {
+        final long start = startedAt;
+        if (start == 0)
+            return -1;
+        final long end = completedAt;
+        return Math.max(0, (end == 0 ? now : end) - start);
+    }
+
     public void markComplete() {
         if (doFinally != null)
             doFinally.accept(this);
@@ -173,12 +245,15 @@ public class FastFuture<T> {
     }
 
     private FastFuture<T> completeExceptionally(final Throwable t) {
+        recordCompletion();
         exception.lazySet(t);
         completedExceptionally = true;
         handleOnComplete(true);
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
         done = true;
+        wakeWaiter();
+        signalDone();
         return this;
     }
 
@@ -313,10 +388,18 @@ public class FastFuture<T> {
 
     }
 
+    private void recordCompletion() {
+        if (startedAt != 0)
+            completedAt = System.nanoTime();
+    }
+
     private boolean done() {
+        recordCompletion();
         this.completedExceptionally = false;
         this.done = true;
+        wakeWaiter();
         handleOnComplete(true);
+        signalDone();
 
         return true;
 
@@ -330,9 +413,39 @@ public class FastFuture<T> {
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
+        this.startedAt = 0;
+        this.completedAt = 0;
+        this.doneListener = null;
+        this.waiter = null;
         this.done = false;
     }
 
+    /**
+     * Register a listener that is called exactly once, with this future, after it is done. It is called on the
+     * completing thread, or immediately on the calling thread if this future is already done. Unlike onComplete and
+     * essential the listener can not be replaced, so at most one can be registered per use of this future.
+     *
+     * @param listener Completion listener
+     * @return true if the listener was registered, false if another listener is already registered
+     */
+    public boolean notifyOnDone(final Consumer<? super FastFuture<T>> listener) {
+        if (DONE_LISTENER.compareAndSet(this, null, listener)) {
+            if (done)
+                signalDone();
+            return true;
+        }
+        if (doneListener != DONE_SIGNALLED)
+            return false;
+        listener.accept(this);
+        return true;
+    }
+
+    private void signalDone() {
+        final Consumer listener = DONE_LISTENER.getAndSet(this, DONE_SIGNALLED);
+        if (listener != null && listener != DONE_SIGNALLED)
+            listener.accept(this);
+    }
+
     /**
      * Called at least once on complete
      *
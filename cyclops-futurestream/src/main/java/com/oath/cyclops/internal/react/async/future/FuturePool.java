@@ -1,39 +1,211 @@
 package com.oath.cyclops.internal.react.async.future;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 
-import lombok.AllArgsConstructor;
-
 /**
- * Active consumer / multiple producer future pool
+ * Pool of FastFutures for reuse within a Stream. Two implementations are available
+ * <ul>
+ *     <li>{@link #shared(int)} Active consumer / multiple producer future pool</li>
+ *     <li>{@link #threadLocal(int)} per thread magazines (small stacks of futures, one per thread shared by all thread
+ *     local pools), full magazines are exchanged through a shared depot, so the shared structure is only touched once
+ *     per magazine rather than once per future</li>
+ * </ul>
+ *
+ * Hits, misses and discards are counted across all pools, see {@link #getHits()}
  *
  * @author johnmcclean
  *
  */
-@AllArgsConstructor
-public class FuturePool {
+public abstract class FuturePool {
+
+    private static final int MAGAZINE_SIZE = 32;
 
-    private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
-    private final int max;
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder DISCARDS = new LongAdder();
 
     public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
-        if (pool.size() > 0) {
+        final FastFuture<T> next = poll();
+        if (next != null)
+            return hit(next);
+        return miss(factory);
+    }
 
-            final FastFuture next = pool.poll();
-            next.clearFast();
-            return next;
+    /**
+     * A pool may be shared by the Streams built from one another, pooled futures built for a different pipeline are
+     * discarded rather than reused
+     *
+     * @param pipeline Pipeline the next future must run
+     * @param factory Creates a new future if none is pooled
+     * @return Pooled or new FastFuture
+     */
+    public <T> FastFuture<T> next(final FinalPipeline pipeline, final Supplier<FastFuture<T>> factory) {
+        final FastFuture<T> next = poll();
+        if (next == null)
+            return miss(factory);
+        if (next.getPipeline() != pipeline) {
+            discard();
+            return miss(factory);
         }
+        return hit(next);
+    }
+
+    abstract <T> FastFuture<T> poll();
+
+    public abstract <T> void done(final FastFuture<T> f);
+
+    /**
+     * @param max Maximum number of pooled futures
+     * @return Pool backed by a single queue shared by all threads
+     */
+    public static FuturePool shared(final int max) {
+        return new Shared(
+                          new ManyToOneConcurrentArrayQueue<>(
+                                                              max),
+                          max);
+    }
+
+    /**
+     * @param max Approximate maximum number of pooled futures held outside of thread local magazines
+     * @return Pool backed by per thread magazines
+     */
+    public static FuturePool threadLocal(final int max) {
+        final int magazineSize = Math.max(1, Math.min(MAGAZINE_SIZE, max));
+        return new Magazines(
+                             magazineSize, Math.max(1, max / magazineSize));
+    }
+
+    /**
+     * @return Number of futures supplied from a pool
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
 
+    /**
+     * @return Number of futures created because a pool was empty
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * @return Number of futures dropped, because a pool was full or they were built for a different pipeline
+     */
+    public static long getDiscards() {
+        return DISCARDS.sum();
+    }
+
+    static <T> FastFuture<T> hit(final FastFuture<T> next) {
+        HITS.increment();
+        next.clearFast();
+        return next;
+    }
+
+    static <T> FastFuture<T> miss(final Supplier<FastFuture<T>> factory) {
+        MISSES.increment();
         return factory.get();
     }
 
-    public <T> void done(final FastFuture<T> f) {
-        if (pool.size() < max) {
+    static void discard() {
+        DISCARDS.increment();
+    }
+
+    static final class Shared extends FuturePool {
+        private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
+        private final int max;
 
-            pool.offer(f);
+        Shared(final ManyToOneConcurrentArrayQueue<FastFuture> pool, final int max) {
+            this.pool = pool;
+            this.max = max;
         }
 
+        @Override
+        <T> FastFuture<T> poll() {
+            return pool.poll();
+        }
+
+        @Override
+        public <T> void done(final FastFuture<T> f) {
+            if (pool.size() >= max) {
+                discard();
+                return;
+            }
+            f.clearFast();
+            if (!pool.offer(f))
+                discard();
+
+        }
+    }
+
+    static final class Magazines extends FuturePool {
+        //one magazine per thread shared by every thread local pool, rather than one per pool (and so per Stream)
+        private static final ThreadLocal<Magazine> local = ThreadLocal.withInitial(() -> new Magazine(
+                                                                                                       MAGAZINE_SIZE));
+        private final int magazineSize;
+        //full magazines, exchanged between threads
+        private final ManyToManyConcurrentArrayQueue<Magazine> depot;
+
+        Magazines(final int magazineSize, final int maxMagazines) {
+            this.magazineSize = magazineSize;
+            this.depot = new ManyToManyConcurrentArrayQueue<>(
+                                                              Math.max(2, maxMagazines));
+        }
+
+        @Override
+        <T> FastFuture<T> poll() {
+            Magazine magazine = local.get();
+            if (magazine.count == 0) {
+                final Magazine full = depot.poll();
+                if (full == null)
+                    return null;
+                local.set(full);
+                magazine = full;
+            }
+            return magazine.pop();
+        }
+
+        @Override
+        public <T> void done(final FastFuture<T> f) {
+            Magazine magazine = local.get();
+            if (magazine.count >= magazineSize) {
+                if (!depot.offer(magazine)) {
+                    discard();
+                    return;
+                }
+                magazine = new Magazine(
+                                        MAGAZINE_SIZE);
+                local.set(magazine);
+            }
+            //pooled futures should not keep their last result or pipeline listeners reachable
+            f.clearFast();
+            magazine.push(f);
+        }
+    }
+
+    /*
+     * Only accessed by the owning thread, ownership is transferred via the depot
+     */
+    static final class Magazine {
+        private final FastFuture[] futures;
+        private int count;
+
+        Magazine(final int size) {
+            this.futures = new FastFuture[size];
+        }
+
+        void push(final FastFuture f) {
+            futures[count++] = f;
+        }
+
+        FastFuture pop() {
+            final FastFuture next = futures[--count];
+            futures[count] = null;
+            return next;
+        }
     }
 }
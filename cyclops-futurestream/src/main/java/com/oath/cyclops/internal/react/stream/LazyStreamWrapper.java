@@ -8,7 +8,6 @@ import java.util.stream.Stream;
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.internal.react.async.future.FuturePool;
 import com.oath.cyclops.internal.react.async.future.PipelineBuilder;
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 
 import cyclops.futurestream.LazyReact;
 import cyclops.reactive.ReactiveSeq;
@@ -27,21 +26,28 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
     private final FuturePool pool;
 
     public LazyStreamWrapper(final Supplier<Stream> values, final LazyReact react) {
+        this(values, react, null);
+    }
+
+    /*
+     * Streams built from this one share its pool, futures it returns to the pool can be reused downstream
+     */
+    private LazyStreamWrapper(final Supplier<Stream> values, final LazyReact react, final FuturePool shared) {
 
         this.values = (Supplier)values;
         this.pipeline = new PipelineBuilder(
                                             react.isAutoOptimize(), react.getExecutor(), react.isAutoMemoize(), react.getMemoizeCache());
 
         this.react = react;
-        if (react.isPoolingActive())
-            pool = new FuturePool(
-                                  new ManyToOneConcurrentArrayQueue<>(
-                                                                      react.getMaxActive()
-                                                                           .getMaxActive()),
-                                  react.getMaxActive()
-                                       .getMaxActive());
-        else
+        if (!react.isPoolingActive())
             pool = null;
+        else if (shared != null)
+            pool = shared;
+        else
+            pool = react.isThreadLocalPooling() ? FuturePool.threadLocal(react.getMaxActive()
+                                                                             .getMaxActive())
+                    : FuturePool.shared(react.getMaxActive()
+                                             .getMaxActive());
 
     }
 
@@ -53,7 +59,7 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         final FastFuture f = pipeline.build();
         final Function<Object, FastFuture> factory = v -> {
 
-            final FastFuture next = pool != null ? pool.next(() -> new FastFuture<>(
+            final FastFuture next = pool != null ? pool.next(f.getPipeline(), () -> new FastFuture<>(
                                                                                     f.getPipeline(), fut -> pool.done(fut)))
                     : new FastFuture<>(
                                        f.getPipeline(), 0);
@@ -78,7 +84,7 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
     }
 
     private FastFuture buildPool(final FinalPipeline pipeline) {
-        return pool != null ? pool.next(() -> new FastFuture<>(
+        return pool != null ? pool.next(pipeline, () -> new FastFuture<>(
                                                                pipeline, fut -> pool.done(fut)))
                 : new FastFuture<>(
                                    pipeline, 0);
@@ -91,12 +97,12 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
 
     public <R> LazyStreamWrapper<R> withNewStreamFutures(final Stream<R> values) {
         return new LazyStreamWrapper(
-                (Supplier)()->values, react.withStreamOfFutures(true));
+                (Supplier)()->values, react.withStreamOfFutures(true), pool);
     }
 
     public <R> LazyStreamWrapper<R> withNewStream(final Stream<R> values, final LazyReact react) {
         return new LazyStreamWrapper(
-                (Supplier)()->values, react.withStreamOfFutures(false));
+                (Supplier)()->values, react.withStreamOfFutures(false), pool);
     }
 
     @Override
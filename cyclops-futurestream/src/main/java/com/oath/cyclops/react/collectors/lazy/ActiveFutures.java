@@ -0,0 +1,143 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+
+/**
+ * The active futures of a collector, in a completion ordered structure. Each future enqueues itself on a lock free
+ * done queue when it completes, so reducing the active set only touches futures that have finished, and the
+ * collector thread waits for completions with park / unpark.
+ *
+ * Futures that can't signal their completion (a listener is already registered, or FastFuture has been overridden)
+ * are checked with isDone on each pass instead.
+ *
+ * Not thread safe, all methods other than the completion signal are called from the collector thread.
+ *
+ * @param <T> Result type
+ */
+final class ActiveFutures<T> {
+
+    //insertion ordered, FastFuture uses identity equality
+    private final Set<FastFuture<T>> signalling = new LinkedHashSet<>();
+    private final List<FastFuture<T>> polled = new ArrayList<>();
+    private final Queue<FastFuture<T>> done = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Thread> waiting = new AtomicReference<>();
+    private final Consumer<FastFuture<T>> onDone = f -> {
+        done.offer(f);
+        final Thread thread = waiting.get();
+        if (thread != null)
+            LockSupport.unpark(thread);
+    };
+
+    void add(final FastFuture<T> future) {
+        if (future.notifyOnDone(onDone))
+            signalling.add(future);
+        else
+            polled.add(future);
+    }
+
+    int size() {
+        return signalling.size() + polled.size();
+    }
+
+    /**
+     * Remove completed futures until no more than maxActive.getReduceTo() remain, waiting for completions as necessary
+     *
+     * @param maxActive Active limits, completions are reported to adaptive limits
+     * @param removed Called with each completed future as it is removed
+     */
+    void reduce(final MaxActive maxActive, final Consumer<? super FastFuture<T>> removed) {
+        while (size() > maxActive.getReduceTo()) {
+            drain(maxActive, removed);
+            if (!polled.isEmpty()) {
+                final List<FastFuture<T>> toRemove = polled.stream()
+                                                           .filter(cf -> cf.isDone())
+                                                           .collect(Collectors.toList());
+                if (maxActive.isAdaptive())
+                    maxActive.onCompleted(toRemove, size());
+                polled.removeAll(toRemove);
+                toRemove.forEach(removed);
+            }
+            if (size() > maxActive.getReduceTo())
+                await(size() - maxActive.getReduceTo());
+        }
+    }
+
+    private void drain(final MaxActive maxActive, final Consumer<? super FastFuture<T>> removed) {
+        if (done.isEmpty())
+            return;
+        final List<FastFuture<T>> completed = maxActive.isAdaptive() ? new ArrayList<>() : null;
+        final int inFlight = size();
+        FastFuture<T> next;
+        while ((next = done.poll()) != null) {
+            if (!signalling.remove(next))
+                continue;
+            if (completed != null)
+                completed.add(next);
+            removed.accept(next);
+        }
+        if (completed != null)
+            maxActive.onCompleted(completed, inFlight);
+    }
+
+    /*
+     * Parks until at least one signalling future completes, or (when only polled futures are active) until
+     * the required number of polled futures have completed
+     */
+    private void await(final int required) {
+        final Thread current = Thread.currentThread();
+        final AtomicBoolean polledDone = new AtomicBoolean(false);
+        if (!polled.isEmpty()) {
+            FastFuture.xOf(signalling.isEmpty() ? required : 1, () -> {
+                polledDone.set(true);
+                LockSupport.unpark(current);
+            } , polled.toArray(new FastFuture[0]));
+        }
+        boolean interrupted = false;
+        waiting.set(current);
+        try {
+            while (done.isEmpty() && !polledDone.get()) {
+                LockSupport.park(this);
+                if (Thread.interrupted())
+                    interrupted = true;
+            }
+        } finally {
+            waiting.set(null);
+            if (interrupted)
+                current.interrupt();
+        }
+    }
+
+    /**
+     * @param action Called with every active future, in the order they were added
+     */
+    void forEach(final Consumer<? super FastFuture<T>> action) {
+        signalling.forEach(action);
+        polled.forEach(action);
+    }
+
+    /**
+     * Remove every active future, completed futures are passed to removed first
+     */
+    void removeAll(final Consumer<? super FastFuture<T>> removed) {
+        FastFuture<T> next;
+        while ((next = done.poll()) != null) {
+            if (signalling.remove(next))
+                removed.accept(next);
+        }
+        forEach(removed);
+        signalling.clear();
+        polled.clear();
+    }
+}
@@ -0,0 +1,218 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A MaxActive whose limit on active tasks adapts to the observed completion latency of those tasks, rather than being
+ * fixed up front. The collectors time each task from the point it is registered until it completes, and report each
+ * completion via {@link #onSample(long, int)}.
+ *
+ * Two strategies are provided
+ * <ul>
+ *     <li>{@link #aimd(int, int, int, long, TimeUnit)} additive increase while latency is below a threshold,
+ *     multiplicative decrease (at most once per window of active tasks) when it is exceeded</li>
+ *     <li>{@link #gradient(int, int, int)} Vegas style, the limit tracks the ratio of the minimum (unloaded) latency to
+ *     the current smoothed latency, plus a small queue allowance for probing</li>
+ * </ul>
+ *
+ * <pre>
+ * {@code
+ *  AdaptiveMaxActive limit = AdaptiveMaxActive.gradient(10,1,1000);
+ *  new LazyReact().withMaxActive(limit)
+ *                 .fromIterable(requests)
+ *                 .map(this::callService)
+ *                 .run();
+ *
+ *  limit.getLimit();           //current limit
+ *  limit.getQueueingDelayNanos(); //smoothed latency above the minimum observed
+ * }
+ * </pre>
+ *
+ * A single instance may be shared by all the Streams created from a LazyReact, in which case the limit applies to
+ * each Stream but is learnt from all of them.
+ */
+public abstract class AdaptiveMaxActive extends MaxActive {
+
+    private static final double SMOOTHING = 0.1;
+    //the minimum latency is re-learnt after this many samples, so the baseline can move up as well as down
+    private static final long MIN_LATENCY_WINDOW = 10_000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private volatile double limit;
+    private volatile long minLatency = Long.MAX_VALUE;
+    private volatile double smoothedLatency;
+    private volatile long samples;
+
+    protected AdaptiveMaxActive(final int initialLimit, final int minLimit, final int maxLimit) {
+        super(initialLimit, reduceTo(initialLimit));
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max, found min " + minLimit
+                    + " initial " + initialLimit + " max " + maxLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @param latencyThreshold Tasks completing slower than this cause the limit to back off
+     * @param unit Unit of the threshold
+     * @return AIMD limit
+     */
+    public static AdaptiveMaxActive aimd(final int initialLimit, final int minLimit, final int maxLimit,
+                                         final long latencyThreshold, final TimeUnit unit) {
+        return new Aimd(initialLimit, minLimit, maxLimit, unit.toNanos(latencyThreshold));
+    }
+
+    public static AdaptiveMaxActive aimd(final long latencyThreshold, final TimeUnit unit) {
+        return aimd(10, 1, 1000, latencyThreshold, unit);
+    }
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @return Gradient (Vegas style) limit
+     */
+    public static AdaptiveMaxActive gradient(final int initialLimit, final int minLimit, final int maxLimit) {
+        return new Gradient(initialLimit, minLimit, maxLimit);
+    }
+
+    public static AdaptiveMaxActive gradient() {
+        return gradient(10, 1, 1000);
+    }
+
+    @Override
+    public int getMaxActive() {
+        return (int) limit;
+    }
+
+    @Override
+    public int getReduceTo() {
+        return reduceTo(getMaxActive());
+    }
+
+    @Override
+    public boolean isAdaptive() {
+        return true;
+    }
+
+    @Override
+    public synchronized void onSample(final long latencyNanos, final int inFlight) {
+        final long count = ++samples;
+        if (latencyNanos < minLatency || count % MIN_LATENCY_WINDOW == 0)
+            minLatency = latencyNanos;
+        smoothedLatency = count == 1 ? latencyNanos : smoothedLatency + (latencyNanos - smoothedLatency) * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, update(limit, latencyNanos, inFlight)));
+    }
+
+    /**
+     * Called while holding the lock on this instance, after the latency metrics have been updated
+     *
+     * @return New limit, it is clamped to the min and max limits
+     */
+    protected abstract double update(double limit, long latencyNanos, int inFlight);
+
+    /**
+     * @return Current limit on active tasks
+     */
+    public int getLimit() {
+        return getMaxActive();
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @return Lowest completion latency observed in the current window, or 0 if no tasks have completed yet
+     */
+    public long getMinLatencyNanos() {
+        final long min = minLatency;
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * @return Exponentially smoothed completion latency
+     */
+    public long getSmoothedLatencyNanos() {
+        return (long) smoothedLatency;
+    }
+
+    /**
+     * @return Estimate of the time tasks spend queued, the smoothed latency above the minimum latency
+     */
+    public long getQueueingDelayNanos() {
+        return Math.max(0, getSmoothedLatencyNanos() - getMinLatencyNanos());
+    }
+
+    public long getSampleCount() {
+        return samples;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[limit=" + getLimit() + ", minLatencyNanos=" + getMinLatencyNanos()
+                + ", queueingDelayNanos=" + getQueueingDelayNanos() + "]";
+    }
+
+    private static int reduceTo(final int limit) {
+        return Math.max(1, limit - Math.max(1, limit / 10));
+    }
+
+    static final class Aimd extends AdaptiveMaxActive {
+        private static final double BACKOFF = 0.9;
+
+        private final long latencyThreshold;
+        private long sinceBackoff = Long.MAX_VALUE;
+
+        Aimd(final int initialLimit, final int minLimit, final int maxLimit, final long latencyThreshold) {
+            super(initialLimit, minLimit, maxLimit);
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        @Override
+        protected double update(final double limit, final long latencyNanos, final int inFlight) {
+            if (sinceBackoff < Long.MAX_VALUE)
+                sinceBackoff++;
+            if (latencyNanos > latencyThreshold) {
+                //tasks started before the last back off complete late too, only back off once per window
+                if (sinceBackoff < limit)
+                    return limit;
+                sinceBackoff = 0;
+                return limit * BACKOFF;
+            }
+            //only grow while the limit is actually being used
+            if (inFlight * 2 >= limit)
+                return limit + 1;
+            return limit;
+        }
+    }
+
+    static final class Gradient extends AdaptiveMaxActive {
+        //latency may rise to this multiple of the minimum before the limit shrinks
+        private static final double TOLERANCE = 1.5;
+        private static final double LIMIT_SMOOTHING = 0.2;
+
+        Gradient(final int initialLimit, final int minLimit, final int maxLimit) {
+            super(initialLimit, minLimit, maxLimit);
+        }
+
+        @Override
+        protected double update(final double limit, final long latencyNanos, final int inFlight) {
+            final double smoothed = Math.max(1, getSmoothedLatencyNanos());
+            final double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * getMinLatencyNanos() / smoothed));
+            final double next = limit * gradient + Math.sqrt(limit);
+            if (next > limit && inFlight * 2 < limit)
+                return limit;
+            return limit * (1 - LIMIT_SMOOTHING) + next * LIMIT_SMOOTHING;
+        }
+    }
+}
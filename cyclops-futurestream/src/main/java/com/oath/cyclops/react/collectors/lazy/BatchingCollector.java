@@ -2,12 +2,8 @@ package com.oath.cyclops.react.collectors.lazy;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.types.futurestream.BlockingStream;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,7 +12,8 @@ import lombok.experimental.Wither;
 
 /**
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
- * parallelism.
+ * parallelism. Active futures signal their own completion, so once the limit is reached only the futures that have
+ * completed are moved to the results.
  *
  * @author johnmcclean
  *
@@ -28,7 +25,7 @@ import lombok.experimental.Wither;
 public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
   private final Collection<FastFuture<T>> results;
-  private final List<FastFuture<T>> active = new ArrayList<>();
+  private final ActiveFutures<T> active = new ActiveFutures<>();
   @Getter
   private final MaxActive maxActive;
   @Getter
@@ -49,28 +46,12 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
   @Override
   public void accept(final FastFuture<T> t) {
 
+    if (maxActive.isAdaptive())
+      t.startTiming();
     active.add(t);
 
-    if (active.size() > maxActive.getMaxActive()) {
-
-      while (active.size() > maxActive.getReduceTo()) {
-
-        final List<FastFuture<T>> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .collect(Collectors.toList());
-        active.removeAll(toRemove);
-        results.addAll(toRemove);
-        if (active.size() > maxActive.getReduceTo()) {
-          final CompletableFuture promise = new CompletableFuture();
-          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-            promise.complete(true);
-          } , active.toArray(new FastFuture[0]));
-
-          promise.join();
-        }
-
-      }
-    }
+    if (active.size() > maxActive.getMaxActive())
+      active.reduce(maxActive, results::add);
 
   }
 
@@ -81,10 +62,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
   public void block(final Function<FastFuture<T>, T> safeJoin) {
     if (active.size() == 0)
       return;
-    active.stream()
-      .peek(f -> safeJoin.apply(f))
-      .forEach(a -> {
-      });
+    active.forEach(f -> safeJoin.apply(f));
 
   }
 
@@ -102,8 +80,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
    */
   @Override
   public Collection<FastFuture<T>> getAllResults() {
-    results.addAll(active);
-    active.clear();
+    active.removeAll(results::add);
     return results;
   }
 
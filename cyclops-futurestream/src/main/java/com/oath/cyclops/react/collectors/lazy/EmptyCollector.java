@@ -42,16 +42,22 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
   @Override
   public void accept(final FastFuture<T> t) {
 
+    final boolean adaptive = maxActive.isAdaptive();
+    if (adaptive)
+      t.startTiming();
     active.add(t);
 
     if (active.size() > maxActive.getMaxActive()) {
 
       while (active.size() > maxActive.getReduceTo()) {
 
+        //joined as they are removed, so pooled futures are recycled while the stream is running
         final List<FastFuture> toRemove = active.stream()
           .filter(cf -> cf.isDone())
-          .peek(this::handleExceptions)
+          .peek(cf -> safeJoin.apply(cf))
           .collect(Collectors.toList());
+        if (adaptive)
+          maxActive.onCompleted(toRemove, active.size());
 
         active.removeAll(toRemove);
         if (active.size() > maxActive.getReduceTo()) {
@@ -1,10 +1,14 @@
 package com.oath.cyclops.react.collectors.lazy;
 
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Builder;
 import lombok.experimental.Wither;
 
+import java.util.List;
+
 @AllArgsConstructor
 @Getter
 @Wither
@@ -24,4 +28,31 @@ public class MaxActive {
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
 
+    /**
+     * @return true if the limits change in response to {@link #onSample(long, int)}, in which case collectors time
+     *         each active task
+     */
+    public boolean isAdaptive() {
+        return false;
+    }
+
+    /**
+     * Record the completion of an active task, ignored by fixed limits
+     *
+     * @param latencyNanos Time from the task being registered with a collector until it completed
+     * @param inFlight Number of tasks active when it completed
+     */
+    public void onSample(final long latencyNanos, final int inFlight) {
+
+    }
+
+    void onCompleted(final List<? extends FastFuture> completed, final int inFlight) {
+        final long now = System.nanoTime();
+        for (final FastFuture next : completed) {
+            final long latency = next.latencyNanos(now);
+            if (latency >= 0)
+                onSample(latency, inFlight);
+        }
+    }
+
 }
@@ -0,0 +1,18 @@
+package com.oath.cyclops.react.threads;
+
+import cyclops.futurestream.LazyReact;
+import cyclops.futurestream.SimpleReact;
+
+/**
+ * A ReactPool of each type for Streams of blocking tasks
+ * Each task runs on its own virtual thread, with at most MAX_CONCURRENCY tasks running at once per builder.
+ * On JVMs without virtual threads the standard parallel executor is used
+ *
+ * @see VirtualThreads
+ */
+public class VirtualThreadElasticPools {
+    public final static int MAX_CONCURRENCY = 10_000;
+
+    public final static ReactPool<SimpleReact> simpleReact = ReactPool.elasticPool(() -> SimpleReact.virtualThreadBuilder(MAX_CONCURRENCY));
+    public final static ReactPool<LazyReact> lazyReact = ReactPool.elasticPool(() -> LazyReact.virtualThreadBuilder(MAX_CONCURRENCY));
+}
@@ -0,0 +1,106 @@
+package com.oath.cyclops.react.threads;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * Executors that run each task on its own virtual thread, when the JVM supports virtual threads (Java 21+, or an
+ * earlier release with preview features enabled). The number of tasks running at once is bounded by a Semaphore, tasks
+ * waiting for a permit park their virtual thread rather than holding a platform thread.
+ *
+ * On JVMs without virtual threads the supplied fallback Executor is used instead.
+ *
+ * <pre>
+ * {@code
+ *  new LazyReact(VirtualThreads.boundedExecutor(10_000,ThreadPools::getStandard))
+ *                 .fromIterable(urls)
+ *                 .map(this::blockingHttpCall)
+ *                 .toList();
+ * }
+ * </pre>
+ */
+public final class VirtualThreads {
+
+    private static final ThreadFactory factory = virtualThreadFactory();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return true if this JVM can create virtual threads
+     */
+    public static boolean isAvailable() {
+        return factory != null;
+    }
+
+    /**
+     * @param maxConcurrency Maximum number of tasks running at once
+     * @param fallback Executor to use if virtual threads are not available
+     * @return Executor that runs each task on a new virtual thread, or the fallback
+     */
+    public static Executor boundedExecutor(final int maxConcurrency, final Supplier<? extends Executor> fallback) {
+        return boundedExecutor(maxConcurrency, factory, fallback);
+    }
+
+    /*
+     * factory is null when virtual threads are not available, tests supply their own
+     */
+    static Executor boundedExecutor(final int maxConcurrency, final ThreadFactory factory,
+            final Supplier<? extends Executor> fallback) {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("maxConcurrency must be at least 1, found " + maxConcurrency);
+        if (factory == null)
+            return fallback.get();
+        return new BoundedExecutor(
+                                   factory, new Semaphore(
+                                                          maxConcurrency));
+    }
+
+    /*
+     * Built reflectively, so this class still compiles and runs on Java 8
+     */
+    static ThreadFactory virtualThreadFactory() {
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual")
+                                         .invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class)
+                                 .invoke(builder, "futurestream-virtual-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory")
+                                              .invoke(builder);
+        } catch (final Throwable t) {
+            //no virtual threads (Java 8 - 18, or preview features not enabled)
+            return null;
+        }
+    }
+
+    static final class BoundedExecutor implements Executor {
+        private final ThreadFactory factory;
+        private final Semaphore permits;
+
+        BoundedExecutor(final ThreadFactory factory, final Semaphore permits) {
+            this.factory = factory;
+            this.permits = permits;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            factory.newThread(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            })
+                   .start();
+        }
+
+        @Override
+        public String toString() {
+            return "VirtualThreads.BoundedExecutor[available=" + permits.availablePermits() + "]";
+        }
+    }
+}
@@ -188,6 +188,9 @@ public interface LazyStream<U> extends BlockingStream<U> {
 
                     collector.getConsumer()
                              .accept(next);
+                    //c has already been applied, joining completed futures reports errors and returns them to the pool
+                    collector.forEach(r -> {
+                    }, (Function) safeJoin);
 
                 });
         } catch (final SimpleReactProcessingException e) {
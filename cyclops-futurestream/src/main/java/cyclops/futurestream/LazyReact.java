@@ -30,6 +30,7 @@ import com.oath.cyclops.internal.react.stream.ReactBuilder;
 import com.oath.cyclops.react.ThreadPools;
 import com.oath.cyclops.react.async.subscription.Subscription;
 import com.oath.cyclops.react.collectors.lazy.MaxActive;
+import com.oath.cyclops.react.threads.VirtualThreads;
 import cyclops.function.Cacheable;
 
 
@@ -93,6 +94,8 @@ public class LazyReact implements ReactBuilder {
     private final boolean autoMemoize;
     @Getter
     private final Cacheable<?> memoizeCache;
+    @Getter
+    private final boolean threadLocalPooling;
 
 
 
@@ -171,6 +174,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        threadLocalPooling = false;
 
     }
 
@@ -190,6 +194,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        threadLocalPooling = false;
 
     }
 
@@ -213,6 +218,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        threadLocalPooling = false;
     }
 
     /**
@@ -297,6 +303,26 @@ public class LazyReact implements ReactBuilder {
         return withPoolingActive(true);
     }
 
+    /**
+     * Turn objectPooling on for any Streams created by the returned LazyReact builder, with pooled Futures held in
+     * per thread magazines rather than a single shared queue. This avoids contention on the pool when many threads
+     * complete Futures. Pool hits and misses are reported by {@link com.oath.cyclops.internal.react.async.future.FuturePool#getHits()}
+     * and {@link com.oath.cyclops.internal.react.async.future.FuturePool#getMisses()}
+     * <pre>
+     * {@code
+     *  return new LazyReact()
+                        .threadLocalObjectPoolingOn()
+                        .range(0,5_000_000_000)
+                        .map(this::process)
+                        .forEach(System.out::println);
+       }
+       </pre>
+     * @return New LazyReact builder with thread local Object pooling on.
+     */
+    public LazyReact threadLocalObjectPoolingOn() {
+        return withPoolingActive(true).withThreadLocalPooling(true);
+    }
+
     /**
      * Turn objectPooling off for any Streams created by the returned LazyReact builder. By default Object Pooling is Off.
      *
@@ -571,6 +597,17 @@ public class LazyReact implements ReactBuilder {
     public LazyReact(final Executor executor, final Boolean async, final MaxActive maxActive,
             final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
             final Cacheable memoizeCache) {
+        this(executor, async, maxActive, streamOfFutures, objectPoolingActive, autoOptimize, autoMemoize, memoizeCache, false);
+    }
+
+    /**
+     * @param executor Task Executor for concurrent tasks
+     * @param async If true each task will be submitted to an executor service
+     * @param threadLocalPooling If true and object pooling is active, pooled Futures are held in per thread magazines
+     */
+    public LazyReact(final Executor executor, final Boolean async, final MaxActive maxActive,
+            final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
+            final Cacheable memoizeCache, final boolean threadLocalPooling) {
         super();
         this.executor = executor;
         this.async = Optional.ofNullable(async)
@@ -583,6 +620,7 @@ public class LazyReact implements ReactBuilder {
         this.autoOptimize = autoOptimize;
         this.autoMemoize = autoMemoize;
         this.memoizeCache = memoizeCache;
+        this.threadLocalPooling = threadLocalPooling;
 
     }
 
@@ -732,6 +770,32 @@ public class LazyReact implements ReactBuilder {
                         .build();
     }
 
+    /**
+     * Construct a new LazyReact builder for blocking (e.g. IO) tasks, each task runs on its own virtual thread
+     * with at most maxConcurrency running at once. On JVMs without virtual threads the standard parallel executor is
+     * used instead.
+     *
+     * <pre>
+     * {@code
+     *  LazyReact.virtualThreadBuilder(10_000)
+     *           .fromIterable(urls)
+     *           .map(this::blockingHttpCall)
+     *           .toList();
+     * }
+     * </pre>
+     *
+     * @param maxConcurrency Maximum number of concurrently running (and active) tasks
+     * @return LazyReact instance
+     * @see VirtualThreads
+     */
+    public static LazyReact virtualThreadBuilder(final int maxConcurrency) {
+        return LazyReact.builder()
+                        .executor(VirtualThreads.boundedExecutor(maxConcurrency, ThreadPools::getStandard))
+                        .maxActive(new MaxActive(
+                                                 maxConcurrency, Math.max(1, maxConcurrency - maxConcurrency / 10)))
+                        .build();
+    }
+
     /**
      * @return new LazyReact builder configured with standard parallel executor
      *         By default this is the ForkJoinPool common instance but is
@@ -3,6 +3,7 @@ package cyclops.futurestream;
 import com.oath.cyclops.internal.react.SimpleReactStreamImpl;
 import com.oath.cyclops.internal.react.stream.ReactBuilder;
 import com.oath.cyclops.react.ThreadPools;
+import com.oath.cyclops.react.threads.VirtualThreads;
 import com.oath.cyclops.types.futurestream.SimpleReactStream;
 import cyclops.reactive.Spouts;
 import lombok.Builder;
@@ -283,6 +284,22 @@ public class SimpleReact implements ReactBuilder {
                           .build();
     }
 
+    /**
+     * Construct a new SimpleReact builder for blocking (e.g. IO) tasks, each task runs on its own virtual thread
+     * with at most maxConcurrency running at once. On JVMs without virtual threads the standard parallel executor is
+     * used instead.
+     *
+     * @param maxConcurrency Maximum number of concurrently running tasks
+     * @return eager SimpleReact instance
+     * @see VirtualThreads
+     */
+    public static SimpleReact virtualThreadBuilder(final int maxConcurrency) {
+        return SimpleReact.builder()
+                          .executor(VirtualThreads.boundedExecutor(maxConcurrency, ThreadPools::getStandard))
+                          .async(true)
+                          .build();
+    }
+
     /**
      * @return new eager SimpleReact builder configured with standard parallel executor
      * By default this is the ForkJoinPool common instance but is configurable in the ThreadPools class
@@ -9,7 +9,10 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -23,6 +26,7 @@ import java.util.stream.Stream;
 import cyclops.futurestream.LazyReact;
 import com.oath.cyclops.async.QueueFactories;
 import cyclops.futurestream.SimpleReact;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -40,6 +44,83 @@ public class QueueTest {
 
 	volatile boolean success = false;
 	@Test
+	public void drainToBatch(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		for(int i=1;i<=10;i++)
+			queue.add(i);
+		List<Integer> drained = new ArrayList<>();
+
+		assertThat(queue.drainTo(drained::add,4),equalTo(4));
+		assertThat(drained,equalTo(Arrays.asList(1,2,3,4)));
+		assertThat(queue.drainTo(drained::add,100),equalTo(6));
+		assertThat(drained.size(),equalTo(10));
+		assertThat(queue.size(),equalTo(0));
+	}
+	@Test
+	public void drainToBlockingQueue(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(100).build();
+		for(int i=1;i<=10;i++)
+			queue.add(i);
+		List<Integer> drained = new ArrayList<>();
+
+		assertThat(queue.drainTo(drained::add,4),equalTo(4));
+		assertThat(queue.drainTo(drained::add,100),equalTo(6));
+		assertThat(drained,equalTo(Arrays.asList(1,2,3,4,5,6,7,8,9,10)));
+	}
+	@Test
+	public void drainToErrorMidBatch(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		queue.add(1);
+		queue.add(2);
+		queue.addError(new IllegalStateException());
+		queue.add(3);
+		queue.add(4);
+		List<Integer> drained = new ArrayList<>();
+
+		assertThat(queue.drainTo(drained::add,10),equalTo(2));
+		assertThat(drained,equalTo(Arrays.asList(1,2)));
+		try {
+			queue.drainTo(drained::add,10);
+			fail("error expected");
+		} catch(Queue.Error e){
+		}
+		assertThat(queue.get(),equalTo(3));
+		assertThat(queue.drainTo(drained::add,10),equalTo(1));
+		assertThat(drained,equalTo(Arrays.asList(1,2,4)));
+	}
+	@Test(expected=Queue.ClosedQueueException.class)
+	public void drainToClosed(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		queue.add(1);
+		queue.close();
+		List<Integer> drained = new ArrayList<>();
+		assertThat(queue.drainTo(drained::add,10),equalTo(1));
+		queue.drainTo(drained::add,10);
+	}
+	@Test
+	public void streamBatched(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		ReactiveSeq<Integer> stream = queue.streamBatched(3);
+		for(int i=1;i<=10;i++)
+			queue.add(i);
+		queue.add(null);
+		queue.close();
+
+		assertThat(stream.toList(),equalTo(Arrays.asList(1,2,3,4,5,6,7,8,9,10,null)));
+	}
+	@Test
+	public void streamBatchedConcurrentProducer(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(16).build();
+		ReactiveSeq<Integer> stream = queue.streamBatched(8);
+		new Thread(() -> {
+			for(int i=0;i<10_000;i++)
+				queue.offer(i);
+			queue.close();
+		}).start();
+
+		assertThat(stream.count(),equalTo(10_000L));
+	}
+	@Test
 	public void batchBySizeAndTimeSizeCollection(){
 		Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(10).build();
 		queue.fromStream(of(1,2,3,4,5,6));
@@ -0,0 +1,67 @@
+package com.oath.cyclops.async.adapters;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.junit.Test;
+
+import com.oath.cyclops.async.wait.SpinThenParkWait;
+import com.oath.cyclops.async.wait.WaitStrategy.Offerable;
+import com.oath.cyclops.async.wait.WaitStrategy.Takeable;
+
+public class SpinThenParkWaitTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{
+		called++;
+		if(called<100)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{
+		called++;
+		if(called<100)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+
+		called =0;
+		String result = new SpinThenParkWait<String>(10,1000).take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(100));
+
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		boolean result = new SpinThenParkWait<String>(10,1000).offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testSignal() throws InterruptedException {
+		AtomicBoolean set = new AtomicBoolean(false);
+		Thread waiting = Thread.currentThread();
+		new Thread(()->{
+			set.set(true);
+			LockSupport.unpark(waiting);
+		}).start();
+		new SpinThenParkWait<String>(0,1000).await(set::get);
+		assertThat(set.get(),equalTo(true));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new SpinThenParkWait<>(),
+									new SpinThenParkWait<>());
+
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+
+}
@@ -56,6 +56,57 @@ public class TopicTest {
 				is(" hello world"));
 	}
 
+	@Test
+	public void ringBufferSubscribersGetSameMessages() {
+		Topic<String> topic = Topic.ringBuffer(16);
+
+		Stream<String> data1 = topic.stream();
+		Stream<String> data2 = topic.stream();
+		topic.fromStream(Stream.of("hello", "world"));
+
+
+		assertThat(data1.limit(1).findFirst().get(), is("hello"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+	@Test
+	public void ringBufferGatedOnSlowestSubscriber() throws InterruptedException, ExecutionException {
+		Topic<Integer> topic = Topic.ringBuffer(8);
+		List<CompletableFuture<Long>> counts = new ArrayList<>();
+		for(int i=0;i<40;i++){
+			ReactiveSeq<Integer> stream = topic.stream();
+			counts.add(CompletableFuture.supplyAsync(()->stream.count(),Executors.newSingleThreadExecutor()));
+		}
+		for(int i=0;i<10_000;i++)
+			topic.offer(i);
+		topic.close();
+
+		for(CompletableFuture<Long> next : counts)
+			assertThat(next.get(), is(10_000L));
+	}
+	@Test
+	public void ringBufferOverwrite() {
+		Topic<Integer> topic = Topic.ringBuffer(8,true);
+		ReactiveSeq<Integer> stream = topic.stream();
+		for(int i=0;i<100;i++)
+			topic.offer(i);
+		topic.close();
+
+		assertThat(stream.toList(), is(Arrays.asList(92,93,94,95,96,97,98,99)));
+	}
+	@Test
+	public void ringBufferDisconnect() {
+		Topic<Integer> topic = Topic.ringBuffer(4);
+		ReactiveSeq<Integer> stream = topic.stream();
+		ReactiveSeq<Integer> disconnected = topic.stream();
+		topic.disconnect(disconnected);
+		for(int i=0;i<4;i++)
+			topic.offer(i);
+		topic.close();
+
+		assertThat(stream.toList(), is(Arrays.asList(0,1,2,3)));
+	}
+
     @Test
     public void concurrentSub(){
         ReactiveSeq<Integer> initialStream = ReactiveSeq.of(1,2,3,4,5,6);
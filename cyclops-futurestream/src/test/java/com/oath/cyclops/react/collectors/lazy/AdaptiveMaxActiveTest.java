@@ -0,0 +1,85 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+import org.junit.Test;
+
+import cyclops.futurestream.LazyReact;
+
+public class AdaptiveMaxActiveTest {
+
+	@Test
+	public void aimdGrowsWhileFastAndBacksOffWhenSlow() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(10, 1, 100, 10, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 200; i++) {
+			limit.onSample(TimeUnit.MILLISECONDS.toNanos(1), limit.getLimit());
+		}
+		assertThat(limit.getLimit(), equalTo(100));
+		assertThat(limit.getReduceTo(), equalTo(90));
+
+		limit.onSample(TimeUnit.MILLISECONDS.toNanos(20), limit.getLimit());
+		assertThat(limit.getLimit(), equalTo(90));
+		limit.onSample(TimeUnit.MILLISECONDS.toNanos(20), limit.getLimit());
+		assertThat(limit.getLimit(), equalTo(90));
+		assertThat(limit.getQueueingDelayNanos(), greaterThan(0l));
+	}
+
+	@Test
+	public void aimdDoesNotGrowWhenUnderused() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(10, 1, 100, 10, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 200; i++) {
+			limit.onSample(TimeUnit.MILLISECONDS.toNanos(1), 2);
+		}
+		assertThat(limit.getLimit(), equalTo(10));
+	}
+
+	@Test
+	public void gradientTracksLatency() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.gradient(10, 1, 1000);
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(TimeUnit.MILLISECONDS.toNanos(1), limit.getLimit());
+		}
+		int grown = limit.getLimit();
+		assertThat(grown, greaterThan(10));
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit());
+		}
+		assertThat(limit.getLimit(), lessThan(grown));
+		assertThat(limit.getMinLatencyNanos(), equalTo(TimeUnit.MILLISECONDS.toNanos(1)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidLimits() {
+		AdaptiveMaxActive.gradient(0, 1, 10);
+	}
+
+	@Test
+	public void collectorReportsCompletions() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(10, 1, 100, 1, TimeUnit.SECONDS);
+		BatchingCollector<Long> collector = new BatchingCollector<Long>(limit, LazyReact.sequentialBuilder().of(1l))
+																		.withResults(new ArrayList<>());
+		for (int i = 0; i < 1000; i++) {
+			collector.accept(FastFuture.completedFuture(10l));
+		}
+		assertThat(limit.getSampleCount(), greaterThan(0l));
+		assertThat(limit.getLimit(), greaterThan(10));
+	}
+
+	@Test
+	public void lazyReact() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.gradient();
+		List<Integer> result = new LazyReact().withMaxActive(limit)
+											  .range(0, 1000)
+											  .map(i -> i * 2)
+											  .toList();
+		assertThat(result.size(), equalTo(1000));
+	}
+}
@@ -3,8 +3,15 @@ package com.oath.cyclops.react.collectors.lazy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import org.junit.Before;
@@ -90,5 +97,29 @@ public class BatchingCollectorTest {
 		Mockito.verify(cf, Mockito.times(990)).isDone();
 	}
 
+	@Test
+	public void testCompletedOnOtherThreads() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<FastFuture<Integer>> results = new ArrayList<>();
+		BatchingCollector<Integer> collector = new BatchingCollector<Integer>(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1))
+																				.withResults(results);
+		try {
+			for(int i=0;i<10000;i++){
+				FastFuture<Integer> f = new FastFuture<>();
+				int value = i;
+				executor.execute(() -> f.set(value));
+				collector.accept(f);
+				assertThat(results.size() >= i - 10, equalTo(true));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		List<Integer> values = collector.getAllResults().stream()
+										.map(FastFuture::join)
+										.sorted()
+										.collect(Collectors.toList());
+		assertThat(values.size(), equalTo(10000));
+		assertThat(values.get(9999), equalTo(9999));
+	}
 
 }
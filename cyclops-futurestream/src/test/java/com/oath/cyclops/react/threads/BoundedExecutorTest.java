@@ -0,0 +1,66 @@
+package com.oath.cyclops.react.threads;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class BoundedExecutorTest {
+
+	@Test
+	public void stubbedFactoryIsBounded() throws InterruptedException {
+		AtomicInteger created = new AtomicInteger(0);
+		ThreadFactory stub = r -> {
+			created.incrementAndGet();
+			return new Thread(r);
+		};
+		Executor executor = VirtualThreads.boundedExecutor(4, stub, () -> {
+			throw new AssertionError("fallback used");
+		});
+		AtomicInteger running = new AtomicInteger(0);
+		AtomicInteger max = new AtomicInteger(0);
+		CountDownLatch done = new CountDownLatch(50);
+		for (int i = 0; i < 50; i++) {
+			executor.execute(() -> {
+				max.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+				}
+				running.decrementAndGet();
+				done.countDown();
+			});
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		assertThat(created.get(), equalTo(50));
+		assertThat(max.get(), lessThanOrEqualTo(4));
+	}
+
+	@Test
+	public void noFactoryFallsBack() {
+		Executor fallback = Runnable::run;
+		assertTrue(VirtualThreads.boundedExecutor(4, null, () -> fallback) == fallback);
+	}
+
+	@Test
+	public void reflectiveFactory() throws Exception {
+		ThreadFactory factory = VirtualThreads.virtualThreadFactory();
+		assertThat(factory != null, equalTo(VirtualThreads.isAvailable()));
+		if (factory == null)
+			return;
+		Thread thread = factory.newThread(() -> {
+		});
+		assertTrue((Boolean) Thread.class.getMethod("isVirtual")
+										 .invoke(thread));
+		assertTrue(thread.getName()
+						 .startsWith("futurestream-virtual-"));
+	}
+}
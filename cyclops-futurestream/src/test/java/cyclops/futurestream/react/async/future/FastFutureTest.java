@@ -38,6 +38,51 @@ public class FastFutureTest {
 
 	Throwable failed;
 
+	@Test
+	public void joinUnparkedOnCompletion() {
+		FastFuture<String> f = new FastFuture<>();
+		ForkJoinPool.commonPool().execute(() -> {
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+			}
+			f.set("hello");
+		});
+		assertThat(f.join(), equalTo("hello"));
+	}
+
+	@Test
+	public void notifyOnDoneOnceAfterCompletion() {
+		FastFuture<String> f = new FastFuture<>();
+		List<FastFuture<String>> signalled = new ArrayList<>();
+		assertTrue(f.notifyOnDone(signalled::add));
+		assertFalse(f.notifyOnDone(signalled::add));
+		assertThat(signalled.size(), equalTo(0));
+		f.set("hello");
+		assertThat(signalled.size(), equalTo(1));
+		assertTrue(signalled.get(0) == f);
+	}
+
+	@Test
+	public void notifyOnDoneWhenAlreadyDone() {
+		FastFuture<String> f = FastFuture.completedFuture("hello");
+		List<FastFuture<String>> signalled = new ArrayList<>();
+		assertTrue(f.notifyOnDone(signalled::add));
+		assertThat(signalled.size(), equalTo(1));
+	}
+
+	@Test
+	public void notifyOnDoneFailed() {
+		FastFuture f = future.thenApply(v -> {
+			throw new RuntimeException();
+		}).build();
+		List<FastFuture> signalled = new ArrayList<>();
+		f.notifyOnDone(done -> signalled.add((FastFuture) done));
+		f.set("boo!");
+		assertThat(signalled.size(), equalTo(1));
+		assertTrue(f.isCompletedExceptionally());
+	}
+
 	@Test
 	public void onFail() {
 		FastFuture f = future.onFail(t -> failed = t).thenApply(v -> {
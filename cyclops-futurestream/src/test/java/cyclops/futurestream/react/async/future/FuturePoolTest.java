@@ -0,0 +1,72 @@
+package cyclops.futurestream.react.async.future;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+import com.oath.cyclops.internal.react.async.future.FinalPipeline;
+import com.oath.cyclops.internal.react.async.future.FuturePool;
+import org.junit.Test;
+
+public class FuturePoolTest {
+
+	@Test
+	public void sharedReuses() {
+		FuturePool pool = FuturePool.shared(10);
+		FastFuture<String> f = pool.next(FastFuture::new);
+		pool.done(f);
+		long hits = FuturePool.getHits();
+		FastFuture<String> next = pool.next(FastFuture::new);
+		assertTrue(next == f);
+		assertThat(FuturePool.getHits(), equalTo(hits + 1));
+	}
+
+	@Test
+	public void threadLocalReusesOnSameThread() {
+		FuturePool pool = FuturePool.threadLocal(100);
+		FastFuture<String> f = pool.next(FastFuture::new);
+		f.set("hello");
+		pool.done(f);
+		FastFuture<String> next = pool.next(FastFuture::new);
+		assertTrue(next == f);
+		assertThat(next.isDone(), equalTo(false));
+	}
+
+	@Test
+	public void otherPipelineNotReused() {
+		FuturePool pool = FuturePool.shared(10);
+		FinalPipeline first = FinalPipeline.empty();
+		FinalPipeline second = FinalPipeline.empty();
+		FastFuture<String> f = pool.next(first, () -> new FastFuture<>(first, 0));
+		pool.done(f);
+		FastFuture<String> next = pool.next(second, () -> new FastFuture<>(second, 0));
+		assertTrue(next != f);
+		assertTrue(next.getPipeline() == second);
+	}
+
+	@Test
+	public void threadLocalExchangesFullMagazines() throws InterruptedException {
+		FuturePool pool = FuturePool.threadLocal(100);
+		List<FastFuture<String>> futures = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			futures.add(pool.next(FastFuture::new));
+		}
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.execute(() -> futures.forEach(pool::done));
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		long misses = FuturePool.getMisses();
+		for (int i = 0; i < 64; i++) {
+			assertTrue(futures.contains(pool.next(FastFuture::new)));
+		}
+		assertThat(FuturePool.getMisses(), equalTo(misses));
+	}
+}
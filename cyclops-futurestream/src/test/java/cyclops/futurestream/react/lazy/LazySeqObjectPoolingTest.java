@@ -31,6 +31,7 @@ import org.junit.Test;
 
 import cyclops.futurestream.LazyReact;
 import com.oath.cyclops.async.adapters.Queue;
+import com.oath.cyclops.internal.react.async.future.FuturePool;
 import com.oath.cyclops.async.QueueFactories;
 import com.oath.cyclops.async.adapters.Signal;
 import com.oath.cyclops.react.ThreadPools;
@@ -53,6 +54,21 @@ public class LazySeqObjectPoolingTest extends BaseSeqTest {
 		 assertNull(error);
 	}
 	@Test
+	public void iterateThreadLocalPooling(){
+		error= null;
+		long hits = FuturePool.getHits();
+		 new LazyReact()
+		 		.threadLocalObjectPoolingOn()
+		 		.iterate(1,i->i+1)
+		 		.limit(100_000)
+		 		.map(x->x+2)
+		 		.capture(e->{error=e; e.printStackTrace();})
+		 		.forEach(a->{});
+
+		 assertNull(error);
+		 assertThat(FuturePool.getHits(),greaterThan(hits));
+	}
+	@Test
 	public void copy(){
 		of(1,2,3,4,5,6)
 				.map(i->i+2)
@@ -0,0 +1,86 @@
+package cyclops.futurestream.react.threads;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oath.cyclops.react.ThreadPools;
+import com.oath.cyclops.react.threads.VirtualThreadElasticPools;
+import com.oath.cyclops.react.threads.VirtualThreads;
+import org.junit.Test;
+
+import cyclops.futurestream.LazyReact;
+import cyclops.futurestream.SimpleReact;
+
+public class VirtualThreadsTest {
+
+	@Test
+	public void fallbackWithoutVirtualThreads(){
+		Executor fallback = ThreadPools.getCurrentThreadExecutor();
+		Executor executor = VirtualThreads.boundedExecutor(10, () -> fallback);
+		assertThat(executor == fallback, equalTo(!VirtualThreads.isAvailable()));
+	}
+
+	@Test
+	public void concurrencyIsBounded() throws InterruptedException {
+		Executor executor = VirtualThreads.boundedExecutor(4, ThreadPools::getStandard);
+		AtomicInteger running = new AtomicInteger(0);
+		AtomicInteger max = new AtomicInteger(0);
+		CountDownLatch done = new CountDownLatch(100);
+		for(int i=0;i<100;i++){
+			executor.execute(() -> {
+				max.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+				}
+				running.decrementAndGet();
+				done.countDown();
+			});
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		if(VirtualThreads.isAvailable())
+			assertThat(max.get(), lessThanOrEqualTo(4));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidConcurrency(){
+		VirtualThreads.boundedExecutor(0, ThreadPools::getStandard);
+	}
+
+	@Test
+	public void lazyReact(){
+		List<Integer> result = LazyReact.virtualThreadBuilder(100)
+										.range(0, 1000)
+										.map(i -> {
+											try {
+												Thread.sleep(1);
+											} catch (InterruptedException e) {
+											}
+											return i * 2;
+										})
+										.toList();
+		assertThat(result.size(), equalTo(1000));
+	}
+
+	@Test
+	public void simpleReact(){
+		List<String> result = SimpleReact.virtualThreadBuilder(10)
+										 .ofAsync(() -> "hello", () -> "world")
+										 .block();
+		assertThat(result.size(), equalTo(2));
+	}
+
+	@Test
+	public void elasticPool(){
+		List<String> result = VirtualThreadElasticPools.simpleReact.react(er -> er.ofAsync(() -> "hello", () -> "world").block());
+		assertThat(result.size(), equalTo(2));
+	}
+}
@@ -0,0 +1,161 @@
+package cyclops.data.transients;
+
+import cyclops.data.HashMap;
+import cyclops.data.IntMap;
+import cyclops.data.TreeMap;
+import cyclops.data.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class BulkLoad {
+
+    static final int SIZE = 100000;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Vector<Integer> vectorPersistent() {
+        Vector<Integer> v = Vector.empty();
+        for(int i=0;i<SIZE;i++){
+            v = v.plus(i);
+        }
+        return v;
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Vector<Integer> vectorTransient() {
+        Vector.Transient<Integer> t = Vector.<Integer>empty().asTransient();
+        for(int i=0;i<SIZE;i++){
+            t.append(i);
+        }
+        return t.persistent();
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public HashMap<Integer,Integer> hashMapPersistent() {
+        HashMap<Integer,Integer> m = HashMap.empty();
+        for(int i=0;i<SIZE;i++){
+            m = m.put(i,i);
+        }
+        return m;
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public HashMap<Integer,Integer> hashMapTransient() {
+        HashMap.Transient<Integer,Integer> t = HashMap.<Integer,Integer>empty().asTransient();
+        for(int i=0;i<SIZE;i++){
+            t.put(i,i);
+        }
+        return t.persistent();
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public TreeMap<Integer,Integer> treeMapPersistent() {
+        TreeMap<Integer,Integer> m = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        for(int i=0;i<SIZE;i++){
+            m = m.put(i,i);
+        }
+        return m;
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public TreeMap<Integer,Integer> treeMapTransient() {
+        TreeMap.Transient<Integer,Integer> t = TreeMap.<Integer,Integer>empty(Comparator.naturalOrder()).asTransient();
+        for(int i=0;i<SIZE;i++){
+            t.put(i,i);
+        }
+        return t.persistent();
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public IntMap<Integer> intMapPersistent() {
+        IntMap<Integer> m = IntMap.empty();
+        for(int i=0;i<SIZE;i++){
+            m = m.plus(i);
+        }
+        return m;
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public IntMap<Integer> intMapTransient() {
+        IntMap.Transient<Integer> t = IntMap.<Integer>empty().asTransient();
+        for(int i=0;i<SIZE;i++){
+            t.append(i);
+        }
+        return t.persistent();
+    }
+}
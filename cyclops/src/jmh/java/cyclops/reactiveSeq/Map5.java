@@ -1,11 +1,13 @@
 package cyclops.reactiveSeq;
 
 import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -78,4 +80,70 @@ public class Map5 {
   }
  }
 
-}
\ No newline at end of file
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void streamMapFilter(Blackhole bh){
+  for(int k=0;k<100;k++) {
+   bh.consume(IntStream.range(0, 1000).boxed()
+           .map(i -> i * 2)
+           .filter(i -> i % 3 != 0)
+           .map(i -> i + 1)
+           .filter(i -> i % 5 != 0)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMapFilter(Blackhole bh){
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.range(0, 1000)
+           .map(i -> i * 2)
+           .filter(i -> i % 3 != 0)
+           .map(i -> i + 1)
+           .filter(i -> i % 5 != 0)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMapFilterPrebuilt(Blackhole bh){
+  ReactiveSeq<Integer> stream = Spouts.range(0, 1000)
+          .map(i -> i * 2)
+          .filter(i -> i % 3 != 0)
+          .map(i -> i + 1)
+          .filter(i -> i % 5 != 0)
+          .map(i -> i * 2);
+  for(int k=0;k<100;k++) {
+   bh.consume(stream.collect(Collectors.toList()));
+  }
+ }
+
+}
@@ -0,0 +1,52 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class MergeMap {
+
+    @Param({"1", "16", "256"})
+    int concurrency;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void mergeMapShortLived(Blackhole bh) {
+
+        Spouts.iterate(1, i -> i + 1)
+              .limit(10000)
+              .mergeMap(concurrency, i -> Spouts.of(i * 2, i * 2))
+              .forEach(bh::consume);
+
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void mergeMapLong(Blackhole bh) {
+
+        Spouts.iterate(1, i -> i + 1)
+              .limit(100)
+              .mergeMap(concurrency, i -> Spouts.range(0, 100))
+              .forEach(bh::consume);
+
+    }
+}
@@ -38,6 +38,7 @@ public class Topic<T> implements Adapter<T> {
     private final Object lock = new Object();
     private volatile int index = 0;
     private final QueueFactory<T> factory;
+    private final TopicRingBuffer<T> ring;
 
     /**
      * Construct a new Topic
@@ -45,19 +46,59 @@ public class Topic<T> implements Adapter<T> {
     public Topic() {
         final Queue<T> q = new Queue<T>();
         factory = QueueFactories.unboundedQueue();
+        ring = null;
         distributor.addQueue(q);
     }
 
+    private Topic(final TopicRingBuffer<T> ring) {
+        this.factory = QueueFactories.unboundedQueue();
+        this.ring = ring;
+    }
+
+    /**
+     * Construct a Topic backed by a single pre-allocated ring buffer shared by all subscribers, rather than a Queue per subscriber.
+     * Each subscribing Stream reads the buffer via its own cursor, so the cost of an offer does not grow with the number of subscribers.
+     * Offers wait while the slowest connected Stream is a full buffer behind.
+     *
+     * Subscribers receive data offered after they connect.
+     *
+     * <pre>
+     * {@code
+     *  Topic<Tick> ticks = Topic.ringBuffer(4096);
+     *  Seq<ReactiveSeq<Tick>> feeds = Seq.range(0,40).map(i->ticks.stream());
+     * }
+     * </pre>
+     *
+     * @param capacity Number of slots in the ring buffer (rounded up to a power of 2)
+     * @return Topic backed by a ring buffer
+     */
+    public static <T> Topic<T> ringBuffer(final int capacity) {
+        return ringBuffer(capacity, false);
+    }
+
+    /**
+     * Construct a Topic backed by a single pre-allocated ring buffer shared by all subscribers, @see Topic#ringBuffer(int)
+     *
+     * @param capacity Number of slots in the ring buffer (rounded up to a power of 2)
+     * @param overwrite If true offers never wait, Streams that fall a full buffer behind skip ahead to the oldest retained element
+     * @return Topic backed by a ring buffer
+     */
+    public static <T> Topic<T> ringBuffer(final int capacity, final boolean overwrite) {
+        return new Topic<>(new TopicRingBuffer<>(capacity, overwrite));
+    }
+
     /**
      * Construct a Topic using the Queue provided
      * @param q Queue to back this Topic with
      */
     public Topic(final Queue<T> q) {
         factory = QueueFactories.unboundedQueue();
+        ring = null;
         distributor.addQueue(q);
     }
     public Topic(final Queue<T> q,QueueFactory<T> factory) {
         this.factory = factory;
+        ring = null;
         distributor.addQueue(q);
     }
 
@@ -70,6 +111,10 @@ public class Topic<T> implements Adapter<T> {
      */
     @Synchronized("lock")
     public void disconnect(final ReactiveSeq<T> stream) {
+        if (ring != null) {
+            ring.disconnect(stream);
+            return;
+        }
 
       Option<Queue<T>> o = streamToQueue.get(stream);
 
@@ -92,6 +137,10 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean fromStream(final Stream<T> stream) {
+        if (ring != null) {
+            stream.forEach(ring::offer);
+            return true;
+        }
         stream.collect(Collectors.toCollection(() -> distributor));
         return true;
 
@@ -105,6 +154,8 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+        if (ring != null)
+            return ring.stream().map(CompletableFuture::completedFuture);
         return connect(q -> q.streamCompletableFutures());
     }
 
@@ -115,14 +166,16 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public ReactiveSeq<T> stream() {
-
+        if (ring != null)
+            return ring.stream();
         return connect(q -> q.stream());
 
     }
 
     @Override
     public ReactiveSeq<T> stream(final Continueable s) {
-
+        if (ring != null)
+            return ring.stream();
         return connect(q -> q.stream(s));
 
     }
@@ -147,6 +200,8 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean close() {
+        if (ring != null)
+            ring.close();
         this.distributor.getSubscribers()
                         .forEach(it -> it.close());
         return true;
@@ -176,6 +231,8 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(final T data) {
+        if (ring != null)
+            return ring.offer(data);
         fromStream(Stream.of(data));
         return true;
 
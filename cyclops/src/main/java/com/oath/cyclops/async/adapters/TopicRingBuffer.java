@@ -0,0 +1,215 @@
+package com.oath.cyclops.async.adapters;
+
+import cyclops.reactive.ReactiveSeq;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A single pre-allocated ring buffer shared by all subscribers of a {@link Topic}.
+ *
+ * Producers claim a sequence number, write the slot and then publish it. Each subscribing Stream holds its own
+ * cursor (the next sequence it will read), so an offer costs one slot write regardless of the number of subscribers.
+ * Unless overwrite is enabled producers wait until the slowest cursor has moved past the slot they are about to
+ * reuse, with overwrite enabled subscribers that fall a full buffer behind skip ahead to the oldest retained element.
+ *
+ * @param <T> Data type for the Topic
+ */
+class TopicRingBuffer<T> {
+
+    private static final Cursor[] EMPTY = new Cursor[0];
+
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final boolean overwrite;
+
+    private final AtomicLong claimed = new AtomicLong(0);
+    private final AtomicLong abandoned = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicReference<Cursor[]> cursors = new AtomicReference<>(EMPTY);
+    private volatile long gatingCache = 0;
+    private volatile boolean open = true;
+    //keyed by identity, ReactiveSeq hashCode / equals traverse the Stream
+    private final Map<ReactiveSeq<?>, Cursor> streamToCursor = new IdentityHashMap<>();
+
+    TopicRingBuffer(int capacity, boolean overwrite) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new Object[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++)
+            published.set(i, -1);
+        this.mask = size - 1;
+        this.overwrite = overwrite;
+    }
+
+    boolean offer(T data) {
+        if (!open)
+            throw new Queue.ClosedQueueException();
+        long seq = claimed.getAndIncrement();
+        if (!overwrite && !awaitCapacity(seq)) {
+            abandoned.accumulateAndGet(seq, Math::min);
+            throw new Queue.ClosedQueueException();
+        }
+        publish(seq, data);
+        return true;
+    }
+
+    private void publish(long seq, Object data) {
+        int index = (int) seq & mask;
+        slots[index] = data;
+        published.set(index, seq);
+    }
+
+    /*
+     * Wait until every cursor has read the element previously held in the slot for seq, returns false if the
+     * Topic is closed while waiting
+     */
+    private boolean awaitCapacity(long seq) {
+        long wrapPoint = seq - slots.length;
+        if (wrapPoint < gatingCache)
+            return true;
+        int idle = 0;
+        long min;
+        while (wrapPoint >= (min = minimumCursor(seq))) {
+            if (!open)
+                return false;
+            idle = idle(idle);
+        }
+        gatingCache = min;
+        return true;
+    }
+
+    private long minimumCursor(long seq) {
+        long min = seq;
+        for (Cursor c : cursors.get()) {
+            min = Math.min(min, c.sequence.get());
+        }
+        return min;
+    }
+
+    void close() {
+        open = false;
+    }
+
+    ReactiveSeq<T> stream() {
+        Cursor cursor = new Cursor(claimed.get());
+        add(cursor);
+        //a producer may have claimed past the initial position before the cursor became visible to it
+        cursor.sequence.set(claimed.get());
+        ReactiveSeq<T> stream = ReactiveSeq.fromSpliterator(new CursorSpliterator(cursor));
+        synchronized (this) {
+            streamToCursor.put(stream, cursor);
+        }
+        return stream;
+    }
+
+    void disconnect(ReactiveSeq<?> stream) {
+        Cursor cursor;
+        synchronized (this) {
+            cursor = streamToCursor.remove(stream);
+        }
+        if (cursor != null)
+            remove(cursor);
+    }
+
+    private void add(Cursor cursor) {
+        for (;;) {
+            Cursor[] current = cursors.get();
+            Cursor[] next = new Cursor[current.length + 1];
+            System.arraycopy(current, 0, next, 0, current.length);
+            next[current.length] = cursor;
+            if (cursors.compareAndSet(current, next))
+                return;
+        }
+    }
+
+    private void remove(Cursor cursor) {
+        for (;;) {
+            Cursor[] current = cursors.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == cursor) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index == -1)
+                return;
+            Cursor[] next = current.length == 1 ? EMPTY : new Cursor[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            if (cursors.compareAndSet(current, next))
+                return;
+        }
+    }
+
+    private static int idle(int idle) {
+        if (idle < 100)
+            Thread.yield();
+        else
+            LockSupport.parkNanos(idle < 1000 ? 1_000 : 100_000);
+        return idle + 1;
+    }
+
+    static final class Cursor {
+        final AtomicLong sequence;
+
+        Cursor(long start) {
+            this.sequence = new AtomicLong(start);
+        }
+    }
+
+    private final class CursorSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private final Cursor cursor;
+
+        CursorSpliterator(Cursor cursor) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            long seq = cursor.sequence.get();
+            int index = (int) seq & mask;
+            int idle = 0;
+            for (;;) {
+                long available = published.get(index);
+                if (available == seq) {
+                    Object data = slots[index];
+                    if (overwrite && published.get(index) != seq) {
+                        seq = skipAhead();
+                        index = (int) seq & mask;
+                        continue;
+                    }
+                    cursor.sequence.lazySet(++seq);
+                    action.accept((T) data);
+                    return true;
+                }
+                if (available > seq) {
+                    seq = skipAhead();
+                    index = (int) seq & mask;
+                    continue;
+                }
+                if (!open && seq >= Math.min(claimed.get(), abandoned.get()))
+                    return false;
+                idle = idle(idle);
+            }
+        }
+
+        /*
+         * Overwrite mode only, move the cursor to the oldest element still held in the buffer
+         */
+        private long skipAhead() {
+            long seq = Math.max(cursor.sequence.get(), claimed.get() - slots.length);
+            cursor.sequence.lazySet(seq);
+            return seq;
+        }
+    }
+}
@@ -54,4 +54,16 @@ public class ExponentialBackofWaitStrategy<T> implements WaitStrategy<T> {
         return true;
     }
 
+    /* (non-Javadoc)
+     * @see com.oath.cyclops.async.wait.WaitStrategy#await(com.oath.cyclops.async.wait.WaitStrategy.Signal)
+     */
+    @Override
+    public void await(final WaitStrategy.Signal s) {
+        double currentBackoff = backoffNanos;
+        while (!s.isSet()) {
+            LockSupport.parkNanos((long) currentBackoff);
+            currentBackoff = currentBackoff * coefficient;
+
+        }
+    }
 }
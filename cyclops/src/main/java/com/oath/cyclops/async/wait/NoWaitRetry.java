@@ -34,4 +34,13 @@ public class NoWaitRetry<T> implements WaitStrategy<T> {
         return true;
     }
 
+    /* (non-Javadoc)
+     * @see com.oath.cyclops.async.wait.WaitStrategy#await(com.oath.cyclops.async.wait.WaitStrategy.Signal)
+     */
+    @Override
+    public void await(final WaitStrategy.Signal s) {
+        while (!s.isSet()) {
+
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package com.oath.cyclops.async.wait;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spins briefly before parking. While waiting for a Signal the thread parks until it is unparked by the signalling
+ * thread, so idle waiters do not consume CPU. The length of the spin phase adapts : it grows while waits complete
+ * within it, and shrinks (to no less than a sixteenth of the maximum) when waits end up parking anyway.
+ *
+ * Queues do not unpark waiting threads, so take and offer park with an exponentially increasing wait (up to
+ * maxParkNanos) after spinning.
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+public class SpinThenParkWait<T> implements WaitStrategy<T> {
+
+    private final int maxSpins;
+    private final int minSpins;
+    private final long maxParkNanos;
+    private volatile int spins;
+
+    public SpinThenParkWait() {
+        this(1000, 1_000_000l);
+    }
+
+    /**
+     * @param maxSpins Maximum number of times to check before parking, 0 to always park immediately
+     * @param maxParkNanos Longest single wait when polling a Queue
+     */
+    public SpinThenParkWait(final int maxSpins, final long maxParkNanos) {
+        this.maxSpins = maxSpins;
+        this.minSpins = Math.min(maxSpins, Math.max(1, maxSpins / 16));
+        this.maxParkNanos = maxParkNanos;
+        this.spins = maxSpins;
+    }
+
+    /* (non-Javadoc)
+     * @see com.oath.cyclops.async.wait.WaitStrategy#take(com.oath.cyclops.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result;
+        final int limit = spins;
+        for (int i = 0; i < limit; i++) {
+            if ((result = t.take()) != null) {
+                spun(true);
+                return result;
+            }
+        }
+        spun(false);
+        long park = 1;
+        while ((result = t.take()) == null) {
+            LockSupport.parkNanos(park);
+            park = Math.min(maxParkNanos, park * 2);
+        }
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see com.oath.cyclops.async.wait.WaitStrategy#offer(com.oath.cyclops.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        final int limit = spins;
+        for (int i = 0; i < limit; i++) {
+            if (o.offer()) {
+                spun(true);
+                return true;
+            }
+        }
+        spun(false);
+        long park = 1;
+        while (!o.offer()) {
+            LockSupport.parkNanos(park);
+            park = Math.min(maxParkNanos, park * 2);
+        }
+        return true;
+    }
+
+    /* (non-Javadoc)
+     * @see com.oath.cyclops.async.wait.WaitStrategy#await(com.oath.cyclops.async.wait.WaitStrategy.Signal)
+     */
+    @Override
+    public void await(final WaitStrategy.Signal s) {
+        final int limit = spins;
+        for (int i = 0; i < limit; i++) {
+            if (s.isSet()) {
+                spun(true);
+                return;
+            }
+        }
+        spun(false);
+        WaitStrategy.super.await(s);
+    }
+
+    /*
+     * Races between waiting threads only affect how long the next spin phase is
+     */
+    private void spun(final boolean success) {
+        final int current = spins;
+        if (success)
+            spins = Math.min(maxSpins, current * 2 + 1);
+        else
+            spins = Math.max(minSpins, current / 2);
+    }
+
+}
@@ -37,4 +37,13 @@ public class SpinWait<T> implements WaitStrategy<T> {
         return true;
     }
 
+    /* (non-Javadoc)
+     * @see com.oath.cyclops.async.wait.WaitStrategy#await(com.oath.cyclops.async.wait.WaitStrategy.Signal)
+     */
+    @Override
+    public void await(final WaitStrategy.Signal s) {
+        while (!s.isSet()) {
+            LockSupport.parkNanos(1l);
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package com.oath.cyclops.async.wait;
 
+import java.util.concurrent.locks.LockSupport;
+
 /**
- * An interface that defines a Waiting strategy to be employed when an async.Queue is full or zero
+ * An interface that defines a Waiting strategy to be employed when an async.Queue is full or zero, or while waiting
+ * for a signal such as the completion of a future
  *
  * @author johnmcclean
  *
@@ -43,6 +46,21 @@ public interface WaitStrategy<T> {
         public boolean offer() throws InterruptedException;
     }
 
+    /**
+     * Represents a condition that is set once by another thread, which then unparks the waiting thread (via
+     * LockSupport.unpark)
+     *
+     * @author johnmcclean
+     *
+     */
+    public static interface Signal {
+
+        /**
+         * @return true once the signal has been set
+         */
+        public boolean isSet();
+    }
+
     /**
      * Attempt to take from Takeable
      * @param t  Takeable to take next data point from
@@ -60,6 +78,25 @@ public interface WaitStrategy<T> {
      */
     public boolean offer(Offerable o) throws InterruptedException;
 
+    /**
+     * Wait until the signal is set. The setting thread unparks the waiting thread, so by default this parks until it
+     * is unparked. Polling strategies retry as they would for take or offer.
+     *
+     * Interrupts do not end the wait, the interrupt status is restored once the signal is set
+     *
+     * @param s Signal to wait for
+     */
+    default void await(final Signal s) {
+        boolean interrupted = false;
+        while (!s.isSet()) {
+            LockSupport.park(this);
+            if (Thread.interrupted())
+                interrupted = true;
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
     /**
      * @return YieldWait strategy {@see YieldWait}
      */
@@ -74,6 +111,13 @@ public interface WaitStrategy<T> {
         return new SpinWait<>();
     }
 
+    /**
+     * @return SpinThenParkWait strategy {@see SpinThenParkWait}
+     */
+    static <T> SpinThenParkWait<T> spinThenPark() {
+        return new SpinThenParkWait<>();
+    }
+
     /**
      * @return NoWaitRetry strategy {@see NoWaitRetry}
      */
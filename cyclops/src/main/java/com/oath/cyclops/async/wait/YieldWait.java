@@ -33,4 +33,13 @@ public class YieldWait<T> implements WaitStrategy<T> {
         return true;
     }
 
+    /* (non-Javadoc)
+     * @see com.oath.cyclops.async.wait.WaitStrategy#await(com.oath.cyclops.async.wait.WaitStrategy.Signal)
+     */
+    @Override
+    public void await(final WaitStrategy.Signal s) {
+        while (!s.isSet()) {
+            Thread.yield();
+        }
+    }
 }
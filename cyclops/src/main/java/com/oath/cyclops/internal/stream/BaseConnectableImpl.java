@@ -3,12 +3,14 @@ package com.oath.cyclops.internal.stream;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.oath.cyclops.internal.stream.spliterators.ClosingSpliterator;
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
 import com.oath.cyclops.types.stream.Connectable;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.companion.Streams;
@@ -49,13 +51,20 @@ public abstract class BaseConnectableImpl<T> extends IteratorHotStream<T>impleme
 
     }
 
+    /**
+     * BlockingQueues block emission while full, other queues drop elements while full
+     */
     @Override
     public ReactiveSeq<T> connect(final Queue<T> queue) {
-        connections.getAndSet(connected, queue);
-        connected++;
+        return connect(queue, queue instanceof BlockingQueue ? SlowConsumerPolicy.BLOCK : SlowConsumerPolicy.DROP);
+    }
+
+    @Override
+    public ReactiveSeq<T> connect(final Queue<T> queue, final SlowConsumerPolicy policy) {
+        final Connection<T> connection = addConnection(queue, policy);
         unpause();
         return Streams.reactiveSeq(StreamSupport.stream(new ClosingSpliterator(
-                                                                                   Long.MAX_VALUE, queue, open),
+                                                                                   Long.MAX_VALUE, queue, connection.open),
                                                             false),
                                        Optional.empty());
     }
@@ -1,27 +1,29 @@
 package com.oath.cyclops.internal.stream;
 
-import java.util.Date;
 import java.util.Iterator;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
 import com.oath.cyclops.util.ExceptionSoftener;
-import cyclops.companion.Eithers;
-import cyclops.function.FluentFunctions;
-import com.oath.cyclops.util.stream.scheduling.cron.CronExpression;
+import com.oath.cyclops.util.stream.scheduling.cron.CronSchedule;
 
 public class IteratorHotStream<T> {
 
-    protected final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(
-                                                                                            10);
+    private static final Connection[] NONE = new Connection[0];
+
+    /*
+     * Copy-on-write registry of connections, emission iterates a snapshot without locking
+     */
+    protected final AtomicReference<Connection<T>[]> connections = new AtomicReference<Connection<T>[]>(NONE);
     protected final AtomicBoolean open = new AtomicBoolean(
                                                            true);
-    protected volatile int connected = 0;
     protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(
                                                                                            CompletableFuture.<Void> completedFuture(null));
 
@@ -40,96 +42,164 @@ public class IteratorHotStream<T> {
         pause.set(new CompletableFuture<Void>());
     }
 
-    protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
-        final Date now = new Date();
-        final Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                                 cron))
-                                        .get()
-                                        .getNextValidTimeAfter(now);
-
-        final long delay = d.getTime() - now.getTime();
-
-        ex.schedule(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-                    try {
-                        final T next = it.next();
-                        final int local = connected;
-
-                        for (int i = 0; i < local; i++) {
-
-                            Eithers.blocking(connections.get(i))
-                                      .fold(FluentFunctions.ofChecked(in -> {
-                                in.put(next);
-                                return true;
-                            }), q -> q.offer(next));
-                        }
-
-                    } finally {
-
-                        scheduleInternal(it, cron, ex);
+    /**
+     * Register a new connection, if this hot stream has already finished the connection is closed immediately
+     *
+     * @param queue Transfer queue for the connection
+     * @param policy Policy to apply when the transfer queue is full
+     * @return The registered Connection
+     */
+    protected Connection<T> addConnection(final Queue<T> queue, final SlowConsumerPolicy policy) {
+        final Connection<T> connection = new Connection<>(queue, policy);
+        for (;;) {
+            final Connection<T>[] current = connections.get();
+            final Connection<T>[] next = new Connection[current.length + 1];
+            System.arraycopy(current, 0, next, 0, current.length);
+            next[current.length] = connection;
+            if (connections.compareAndSet(current, next))
+                break;
+        }
+        if (!open.get())
+            connection.open.set(false);
+        return connection;
+    }
 
-                    }
-                } else {
-                    open.set(false);
+    protected void removeConnection(final Connection<T> connection) {
+        for (;;) {
+            final Connection<T>[] current = connections.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == connection) {
+                    index = i;
+                    break;
                 }
             }
-        } , delay, TimeUnit.MILLISECONDS);
-
+            if (index == -1)
+                return;
+            final Connection<T>[] next = current.length == 1 ? NONE : new Connection[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            if (connections.compareAndSet(current, next))
+                return;
+        }
     }
 
-    protected IteratorHotStream<T> scheduleFixedDelayInternal(final Iterator<T> it, final long delay, final ScheduledExecutorService ex) {
-        ex.scheduleWithFixedDelay(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
+    /**
+     * Push next to every connection, applying each connection's overflow policy if its transfer queue is full
+     */
+    protected void emit(final T next) {
+        for (final Connection<T> connection : connections.get()) {
+            if (!connection.offer(next))
+                removeConnection(connection);
+        }
+    }
 
-                    final T next = it.next();
+    /**
+     * Mark this hot stream as finished, connected Streams complete once they have drained their transfer queues
+     */
+    protected void complete() {
+        open.set(false);
+        for (final Connection<T> connection : connections.get()) {
+            connection.open.set(false);
+        }
+    }
 
-                    final int local = connected;
+    protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
+        scheduleInternal(it, CronSchedule.of(cron), ex);
+    }
 
-                    for (int i = 0; i < local; i++) {
+    protected void scheduleInternal(final Iterator<T> it, final CronSchedule schedule, final ScheduledExecutorService ex) {
+        final long now = System.currentTimeMillis();
+        final long next = schedule.nextFireAfter(now);
+        if (next == -1) {
+            complete();
+            return;
+        }
 
-                        Eithers.blocking(connections.get(i))
-                                  .fold(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
+        ex.schedule(() -> {
+            try {
+                emitNext(it);
+            } finally {
+                if (open.get())
+                    scheduleInternal(it, schedule, ex);
+            }
+        } , next - now, TimeUnit.MILLISECONDS);
 
-                    }
+    }
 
-                } else {
-                    open.set(false);
-                }
-            }
-        } , delay, delay, TimeUnit.MILLISECONDS);
+    protected IteratorHotStream<T> scheduleFixedDelayInternal(final Iterator<T> it, final long delay, final ScheduledExecutorService ex) {
+        ex.scheduleWithFixedDelay(() -> emitNext(it), delay, delay, TimeUnit.MILLISECONDS);
         return this;
 
     }
 
     protected IteratorHotStream<T> scheduleFixedRate(final Iterator<T> it, final long rate, final ScheduledExecutorService ex) {
-        ex.scheduleAtFixedRate(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-
-                    final T next = it.next();
-
-                    final int local = connected;
+        ex.scheduleAtFixedRate(() -> emitNext(it), 0, rate, TimeUnit.MILLISECONDS);
+        return this;
 
-                    for (int i = 0; i < local; i++) {
+    }
 
-                        Eithers.blocking(connections.get(i))
-                                  .fold(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-                    }
+    /*
+     * Only advancing the iterator is synchronized, emission to the connections happens outside the lock
+     */
+    private void emitNext(final Iterator<T> it) {
+        final T next;
+        synchronized (it) {
+            if (!it.hasNext()) {
+                complete();
+                return;
+            }
+            next = it.next();
+        }
+        emit(next);
+    }
 
-                } else {
+    /**
+     * A connection to a hot stream, a transfer queue that is read by the connected Stream and the policy to apply
+     * when it is full.
+     */
+    protected static class Connection<T> {
+        final Queue<T> queue;
+        final SlowConsumerPolicy policy;
+        final AtomicBoolean open = new AtomicBoolean(true);
+
+        Connection(final Queue<T> queue, final SlowConsumerPolicy policy) {
+            this.queue = queue;
+            this.policy = policy;
+        }
+
+        /*
+         * return false if the connection should be removed
+         */
+        boolean offer(final T next) {
+            if (!open.get())
+                return false;
+            if (queue.offer(next))
+                return true;
+            switch (policy) {
+                case DROP:
+                    return true;
+                case DISCONNECT:
                     open.set(false);
-                }
+                    return false;
+                default:
+                    if (queue instanceof BlockingQueue) {
+                        try {
+                            ((BlockingQueue<T>) queue).put(next);
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread()
+                                  .interrupt();
+                            throw ExceptionSoftener.throwSoftenedException(e);
+                        }
+                        return true;
+                    }
+                    long nanos = 1l;
+                    while (open.get() && !queue.offer(next)) {
+                        LockSupport.parkNanos(nanos);
+                        nanos = Math.min(nanos * 2, 1_000_000l);
+                    }
+                    return open.get();
             }
-        } , 0, rate, TimeUnit.MILLISECONDS);
-        return this;
-
+        }
     }
 }
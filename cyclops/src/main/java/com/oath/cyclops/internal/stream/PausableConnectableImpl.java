@@ -5,8 +5,6 @@ import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import com.oath.cyclops.types.stream.PausableConnectable;
-import cyclops.companion.Eithers;
-import cyclops.function.FluentFunctions;
 
 public class PausableConnectableImpl<T> extends BaseConnectableImpl<T> implements PausableConnectable<T> {
     public PausableConnectableImpl(final Stream<T> stream) {
@@ -20,21 +18,10 @@ public class PausableConnectableImpl<T> extends BaseConnectableImpl<T> implement
             stream.forEach(a -> {
                 pause.get()
                      .join();
-                final int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Eithers.blocking(connections.get(i))
-                              .fold(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-
-                }
-
+                emit(a);
             });
 
-            open.set(false);
+            complete();
 
         } , exec);
         return this;
@@ -5,9 +5,11 @@ import com.oath.cyclops.async.adapters.Queue;
 import com.oath.cyclops.internal.stream.spliterators.Zipping3Spliterator;
 import com.oath.cyclops.types.futurestream.Continuation;
 import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
 import com.oath.cyclops.types.stream.Connectable;
 import com.oath.cyclops.types.traversable.IterableX;
 import com.oath.cyclops.util.ExceptionSoftener;
+import com.oath.cyclops.util.HashedWheelTimer;
 
 import com.oath.cyclops.internal.stream.spliterators.push.*;
 import cyclops.control.Future;
@@ -39,6 +41,7 @@ import org.reactivestreams.Subscription;
 
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -385,7 +388,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
 
 
-        return createSeq(new MapOperator<T, R>(this.source, fn));
+        return createSeq(FusedOperator.map(this.source, fn));
     }
 
 
@@ -421,7 +424,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
-        return createSeq(new FilterOperator<T>(source, fn));
+        return createSeq(FusedOperator.filter(source, fn));
 
     }
 
@@ -471,11 +474,11 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <R> ReactiveSeq<R> mapLazyFn(Supplier<Function<? super T, ? extends R>> fn) {
-        return createSeq(new LazyMapOperator<>(source, fn));
+        return createSeq(FusedOperator.lazyMap(source, fn));
     }
 
     public final ReactiveSeq<T> filterLazyPredicate(final Supplier<Predicate<? super T>> fn) {
-        return createSeq(new LazyFilterOperator<T>(source, fn));
+        return createSeq(FusedOperator.lazyFilter(source, fn));
 
     }
 
@@ -770,17 +773,13 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public ReactiveSeq<Vector<T>> groupedBySizeAndTime(final int size, final long time, final TimeUnit t) {
-        return createSeq(new GroupedByTimeAndSizeOperator<>(this.source, () -> Vector.empty(),
-                Function.identity(), time, t, size)
-        );
+        return this.<Vector<T>, Vector<T>>groupedBySizeAndTime(size, time, t, () -> Vector.empty(), Function.identity());
 
     }
 
     @Override
     public ReactiveSeq<Vector<T>> groupedByTime(final long time, final TimeUnit t) {
-        return createSeq(new GroupedByTimeOperator<>(source,
-                () -> Vector.empty(),
-                Function.identity(), time, t));
+        return this.<Vector<T>, Vector<T>>groupedByTime(time, t, () -> Vector.empty(), Function.identity());
     }
 
     @Override
@@ -810,8 +809,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     @Override
     public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedBySizeAndTime(final int size, final long time, final TimeUnit unit,
                                                                                  final Supplier<C> factory) {
-        return createSeq(new GroupedByTimeAndSizeOperator(this.source, factory,
-                Function.identity(), time, unit, size));
+        return this.<C, C>groupedBySizeAndTime(size, time, unit, factory, Function.identity());
 
     }
 
@@ -821,6 +819,9 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
                                                                                     final Supplier<C> factory,
                                                                                     Function<? super C, ? extends R> finalizer
     ) {
+        if (timerDriven(time, unit))
+            return createTimedSeq(new TimedGroupingOperator(this.source, factory,
+                    finalizer, time, unit, size, HashedWheelTimer.shared()));
         return createSeq(new GroupedByTimeAndSizeOperator(this.source, factory,
                 finalizer, time, unit, size)
         );
@@ -829,6 +830,9 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <C extends PersistentCollection<? super T>, R> ReactiveSeq<R> groupedByTime(final long time, final TimeUnit unit, final Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
+        if (timerDriven(time, unit))
+            return createTimedSeq(new TimedGroupingOperator(this.source, factory,
+                    finalizer, time, unit, Integer.MAX_VALUE, HashedWheelTimer.shared()));
         return createSeq(new GroupedByTimeOperator(this.source, factory,
                 finalizer, time, unit)
         );
@@ -837,10 +841,52 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <C extends PersistentCollection<? super T>> ReactiveSeq<C> groupedByTime(final long time, final TimeUnit unit, final Supplier<C> factory) {
-        return createSeq(new GroupedByTimeOperator(this.source, factory,
-                Function.identity(), time, unit)
-        );
+        return this.<C, C>groupedByTime(time, unit, factory, Function.identity());
+
+    }
+
+    @Override
+    public ReactiveSeq<T> debounce(final long time, final TimeUnit t) {
+        if (!timerDriven(time, t))
+            return super.debounce(time, t);
+        HashedWheelTimer timer = HashedWheelTimer.shared();
+        Supplier<Predicate<? super T>> lazy = () -> {
+            AtomicBoolean open = new AtomicBoolean(true);
+            return a -> {
+                if (!open.compareAndSet(true, false))
+                    return false;
+                timer.schedule(() -> open.set(true), time, t);
+                return true;
+            };
+        };
+        return filterLazyPredicate(lazy);
+    }
+
+    @Override
+    public ReactiveSeq<T> onePer(final long time, final TimeUnit t) {
+        if (!timerDriven(time, t))
+            return super.onePer(time, t);
+        return createTimedSeq(new OnePerOperator<>(source, time, t, HashedWheelTimer.shared()));
+    }
+
+    @Override
+    public ReactiveSeq<T> timeout(final long time, final TimeUnit t) {
+        return createTimedSeq(new TimeoutOperator<>(source, time, t, HashedWheelTimer.shared()));
+    }
+
+    /*
+     * Periods of at least one tick of the shared timer are driven by the timer, shorter periods fall back to checking
+     * the clock as each element arrives
+     */
+    private static boolean timerDriven(final long time, final TimeUnit unit) {
+        return unit.toNanos(time) >= HashedWheelTimer.shared().getTickNanos();
+    }
 
+    /*
+     * Timer driven operators may emit on the timer thread
+     */
+    private <X> ReactiveStreamX<X> createTimedSeq(Operator<X> stream) {
+        return createSeq(stream, async == SYNC ? BACKPRESSURE : async);
     }
 
     @Override
@@ -1207,30 +1253,29 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
         }
         if (this.async == BACKPRESSURE) {
-            ConcurrentLinkedQueue<Subscriber> subs = new ConcurrentLinkedQueue<>();
-            Seq<ReactiveSeq<T>> result = Seq.empty();
-            Subscription sub = forEachSubscribe(e -> subs.forEach(s -> s.onNext(e)), ex -> subs.forEach(s -> s.onError(ex)), () -> subs.forEach(s -> s.onComplete()));
-            for (int i = 0; i < num; i++) {
-                ReactiveSeq<T> seq = new ReactiveStreamX<T>(new PublisherToOperator<T>(new Publisher<T>() {
-                    @Override
-                    public void subscribe(Subscriber<? super T> s) {
-
-                        subs.add(s);
-                        s.onSubscribe(sub);
-
-
-                    }
-                }));
-
-                result = result.plus(seq);
-            }
-            return result;
-
+            return multicast(num, 256, SlowConsumerPolicy.BLOCK);
         }
         return Streams.toBufferingCopier(() -> iterator(), num, () -> new ArrayDeque<T>(100))
                 .map(ReactiveSeq::fromIterable);
     }
 
+    @Override
+    public Seq<ReactiveSeq<T>> multicast(int num, int bufferSize, SlowConsumerPolicy policy) {
+        return multicast(num, bufferSize, policy, null);
+    }
+
+    @Override
+    public Seq<ReactiveSeq<T>> multicast(int num, int bufferSize, SlowConsumerPolicy policy, Executor executor) {
+        if (this.async != BACKPRESSURE)
+            return multicast(num);
+        MultiCastOperator<T> op = new MultiCastOperator<>(source, num, bufferSize, policy, executor);
+        Seq<ReactiveSeq<T>> result = Seq.empty();
+        for (int i = 0; i < num; i++) {
+            result = result.plus(createSeq(op));
+        }
+        return result;
+    }
+
 
     @Override
     @SuppressWarnings("unchecked")
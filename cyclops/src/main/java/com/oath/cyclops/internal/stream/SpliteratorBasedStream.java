@@ -408,6 +408,42 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return copy();
     }
 
+    /*
+     * Array, random access List and range sources without further operators are split directly by the parallel Stream,
+     * other Streams are funneled into the parallel Stream via a Queue
+     */
+    @Override
+    public <R> R foldParallel(Function<? super Stream<T>, ? extends R> fn) {
+        Spliterator<T> split = splittable();
+        if (split == null)
+            return super.foldParallel(fn);
+        return fn.apply(StreamSupport.stream(split, true));
+    }
+
+    /*
+     * For splittable sources results are collected in parallel (chunks are merged in encounter order, unless the
+     * Stream is unordered) rather than emitted one at a time via a Queue
+     */
+    @Override
+    public <R> ReactiveSeq<R> parallel(Function<? super Stream<T>, ? extends Stream<? extends R>> fn) {
+        if (splittable() == null)
+            return super.parallel(fn);
+        return ReactiveSeq.defer(() -> Arrays.asList((R[]) foldParallel(s -> fn.apply(s).toArray())));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> parallel(ForkJoinPool fj, Function<? super Stream<T>, ? extends Stream<? extends R>> fn) {
+        if (splittable() == null)
+            return super.parallel(fj, fn);
+        return ReactiveSeq.defer(() -> Arrays.asList((R[]) foldParallel(fj, s -> fn.apply(s).toArray())));
+    }
+
+    private Spliterator<T> splittable() {
+        if (!(stream instanceof ReversableSpliterator))
+            return null;
+        return ((ReversableSpliterator<T>) copy()).splittable();
+    }
+
 
     @Override
     public long count() {
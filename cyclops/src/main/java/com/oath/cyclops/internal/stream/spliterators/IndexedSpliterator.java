@@ -0,0 +1,72 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * A sized Spliterator over the elements of an indexed source (an array, random access List or arithmetic range), that
+ * splits its remaining range in half. The element function maps a position in encounter order to the element, so
+ * reversed sources split in the same way.
+ *
+ * Used to run parallel Streams directly over the source of a ReactiveSeq, see {@link ReversableSpliterator#splittable()}
+ *
+ * @param <T> Element type
+ */
+public class IndexedSpliterator<T> implements Spliterator<T> {
+
+    private final LongFunction<? extends T> element;
+    private long index;
+    private final long end;
+
+    public IndexedSpliterator(final LongFunction<? extends T> element, final long size) {
+        this(element, 0, Math.max(0, size));
+    }
+
+    private IndexedSpliterator(final LongFunction<? extends T> element, final long index, final long end) {
+        this.element = element;
+        this.index = index;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (index < end) {
+            action.accept(element.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        long i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(element.apply(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long mid = (index + end) >>> 1;
+        if (mid <= index)
+            return null;
+        final IndexedSpliterator<T> prefix = new IndexedSpliterator<>(element, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -1,5 +1,7 @@
 package com.oath.cyclops.internal.stream.spliterators;
 
+import java.util.Spliterator;
+
 public interface ReversableSpliterator<T> extends CopyableSpliterator<T>{
 
     boolean isReverse();
@@ -13,5 +15,13 @@ public interface ReversableSpliterator<T> extends CopyableSpliterator<T>{
 
     ReversableSpliterator<T> copy();
 
+    /**
+     * @return Sized Spliterator over the remaining elements that can be split for parallel traversal, or null if this
+     *         source can not be split efficiently
+     */
+    default Spliterator<T> splittable() {
+        return null;
+    }
+
 
 }
@@ -99,6 +99,14 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
         return this;
     }
 
+    @Override
+    public Spliterator<T> splittable() {
+        final int from = index;
+        if (!reverse)
+            return new IndexedSpliterator<T>(i -> (T) array[from + (int) i], from > -1 ? max - from : 0);
+        return new IndexedSpliterator<T>(i -> (T) array[from - (int) i], from < max ? from - start + 1 : 0);
+    }
+
     @Override
     public ReversableSpliterator<T> copy() {
 
@@ -3,6 +3,7 @@ package com.oath.cyclops.internal.stream.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
@@ -74,6 +75,18 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     }
 
+    @Override
+    public Spliterator<T> splittable() {
+        if (!(list instanceof RandomAccess))
+            return null;
+        if (!reverse) {
+            final int from = it.nextIndex();
+            return new IndexedSpliterator<T>(i -> list.get(from + (int) i), list.size() - from);
+        }
+        final int from = it.previousIndex();
+        return new IndexedSpliterator<T>(i -> list.get(from - (int) i), from + 1);
+    }
+
     @Override
     public Spliterator<T> trySplit() {
 
@@ -5,6 +5,7 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ReversableSpliterator;
 import lombok.Getter;
 import lombok.Setter;
@@ -90,6 +91,17 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
         return this;
     }
 
+    @Override
+    public Spliterator<Integer> splittable() {
+        if (step <= 0)
+            return null;
+        final long from = index;
+        final long step = this.step;
+        if (!reverse)
+            return new IndexedSpliterator<Integer>(i -> (int) (from + i * step), from >= min && from < max ? (max - from - 1) / step + 1 : 0);
+        return new IndexedSpliterator<Integer>(i -> (int) (from - i * step), from >= min && from <= max ? (from - min) / step + 1 : 0);
+    }
+
     @Override
     public ReversableSpliterator copy() {
         return new ReversingRangeIntSpliterator(
@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ReversableSpliterator;
 import lombok.Getter;
 import lombok.Setter;
@@ -91,6 +92,17 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong,Reversa
         return this;
     }
 
+    @Override
+    public Spliterator<Long> splittable() {
+        if (step <= 0)
+            return null;
+        final long from = index;
+        final long step = this.step;
+        if (!reverse)
+            return new IndexedSpliterator<Long>(i -> from + i * step, from >= min && from < max ? (max - from - 1) / step + 1 : 0);
+        return new IndexedSpliterator<Long>(i -> from - i * step, from >= min && from <= max ? (from - min) / step + 1 : 0);
+    }
+
     @Override
     public ReversingRangeLongSpliterator copy() {
         return new ReversingRangeLongSpliterator(
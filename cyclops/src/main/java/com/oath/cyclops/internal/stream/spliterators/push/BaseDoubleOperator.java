@@ -0,0 +1,22 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Base class for operators consuming an unboxed {@link DoubleOperator}
+ */
+@AllArgsConstructor
+public abstract class BaseDoubleOperator {
+    final DoubleOperator source;
+
+
+    protected static void request(StreamSubscription[] upstream ,long req){
+        while(upstream[0]==null){
+            LockSupport.parkNanos(10l);
+        }
+        upstream[0].request(req);
+    }
+
+ }
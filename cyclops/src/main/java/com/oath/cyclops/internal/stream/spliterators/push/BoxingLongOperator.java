@@ -0,0 +1,23 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+
+/**
+ * Adapts an unboxed {@link LongOperator} to the boxed push engine, values are boxed only at this boundary
+ */
+public class BoxingLongOperator extends BaseLongOperator implements Operator<Long> {
+
+    public BoxingLongOperator(LongOperator source){
+        super(source);
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return source.subscribe(e->onNext.accept(e),onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        source.subscribeAll(e->onNext.accept(e),onError,onCompleteDs);
+    }
+}
@@ -1,7 +1,5 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
-import cyclops.data.Seq;
-import lombok.AllArgsConstructor;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -13,11 +11,27 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 
+/**
+ * Merges the Publishers produced by the mapper, with at most maxConcurrency inner subscriptions active at once.
+ *
+ * Active inner subscribers are registered in slots of an array, which is only written by the thread signalling the
+ * upstream onNext. Completed subscribers are removed by the drain loop (which is serialized by wip) and their slots
+ * are handed back for reuse via a stack of released subscribers, so neither registration nor removal copies the
+ * set of active subscribers. Each inner subscriber only allocates its single producer / single consumer queue when
+ * an element has to be buffered.
+ */
 public class ConcurrentFlatMapper<T, R> {
 
-    volatile Seq<ActiveSubscriber> activeList = Seq.empty();
-    static final AtomicReferenceFieldUpdater<ConcurrentFlatMapper, Seq> queueUpdater =
-        AtomicReferenceFieldUpdater.newUpdater(ConcurrentFlatMapper.class, Seq.class, "activeList");
+    private static final int INITIAL_SLOTS = 256;
+
+    volatile AtomicReferenceArray<ActiveSubscriber> slots;
+    //number of slots that have been used, written after slots on growth
+    volatile int highWater = 0;
+    final AtomicInteger activeCount = new AtomicInteger(0);
+    //subscribers removed by the drain loop, linked via nextFree
+    final AtomicReference<ActiveSubscriber> released = new AtomicReference<>(null);
+    //upstream onNext thread only
+    ActiveSubscriber reusable;
 
     final Consumer<? super R> onNext;
     final Consumer<? super Throwable> onError;
@@ -48,7 +62,7 @@ public class ConcurrentFlatMapper<T, R> {
         this.onComplete = onComplete;
         this.mapper = mapper;
         this.maxConcurrency = maxConcurrency;
-
+        this.slots = new AtomicReferenceArray<>(Math.max(1, Math.min(maxConcurrency, INITIAL_SLOTS)));
 
     }
 
@@ -77,8 +91,11 @@ public class ConcurrentFlatMapper<T, R> {
             return;
         try {
             Publisher<? extends R> next = mapper.apply(t);
-            ActiveSubscriber inner = new ActiveSubscriber();
-            queueUpdater.getAndUpdate(this, q -> q.plus(inner));
+            ActiveSubscriber inner = new ActiveSubscriber(acquireSlot());
+            activeCount.incrementAndGet();
+            slots.set(inner.index, inner);
+            if (inner.index == highWater)
+                highWater = inner.index + 1;
             next.subscribe(inner);
         }catch(Throwable e){
             onError.accept(e);
@@ -86,8 +103,44 @@ public class ConcurrentFlatMapper<T, R> {
 
     }
 
+    /*
+     * Called from the upstream onNext thread, reuses a released slot where available
+     */
+    private int acquireSlot() {
+        ActiveSubscriber free = reusable;
+        if (free == null)
+            free = released.getAndSet(null);
+        if (free != null) {
+            reusable = free.nextFree;
+            free.nextFree = null;
+            return free.index;
+        }
+        AtomicReferenceArray<ActiveSubscriber> current = slots;
+        int index = highWater;
+        if (index == current.length()) {
+            AtomicReferenceArray<ActiveSubscriber> grown = new AtomicReferenceArray<>(index < Integer.MAX_VALUE / 2 ? index * 2 : Integer.MAX_VALUE - 8);
+            for (int i = 0; i < index; i++) {
+                grown.set(i, current.get(i));
+            }
+            slots = grown;
+        }
+        return index;
+    }
+
+    /*
+     * Called from the drain loop only
+     */
     private boolean remove(ActiveSubscriber toRemove) {
-        queueUpdater.getAndUpdate(this, q -> q.removeValue(toRemove));
+        if (toRemove.removed)
+            return false;
+        toRemove.removed = true;
+        slots.compareAndSet(toRemove.index, toRemove, null);
+        ActiveSubscriber head;
+        do {
+            head = released.get();
+            toRemove.nextFree = head;
+        } while (!released.compareAndSet(head, toRemove));
+        activeCount.decrementAndGet();
         return true;
     }
 
@@ -139,7 +192,7 @@ public class ConcurrentFlatMapper<T, R> {
             while (pendingRequests != requestedLocal) {
                 completed = nextActive.done;
 
-                R raw = nextActive.queue.poll();
+                R raw = nextActive.poll();
 
                 if (complete(false)) {
                     return false;
@@ -170,15 +223,16 @@ public class ConcurrentFlatMapper<T, R> {
         }
 
         void cleanup() {
-            if (completed && nextActive.queue.isEmpty()) {
+            if (completed && nextActive.isEmpty()) {
                 removeAndReturn();
             }
         }
 
         private void removeAndReturn() {
-            remove(nextActive);
-            rerun = true;
-            missing++;
+            if (remove(nextActive)) {
+                rerun = true;
+                missing++;
+            }
         }
 
         void processPendingRequests(){
@@ -229,20 +283,18 @@ public class ConcurrentFlatMapper<T, R> {
 
         do {
 
-            Seq<ActiveSubscriber> localActiveSubs = activeList;
             SubscriberRequests state = new SubscriberRequests(!running,0l,requested.get(),0L,false,null);
 
-            if (state.complete(activeList.isEmpty()))
+            if (state.complete(activeCount.get() == 0))
                 return;
 
             if (activeRequestsAndSubscriptions(state)) {
-                if (processRequests(localActiveSubs, state))
+                if (processRequests(state))
                     return;
             }
 
             if (noActiveRequestsAndSubscriptions(state)) {
-                localActiveSubs = activeList;
-                if (cleanupSubsAndReqs(localActiveSubs, state))
+                if (cleanupSubsAndReqs(state))
                     return;
             }
             state.sendMissingRequests();
@@ -252,41 +304,49 @@ public class ConcurrentFlatMapper<T, R> {
     }
 
     private boolean noActiveRequestsAndSubscriptions(SubscriberRequests state) {
-        return state.requestedLocal == 0L && !activeList.isEmpty();
+        return state.requestedLocal == 0L && activeCount.get() != 0;
     }
 
     private boolean activeRequestsAndSubscriptions(SubscriberRequests state) {
-        return state.requestedLocal != 0L && !activeList.isEmpty();
+        return state.requestedLocal != 0L && activeCount.get() != 0;
     }
 
-    private boolean cleanupSubsAndReqs(Seq<ActiveSubscriber> localActiveSubs, SubscriberRequests state) {
-        ActiveSubscriber active =null;
-        for (int i = 0; i < localActiveSubs.size() && (active=localActiveSubs.getOrElse(i,null)).queue.isEmpty() && sub.isOpen; i++) {
+    private boolean cleanupSubsAndReqs(SubscriberRequests state) {
+        int limit = highWater;
+        AtomicReferenceArray<ActiveSubscriber> localSlots = slots;
+        for (int i = 0; i < limit; i++) {
             if (!sub.isOpen) {
                 return true;
             }
+            ActiveSubscriber active = localSlots.get(i);
+            if (active == null || active.removed || !active.isEmpty())
+                continue;
             state.setNextActive(active);
             state.cleanup();
         }
         return false;
     }
 
-    private boolean processRequests(Seq<ActiveSubscriber> localActiveSubs, SubscriberRequests state) {
+    private boolean processRequests(SubscriberRequests state) {
+        int limit = highWater;
+        AtomicReferenceArray<ActiveSubscriber> localSlots = slots;
         int activeIndex = subscriberIndex;
-        if(activeIndex >= localActiveSubs.size())
+        if(activeIndex >= limit)
             activeIndex =0;
 
-        for (int i = 0; i < localActiveSubs.size() && state.requestedLocal !=0L && sub.isOpen; i++) {
-
+        for (int i = 0; i < limit && state.requestedLocal !=0L && sub.isOpen; i++) {
 
-            state.setNextActive(localActiveSubs.getOrElse(activeIndex, null));
+            ActiveSubscriber next = localSlots.get(activeIndex);
+            if (next != null && !next.removed) {
+                state.setNextActive(next);
 
-            if(!state.populateRequestsFromQueue())
-                return true;
-            state.handleComplete();
-            state.processPendingRequests();
+                if (!state.populateRequestsFromQueue())
+                    return true;
+                state.handleComplete();
+                state.processPendingRequests();
+            }
             activeIndex = activeIndex+1;
-            if(activeIndex >= localActiveSubs.size())
+            if(activeIndex >= limit)
                 activeIndex = 0;
 
 
@@ -298,10 +358,37 @@ public class ConcurrentFlatMapper<T, R> {
 
     final class ActiveSubscriber implements Subscriber<R> {
 
-
+        final int index;
         final AtomicReference<Subscription> sub = new AtomicReference();
-        final Queue<R> queue = new OneToOneConcurrentArrayQueue<>(1024);
+        //allocated by the inner publisher's thread when an element has to be buffered
+        private volatile Queue<R> queue;
         private volatile boolean done;
+        //drain loop only
+        boolean removed;
+        ActiveSubscriber nextFree;
+
+        ActiveSubscriber(int index) {
+            this.index = index;
+        }
+
+        R poll() {
+            Queue<R> q = queue;
+            return q == null ? null : q.poll();
+        }
+
+        boolean isEmpty() {
+            Queue<R> q = queue;
+            return q == null || q.isEmpty();
+        }
+
+        private void offer(R t) {
+            Queue<R> q = queue;
+            if (q == null) {
+                q = new OneToOneConcurrentArrayQueue<>(1024);
+                queue = q;
+            }
+            q.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
+        }
 
         @Override
         public void onSubscribe(Subscription s) {
@@ -325,14 +412,14 @@ public class ConcurrentFlatMapper<T, R> {
                     }
                     sub.get().request(1);
                 } else {
-                    queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
+                    offer(t);
                 }
                 if (wip.decrementAndGet() == 0) {
                     return;
                 }
                 populateFromQueuesAndCleanup();
             } else {
-                queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
+                offer(t);
                 handleMainPublisher();
             }
         }
@@ -0,0 +1,88 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Unboxed scanLeft, emits the seed followed by each accumulated value
+ */
+public class DoubleScanOperator extends BaseDoubleOperator implements DoubleOperator {
+
+    private final double seed;
+    private final DoubleBinaryOperator accumulator;
+
+    public DoubleScanOperator(DoubleOperator source, double seed, DoubleBinaryOperator accumulator){
+        super(source);
+        this.seed = seed;
+        this.accumulator = accumulator;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        double[] current = {seed};
+        boolean[] seedSent = {false};
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                long req = n;
+                if(!seedSent[0]){
+                    seedSent[0]=true;
+                    try {
+                        onNext.accept(seed);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                    if(req!=Long.MAX_VALUE)
+                        req--;
+                    if(req==0)
+                        return;
+                }
+                BaseDoubleOperator.request(upstream,req);
+
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+
+            }
+        };
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        current[0] = accumulator.applyAsDouble(current[0],e);
+                        onNext.accept(current[0]);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        double[] current = {seed};
+        onNext.accept(seed);
+        source.subscribeAll(e-> {
+                    try {
+                        current[0] = accumulator.applyAsDouble(current[0],e);
+                        onNext.accept(current[0]);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
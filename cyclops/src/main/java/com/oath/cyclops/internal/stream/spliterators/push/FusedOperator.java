@@ -0,0 +1,144 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A run of adjacent map / filter stages collapsed into a single operator.
+ *
+ * The stages are composed into one function per subscription that returns {@link #FILTERED} for values
+ * removed by a filter stage, so each element crosses a single Consumer boundary regardless of the number
+ * of stages. Eager stages are composed once when the pipeline is built, lazy (per subscription) stages are
+ * instantiated on subscribe as {@link LazyMapOperator} and {@link LazyFilterOperator} do.
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+    static final Object FILTERED = new Object();
+
+    private final Function<Object,Object> stage;
+    private final Supplier<Function<Object,Object>> lazyStage;
+
+    private FusedOperator(Operator<T> source, Function<Object,Object> stage, Supplier<Function<Object,Object>> lazyStage){
+        super(source);
+        this.stage = stage;
+        this.lazyStage = lazyStage;
+    }
+
+    public static <T,R> Operator<R> map(Operator<T> source, Function<? super T, ? extends R> mapper){
+        Function<Object,Object> next = (Function)mapper;
+        return fuse(source, next, null);
+    }
+
+    public static <T> Operator<T> filter(Operator<T> source, Predicate<? super T> predicate){
+        return fuse(source, filterStage((Predicate)predicate), null);
+    }
+
+    public static <T,R> Operator<R> lazyMap(Operator<T> source, Supplier<Function<? super T, ? extends R>> mapperSupplier){
+        Supplier<Function<Object,Object>> next = (Supplier)mapperSupplier;
+        return fuse(source, null, next);
+    }
+
+    public static <T> Operator<T> lazyFilter(Operator<T> source, Supplier<Predicate<? super T>> predicateSupplier){
+        return fuse(source, null, () -> filterStage((Predicate)predicateSupplier.get()));
+    }
+
+    private static Function<Object,Object> filterStage(Predicate<Object> predicate){
+        return e -> predicate.test(e) ? e : FILTERED;
+    }
+
+    private static Function<Object,Object> andThen(Function<Object,Object> first, Function<Object,Object> second){
+        return e -> {
+            Object next = first.apply(e);
+            return next == FILTERED ? FILTERED : second.apply(next);
+        };
+    }
+
+    /*
+     * Append the next stage (eager if nextStage is set, otherwise lazy) to source, absorbing source
+     * if it is itself a map / filter stage
+     */
+    private static <T,R> Operator<R> fuse(Operator<T> source, Function<Object,Object> nextStage,
+                                          Supplier<Function<Object,Object>> nextLazy){
+        Operator upstream = source;
+        Function<Object,Object> prevStage = null;
+        Supplier<Function<Object,Object>> prevLazy = null;
+        if(source instanceof FusedOperator){
+            FusedOperator fused = (FusedOperator)source;
+            upstream = fused.source;
+            prevStage = fused.stage;
+            prevLazy = fused.lazyStage;
+        }else if(source instanceof MapOperator){
+            MapOperator map = (MapOperator)source;
+            upstream = map.source;
+            prevStage = (Function)map.mapper;
+        }else if(source instanceof FilterOperator){
+            FilterOperator filter = (FilterOperator)source;
+            upstream = filter.source;
+            prevStage = filterStage((Predicate)filter.predicate);
+        }else if(source instanceof LazyMapOperator){
+            LazyMapOperator map = (LazyMapOperator)source;
+            upstream = map.source;
+            prevLazy = (Supplier)map.mapperSupplier;
+        }else if(source instanceof LazyFilterOperator){
+            LazyFilterOperator filter = (LazyFilterOperator)source;
+            upstream = filter.source;
+            Supplier<Predicate<Object>> predicateSupplier = (Supplier)filter.predicateSupplier;
+            prevLazy = () -> filterStage(predicateSupplier.get());
+        }else{
+            return new FusedOperator<>(source, nextStage, nextLazy);
+        }
+
+        if(prevStage != null && nextStage != null)
+            return new FusedOperator<>(upstream, andThen(prevStage, nextStage), null);
+        Supplier<Function<Object,Object>> first = prevLazy != null ? prevLazy : constant(prevStage);
+        Supplier<Function<Object,Object>> second = nextLazy != null ? nextLazy : constant(nextStage);
+        return new FusedOperator<>(upstream, null, () -> andThen(first.get(), second.get()));
+    }
+
+    private static Supplier<Function<Object,Object>> constant(Function<Object,Object> stage){
+        return () -> stage;
+    }
+
+    private Function<Object,Object> stage(){
+        return stage != null ? stage : lazyStage.get();
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Function<Object,Object> fn = stage();
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        Object next = fn.apply(e);
+                        if(next != FILTERED)
+                            ((Consumer)onNext).accept(next);
+                        else{
+                            request( upstream,1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Function<Object,Object> fn = stage();
+        source.subscribeAll(e-> {
+                    try {
+                        Object next = fn.apply(e);
+                        if(next != FILTERED)
+                            ((Consumer)onNext).accept(next);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,102 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import cyclops.data.LongVector;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Groups unboxed longs into LongVectors of groupSize (the final group may be smaller)
+ */
+public class LongGroupingOperator extends BaseLongOperator implements Operator<LongVector> {
+
+    private final int groupSize;
+
+    public LongGroupingOperator(LongOperator source, int groupSize){
+        super(source);
+        this.groupSize = groupSize;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super LongVector> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        long[] buffer = new long[groupSize];
+        int[] count = {0};
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                BaseLongOperator.request(upstream, n > Long.MAX_VALUE / groupSize ? Long.MAX_VALUE : n * groupSize);
+
+
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+
+            }
+        };
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        buffer[count[0]++]=e;
+                        if(count[0]==groupSize){
+                            count[0]=0;
+                            onNext.accept(LongVector.of(buffer));
+                        }
+
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(count[0]>0) {
+                        try {
+                            onNext.accept(LongVector.of(Arrays.copyOf(buffer,count[0])));
+                        } catch(Throwable t){
+                            onError.accept(t);
+                        }
+                    }
+                    onComplete.run();
+                });
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super LongVector> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        long[] buffer = new long[groupSize];
+        int[] count = {0};
+        source.subscribeAll(e-> {
+                    try {
+                        buffer[count[0]++]=e;
+                        if(count[0]==groupSize){
+                            count[0]=0;
+                            onNext.accept(LongVector.of(buffer));
+                        }
+
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(count[0]>0) {
+                        try {
+                            onNext.accept(LongVector.of(Arrays.copyOf(buffer,count[0])));
+                        } catch(Throwable t){
+                            onError.accept(t);
+                        }
+                    }
+                    onCompleteDs.run();
+                });
+    }
+}
@@ -0,0 +1,112 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Emits the longs of a fresh iterator per subscription without boxing
+ */
+public class LongSourceOperator implements LongOperator {
+
+
+    final Supplier<? extends PrimitiveIterator.OfLong> values;
+
+
+    public LongSourceOperator(Supplier<? extends PrimitiveIterator.OfLong> values){
+        this.values = values;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        final PrimitiveIterator.OfLong it = values.get();
+
+        AtomicBoolean completed = new AtomicBoolean(false);
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n->{
+                if (n == Long.MAX_VALUE) {
+                    pushAll();
+
+                    return;
+                }
+                long reqs = n;
+                long delivered = 0l;
+                do {
+
+                    while (delivered < reqs && it.hasNext()) {
+                        if(!isOpen)
+                            return;
+                        try {
+                            onNext.accept(it.nextLong());
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+                        delivered++;
+                    }
+
+                    if (!it.hasNext()) {
+                        if (!completed.get()) {
+                            completed.set(true);
+                            onComplete.run();
+
+                        }
+                        return;
+
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+                    }
+                }while(true);
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+
+            }
+
+            private void pushAll() {
+                while(it.hasNext()){
+                    if(!isOpen)
+                        break;
+                    try {
+                        onNext.accept(it.nextLong());
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                requested.set(0);
+                if (!completed.get()) {
+                    completed.set(true);
+                    onComplete.run();
+                }
+
+            }
+
+            @Override
+            public void cancel() {
+                super.cancel();
+            }
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        final PrimitiveIterator.OfLong it = values.get();
+        while(it.hasNext())
+            onNext.accept(it.nextLong());
+        onCompleteDs.run();
+    }
+}
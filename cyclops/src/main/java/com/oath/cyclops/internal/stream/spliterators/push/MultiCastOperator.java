@@ -1,57 +1,309 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
-import cyclops.data.Seq;
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 /**
- * Created by johnmcclean on 12/01/2017.
+ * Fans a single upstream out to many subscribers.
+ *
+ * Each subscriber has its own bounded ring buffer and demand, values are delivered to a subscriber only
+ * when it has requested them. The upstream is connected once expect subscribers have registered, and is
+ * requested according to the {@link SlowConsumerPolicy} : BLOCK paces the upstream to the slowest
+ * subscriber, DROP and DISCONNECT pace it to the fastest and apply the policy to subscribers whose buffer
+ * is full. Subscribers are held in a copy-on-write array, so dispatch does not allocate.
+ *
+ * Under BLOCK a full buffer can only be hit by an upstream that overruns its demand, or by an error signal. The
+ * value is then held in that subscriber's overflow queue (never spun on), and no further upstream demand is
+ * raised until the overflow has been drained.
+ *
+ * If an Executor is supplied each subscriber is drained on it, otherwise subscribers are drained on the
+ * thread that delivers a value or requests more.
  */
 public class MultiCastOperator<T> extends BaseOperator<T,T> {
 
+    private static final Object NULL = new Object();
+    private static final Inner[] EMPTY = new Inner[0];
 
+    final int expect;
+    private final int bufferSize;
+    private final SlowConsumerPolicy policy;
+    private final Executor executor;
 
+    private final AtomicReference<Inner<T>[]> subscribers = new AtomicReference<Inner<T>[]>(EMPTY);
+    private final AtomicBoolean connected = new AtomicBoolean(false);
+    private final AtomicLong outstanding = new AtomicLong(0);
+    private volatile StreamSubscription upstream;
+    private volatile boolean done;
 
     public MultiCastOperator(Operator<T> source,int expect){
+        this(source,expect,256,SlowConsumerPolicy.BLOCK,null);
+    }
+
+    public MultiCastOperator(Operator<T> source, int expect, int bufferSize, SlowConsumerPolicy policy, Executor executor){
         super(source);
-        this.expect =expect;
+        this.expect = expect;
+        this.bufferSize = Math.max(2,bufferSize);
+        this.policy = policy;
+        this.executor = executor;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Inner<T> inner = new Inner<>(this,onNext,onError,onComplete);
+        if(done){
+            inner.done = true;
+            inner.drain();
+            return inner;
+        }
+        add(inner);
+        if(subscribers.get().length>=expect && connected.compareAndSet(false,true)){
+            upstream = source.subscribe(this::dispatch,this::error,this::complete);
+        }
+        replenish();
+        return inner;
+    }
 
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
 
+    private void dispatch(T value){
+        offerAll(value==null ? NULL : value);
+        outstanding.decrementAndGet();
+        replenish();
     }
 
-    final int expect;
+    private void error(Throwable t){
+        offerAll(new Failure(t));
+    }
 
-    Seq<Consumer<? super T>> registeredOnNext = Seq.empty();
-    Seq<Consumer<? super Throwable>> registeredOnError= Seq.empty();
-    Seq<Runnable> registeredOnComplete= Seq.empty();
-    Seq<StreamSubscription> subs = Seq.empty();
+    private void offerAll(Object next){
+        for(Inner<T> inner : subscribers.get()){
+            if(inner.isOpen && !inner.offer(next)){
+                switch(policy){
+                    case DROP:
+                        break;
+                    case DISCONNECT:
+                        inner.disconnect(new IllegalStateException("Subscriber disconnected, buffer of "+bufferSize+" exceeded"));
+                        break;
+                    default:
+                        inner.overflow.offer(next);
+                }
+            }
+            inner.drain();
+        }
+    }
 
-    @Override
-    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+    private void complete(){
+        done = true;
+        for(Inner<T> inner : subscribers.get()){
+            inner.done = true;
+            inner.drain();
+        }
+    }
+
+    /*
+     * Top up upstream demand to the free buffer space of the slowest (BLOCK) or fastest (DROP / DISCONNECT) subscriber.
+     * outstanding is read before the buffer sizes and only decremented once a value is buffered, so an in flight value
+     * may be counted twice but never missed. A subscriber with overflow has no free space, and an upstream that overran
+     * its demand (outstanding below zero) is not asked to make it up.
+     */
+    void replenish(){
+        StreamSubscription up = upstream;
+        if(up==null || done)
+            return;
+        Inner<T>[] subs = subscribers.get();
+        if(subs.length==0)
+            return;
+        long out = outstanding.get();
+        long target = policy==SlowConsumerPolicy.BLOCK ? Long.MAX_VALUE : 0;
+        for(Inner<T> inner : subs){
+            long free = inner.overflow.isEmpty() ? inner.queue.capacity() - inner.queue.size() : 0;
+            target = policy==SlowConsumerPolicy.BLOCK ? Math.min(target,free) : Math.max(target,free);
+        }
+        long toRequest = target - Math.max(0,out);
+        if(toRequest>0 && (toRequest >= Math.max(1,bufferSize/4) || out<=0)){
+            if(outstanding.compareAndSet(out,out+toRequest))
+                up.request(toRequest);
+        }
+    }
 
-        registeredOnNext= registeredOnNext.plus(onNext);
-        registeredOnError=registeredOnError.plus(onError);
-        registeredOnComplete =registeredOnComplete.plus(onComplete);
-        StreamSubscription result = new StreamSubscription(){
+    private void add(Inner<T> inner){
+        for(;;){
+            Inner<T>[] current = subscribers.get();
+            Inner<T>[] next = new Inner[current.length+1];
+            System.arraycopy(current,0,next,0,current.length);
+            next[current.length]=inner;
+            if(subscribers.compareAndSet(current,next))
+                return;
+        }
+    }
 
-        };
+    void remove(Inner<T> inner){
+        for(;;){
+            Inner<T>[] current = subscribers.get();
+            int index = -1;
+            for(int i=0;i<current.length;i++){
+                if(current[i]==inner){
+                    index = i;
+                    break;
+                }
+            }
+            if(index==-1)
+                return;
+            Inner<T>[] next = current.length==1 ? EMPTY : new Inner[current.length-1];
+            System.arraycopy(current,0,next,0,index);
+            System.arraycopy(current,index+1,next,index,current.length-index-1);
+            if(subscribers.compareAndSet(current,next)){
+                if(next.length==0 && upstream!=null)
+                    upstream.cancel();
+                else
+                    replenish();
+                return;
+            }
+        }
+    }
 
-        return result;
+    static final class Failure {
+        final Throwable error;
 
+        Failure(Throwable error){
+            this.error = error;
+        }
     }
 
-    @Override
-    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        registeredOnNext= registeredOnNext.plus(onNext);
-        registeredOnError = registeredOnError.plus(onError);
-        registeredOnComplete=registeredOnComplete.plus(onCompleteDs);
+    static final class Inner<T> extends StreamSubscription {
+        final MultiCastOperator<T> parent;
+        final Consumer<? super T> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        final OneToOneConcurrentArrayQueue<Object> queue;
+        final ConcurrentLinkedQueue<Object> overflow = new ConcurrentLinkedQueue<>();
+        final AtomicInteger wip = new AtomicInteger(0);
+        volatile boolean done;
+        volatile Throwable disconnected;
+        boolean terminated;
 
-            source.subscribeAll(e -> {
+        Inner(MultiCastOperator<T> parent, Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+            this.parent = parent;
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+            this.queue = new OneToOneConcurrentArrayQueue<>(parent.bufferSize);
+        }
 
-                        registeredOnNext.forEach(n -> n.accept(e));
+        @Override
+        public void request(long n) {
+            if(n<=0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            super.request(n);
+            drain();
+            parent.replenish();
+        }
 
-                    }
-                    , e -> registeredOnError.forEach(t -> t.accept(e)), () -> registeredOnComplete.forEach(n -> n.run()));
+        @Override
+        public void cancel() {
+            super.cancel();
+            parent.remove(this);
+        }
 
+        /*
+         * Once anything has overflowed, later values queue behind it so that order is kept
+         */
+        boolean offer(Object next){
+            return overflow.isEmpty() && queue.offer(next);
+        }
+
+        private Object peek(){
+            Object next = queue.peek();
+            return next!=null ? next : overflow.peek();
+        }
+
+        private void poll(){
+            if(queue.poll()==null)
+                overflow.poll();
+        }
+
+        private void clear(){
+            queue.clear();
+            overflow.clear();
+        }
+
+        void disconnect(Throwable t){
+            disconnected = t;
+            isOpen = false;
+            parent.remove(this);
+            drain();
+        }
+
+        void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            if(parent.executor!=null)
+                parent.executor.execute(this::drainLoop);
+            else
+                drainLoop();
+        }
+
+        private void drainLoop(){
+            int missed = 1;
+            do {
+                if(terminated)
+                    return;
+                Throwable t = disconnected;
+                if(t!=null){
+                    terminated = true;
+                    clear();
+                    onError.accept(t);
+                    return;
+                }
+                if(!isOpen){
+                    clear();
+                    return;
+                }
+                long r = requested.get();
+                long delivered = 0;
+                while(isOpen){
+                    Object next = peek();
+                    if(next==null)
+                        break;
+                    if(next instanceof Failure){
+                        poll();
+                        onError.accept(((Failure)next).error);
+                        continue;
+                    }
+                    if(delivered==r)
+                        break;
+                    poll();
+                    try {
+                        onNext.accept(next==NULL ? null : (T)next);
+                    } catch (Throwable e) {
+                        onError.accept(e);
+                    }
+                    delivered++;
+                }
+                if(delivered!=0 && r!=Long.MAX_VALUE)
+                    requested.addAndGet(-delivered);
+                if(queue.isEmpty() && overflow.isEmpty() && done && isOpen){
+                    terminated = true;
+                    onComplete.run();
+                    return;
+                }
+                if(delivered!=0)
+                    parent.replenish();
+                missed = wip.addAndGet(-missed);
+            }while(missed!=0);
+        }
     }
 }
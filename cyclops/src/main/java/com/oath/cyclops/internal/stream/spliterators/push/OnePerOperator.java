@@ -0,0 +1,181 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.util.HashedWheelTimer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Emits at most one element per time period, requesting one element at a time from upstream. Once an element has
+ * been emitted the next is held until a {@link HashedWheelTimer} timeout for the period fires, so neither the
+ * upstream nor the subscriber thread is parked.
+ *
+ * Elements may be emitted on the timer thread, so Streams using this operator are asynchronous.
+ */
+public class OnePerOperator<T> extends BaseOperator<T,T> {
+
+    private static final Object UNSET = new Object();
+
+    private final long time;
+    private final TimeUnit t;
+    private final HashedWheelTimer timer;
+
+    public OnePerOperator(Operator<T> source, long time, TimeUnit t, HashedWheelTimer timer){
+        super(source);
+        this.time = time;
+        this.t = t;
+        this.timer = timer;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        Gate gate = new Gate(onNext,onError,onComplete,upstream);
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                gate.drain();
+            }
+
+            @Override
+            public void cancel() {
+                gate.stop();
+                if(upstream[0]!=null)
+                    upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        gate.sub = sub;
+        upstream[0] = source.subscribe(gate::next,gate::error,gate::complete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //the upstream is paced by this operator regardless of downstream demand
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    /*
+     * Emission state for a single subscription. State changes from the upstream, the subscriber and the timer thread
+     * are serialized on this, signals are emitted outside the lock by whichever thread wins the drain
+     */
+    private final class Gate {
+        private final Consumer<? super T> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable onComplete;
+        private final StreamSubscription[] upstream;
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private StreamSubscription sub;
+        private Object pending = UNSET;
+        private Throwable error;
+        private boolean waiting;
+        private boolean requested;
+        private boolean done;
+        private boolean terminated;
+
+        Gate(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
+             StreamSubscription[] upstream){
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+            this.upstream = upstream;
+        }
+
+        void next(T e){
+            synchronized (this) {
+                requested = false;
+                pending = e;
+            }
+            drain();
+        }
+
+        void error(Throwable t){
+            synchronized (this) {
+                requested = false;
+                error = t;
+            }
+            drain();
+        }
+
+        void complete(){
+            synchronized (this) {
+                done = true;
+            }
+            drain();
+        }
+
+        synchronized void stop(){
+            terminated = true;
+        }
+
+        private void reopen(){
+            synchronized (this) {
+                waiting = false;
+            }
+            drain();
+        }
+
+        void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                emitReady();
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+
+        private void emitReady(){
+            Throwable error;
+            Object next = UNSET;
+            boolean complete = false;
+            boolean request = false;
+            synchronized (this) {
+                error = this.error;
+                this.error = null;
+                if(!terminated) {
+                    if (pending != UNSET && !waiting && sub.isActive()) {
+                        next = pending;
+                        pending = UNSET;
+                        waiting = true;
+                        timer.schedule(this::reopen, time, t);
+                        sub.requested.decrementAndGet();
+                    }
+                    if (pending == UNSET) {
+                        if (done) {
+                            terminated = true;
+                            complete = true;
+                        } else if (!requested && sub.isActive()) {
+                            requested = true;
+                            request = true;
+                        }
+                    }
+                }
+            }
+            if(error!=null)
+                onError.accept(error);
+            if(next!=UNSET) {
+                try {
+                    onNext.accept((T) next);
+                } catch (Throwable t) {
+                    onError.accept(t);
+                }
+            }
+            if(complete)
+                onComplete.run();
+            else if(request)
+                request(upstream,1);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.util.HashedWheelTimer;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Groups elements into windows of a fixed duration (optionally also bounded in size), closed by a
+ * {@link HashedWheelTimer} rather than by the arrival of the next element. A partially filled window is emitted
+ * when its time is up even if the upstream is idle, and elements are not timestamped on arrival.
+ *
+ * Groups may be emitted on the timer thread, so Streams using this operator are asynchronous.
+ */
+public class TimedGroupingOperator<T,C extends PersistentCollection<? super T>,R> extends BaseOperator<T,R> {
+
+    private final Supplier<? extends C> factory;
+    private final Function<? super C, ? extends R> finalizer;
+    private final long time;
+    private final TimeUnit t;
+    private final int groupSize;
+    private final HashedWheelTimer timer;
+
+    public TimedGroupingOperator(Operator<T> source, Supplier<? extends C> factory,
+                                 Function<? super C, ? extends R> finalizer, long time,
+                                 TimeUnit t, int groupSize, HashedWheelTimer timer){
+        super(source);
+        this.factory = factory;
+        this.finalizer = finalizer;
+        this.time = time;
+        this.t = t;
+        this.groupSize = groupSize;
+        this.timer = timer;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        Window window = new Window(onNext,onError);
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                upstream[0].request(n);
+            }
+
+            @Override
+            public void cancel() {
+                window.stop();
+                if(upstream[0]!=null)
+                    upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        window.sub = sub;
+        window.start();
+        upstream[0] = source.subscribe(e-> {
+                    if(!window.add(e) && sub.isActive())
+                        request(upstream,1l);
+                }
+                ,t->{
+                    window.error(t);
+                    if(sub.isActive())
+                        request(upstream,1);
+                },()->{
+                    window.complete(()->{
+                        sub.cancel();
+                        onComplete.run();
+                    });
+                });
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Window window = new Window(onNext,onError);
+        window.start();
+        source.subscribeAll(window::add,window::error,()->window.complete(onCompleteDs));
+    }
+
+    /*
+     * State of the open window for a single subscription, guarded by this. Closed groups, errors and completion are
+     * queued under the lock and emitted outside it, in order, by whichever of the subscribing and timer threads wins
+     * the drain
+     */
+    private final class Window {
+        private final Consumer<? super R> onNext;
+        private final Consumer<? super Throwable> onError;
+        //null when subscribed via subscribeAll
+        private StreamSubscription sub;
+        private final long nanos = t.toNanos(time);
+        private final ArrayDeque<Runnable> signals = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private PersistentCollection next = factory.get();
+        private HashedWheelTimer.Timeout timeout;
+        private boolean done;
+
+        Window(Consumer<? super R> onNext, Consumer<? super Throwable> onError){
+            this.onNext = onNext;
+            this.onError = onError;
+        }
+
+        synchronized void start(){
+            if(!done)
+                timeout = timer.schedule(this::expired,nanos,TimeUnit.NANOSECONDS);
+        }
+
+        synchronized void stop(){
+            done = true;
+            if(timeout!=null)
+                timeout.cancel();
+        }
+
+        /*
+         * returns true if the group was emitted
+         */
+        boolean add(T e){
+            synchronized (this) {
+                next = next.plus(e);
+                if (next.size() < groupSize)
+                    return false;
+                close();
+                //the next window starts with the next group
+                if (timeout != null)
+                    timeout.cancel();
+                start();
+            }
+            drain();
+            return true;
+        }
+
+        void error(Throwable t){
+            synchronized (this) {
+                signals.add(() -> onError.accept(t));
+            }
+            drain();
+        }
+
+        private void expired(){
+            synchronized (this) {
+                if (done)
+                    return;
+                if (next.size() > 0 && (sub == null || sub.isActive()))
+                    close();
+                start();
+            }
+            drain();
+        }
+
+        void complete(Runnable onComplete){
+            synchronized (this) {
+                stop();
+                if (next.size() > 0)
+                    close();
+                signals.add(onComplete);
+            }
+            drain();
+        }
+
+        private void close(){
+            PersistentCollection group = next;
+            next = factory.get();
+            if(sub!=null)
+                sub.requested.decrementAndGet();
+            signals.add(() -> {
+                try {
+                    onNext.accept(finalizer.apply((C) group));
+                } catch (Throwable t) {
+                    onError.accept(t);
+                }
+            });
+        }
+
+        private synchronized Runnable poll(){
+            return signals.poll();
+        }
+
+        private void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                Runnable signal;
+                while((signal = poll())!=null)
+                    signal.run();
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.util.HashedWheelTimer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Terminates the Stream with a {@link TimeoutException} (and cancels the upstream) if no element or completion
+ * signal arrives within the time period of subscribing or of the previous element.
+ *
+ * Arrivals are stamped with the {@link HashedWheelTimer#currentTick()} rather than the system clock, a single
+ * timeout is outstanding per subscription and is re-armed with the remaining time when it fires early.
+ */
+public class TimeoutOperator<T> extends BaseOperator<T,T> {
+
+    private final long time;
+    private final TimeUnit t;
+    private final HashedWheelTimer timer;
+
+    public TimeoutOperator(Operator<T> source, long time, TimeUnit t, HashedWheelTimer timer){
+        super(source);
+        this.time = time;
+        this.t = t;
+        this.timer = timer;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        Watchdog watchdog = new Watchdog(onNext,onError,onComplete,upstream);
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                upstream[0].request(n);
+            }
+
+            @Override
+            public void cancel() {
+                watchdog.stop();
+                if(upstream[0]!=null)
+                    upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        upstream[0] = source.subscribe(watchdog::next,watchdog::error,watchdog::complete);
+        watchdog.start();
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private static final int IDLE = 0;
+    private static final int EMITTING = 1;
+    private static final int DONE = 2;
+
+    /*
+     * Upstream signals are emitted in the EMITTING state, the timer thread can only time out by moving from IDLE to
+     * DONE, so signals are never emitted while holding a lock (or concurrently with each other). The lock only guards
+     * the outstanding timeout.
+     */
+    private final class Watchdog {
+        private final Consumer<? super T> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable onComplete;
+        private final StreamSubscription[] upstream;
+        private final long nanos = t.toNanos(time);
+        private final long tickNanos = timer.getTickNanos();
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+        private volatile long lastTick = timer.currentTick();
+        private HashedWheelTimer.Timeout timeout;
+
+        Watchdog(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
+                 StreamSubscription[] upstream){
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+            this.upstream = upstream;
+        }
+
+        void start(){
+            schedule(nanos);
+        }
+
+        void stop(){
+            state.set(DONE);
+            cancelTimeout();
+        }
+
+        private synchronized void schedule(long delay){
+            if(state.get()!=DONE)
+                timeout = timer.schedule(this::check,delay,TimeUnit.NANOSECONDS);
+        }
+
+        private synchronized void cancelTimeout(){
+            if(timeout!=null)
+                timeout.cancel();
+        }
+
+        void next(T e){
+            if(!state.compareAndSet(IDLE,EMITTING))
+                return;
+            lastTick = timer.currentTick();
+            try {
+                onNext.accept(e);
+            } finally {
+                state.compareAndSet(EMITTING,IDLE);
+            }
+        }
+
+        void error(Throwable t){
+            if(!state.compareAndSet(IDLE,EMITTING))
+                return;
+            lastTick = timer.currentTick();
+            try {
+                onError.accept(t);
+            } finally {
+                state.compareAndSet(EMITTING,IDLE);
+            }
+        }
+
+        void complete(){
+            if(state.getAndSet(DONE)==DONE)
+                return;
+            cancelTimeout();
+            onComplete.run();
+        }
+
+        private void check(){
+            if(state.get()==DONE)
+                return;
+            //the last arrival may have been up to a tick later than lastTick
+            long idle = (timer.currentTick() - lastTick - 1) * tickNanos;
+            if(idle >= nanos && state.compareAndSet(IDLE,DONE)) {
+                upstream[0].cancel();
+                onError.accept(new TimeoutException("No element received within " + time + " " + t));
+                return;
+            }
+            //an element arrived within the period, or is being emitted now
+            schedule(Math.max(tickNanos,nanos - Math.max(0,idle)));
+        }
+    }
+}
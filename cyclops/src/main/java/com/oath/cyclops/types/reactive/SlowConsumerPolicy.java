@@ -0,0 +1,12 @@
+package com.oath.cyclops.types.reactive;
+
+/**
+ * Determines how a multicasting stage treats a subscriber whose buffer is full
+ *
+ * DROP : new values are discarded for that subscriber only, other subscribers are unaffected
+ * BLOCK : the shared upstream is only requested at the pace of the slowest subscriber
+ * DISCONNECT : the subscriber is sent an error and removed, other subscribers are unaffected
+ */
+public enum SlowConsumerPolicy {
+    DROP, BLOCK, DISCONNECT
+}
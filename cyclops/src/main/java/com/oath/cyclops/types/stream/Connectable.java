@@ -4,6 +4,7 @@ import java.util.Queue;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import cyclops.reactive.ReactiveSeq;
@@ -85,6 +86,40 @@ public interface Connectable<T> {
      */
     public ReactiveSeq<T> connect(Queue<T> queue);
 
+    /**
+     * Connect to this Connectable via a bounded buffer of the specified size, applying the supplied policy if the
+     * connected Stream falls a full buffer behind. Other connections are unaffected by a slow connection unless
+     * the policy is BLOCK.
+     *
+     * <pre>
+     * {@code
+     *  Connectable<Tick> feed = ticks.hotStream(exec);
+     *  ReactiveSeq<Tick> dashboard = feed.connect(1024, SlowConsumerPolicy.DROP);
+     * }
+     * </pre>
+     *
+     * @param bufferSize Size of the transfer buffer for this connection
+     * @param policy Policy to apply when the transfer buffer is full
+     * @return Stream connected to the Connectable emitting data
+     */
+    public default ReactiveSeq<T> connect(final int bufferSize, final SlowConsumerPolicy policy) {
+        return connect(new OneToOneConcurrentArrayQueue<T>(
+                                                           bufferSize), policy);
+    }
+
+    /**
+     * Connect to this Connectable using the provided transfer Queue, applying the supplied policy when the Queue is full
+     * : DROP discards elements for this connection, DISCONNECT ends this connection and BLOCK holds up emission until space
+     * is available.
+     *
+     * @param queue Transfer Queue between the Streams
+     * @param policy Policy to apply when the transfer Queue is full
+     * @return Stream connected to the Connectable emitting data
+     */
+    public default ReactiveSeq<T> connect(final Queue<T> queue, final SlowConsumerPolicy policy) {
+        return connect(queue);
+    }
+
     /**
      * Connect to this Connectable using the provided transfer async.Queue.
      * The transfer Queue can be used to apply backpressure to the Connectable if it produces
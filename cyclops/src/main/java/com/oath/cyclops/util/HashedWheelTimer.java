@@ -0,0 +1,222 @@
+package com.oath.cyclops.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timing wheel for scheduling large numbers of short lived timeouts with constant time insertion and
+ * cancellation.
+ *
+ * Timeouts are bucketed by the tick they expire on, a single daemon worker thread advances one bucket per tick and
+ * runs the tasks that have expired. Timeouts never fire early and fire at most one tick late (plus the time taken by
+ * the tasks ahead of them). Tasks run on the worker thread and should hand long running work off to an Executor.
+ * The worker parks while no timeouts are scheduled.
+ *
+ * <pre>
+ * {@code
+ *  HashedWheelTimer.Timeout timeout = HashedWheelTimer.shared()
+ *                                                     .schedule(()->flush(),10,TimeUnit.MILLISECONDS);
+ *  timeout.cancel();
+ * }
+ * </pre>
+ */
+public final class HashedWheelTimer {
+
+    private static final HashedWheelTimer SHARED = new HashedWheelTimer("cyclops-timer", 1, TimeUnit.MILLISECONDS, 512);
+
+    private final long tickNanos;
+    private final Timeout[] heads;
+    private final Timeout[] tails;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final Thread worker;
+    private final long startTime = System.nanoTime();
+
+    private volatile long currentTick = 0;
+    private volatile boolean idle = false;
+    //worker thread only
+    private int scheduled = 0;
+
+    /**
+     * @param name Name of the worker thread
+     * @param tickDuration Precision of the timer
+     * @param unit Time unit of tickDuration
+     * @param wheelSize Number of buckets in the wheel, rounded up to a power of 2
+     */
+    public HashedWheelTimer(final String name, final long tickDuration, final TimeUnit unit, final int wheelSize) {
+        if (tickDuration <= 0)
+            throw new IllegalArgumentException("Tick duration must be greater than 0");
+        this.tickNanos = unit.toNanos(tickDuration);
+        final int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.heads = new Timeout[size];
+        this.tails = new Timeout[size];
+        this.mask = size - 1;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * @return Timer shared by the time based Stream operators, with a 1 millisecond tick
+     */
+    public static HashedWheelTimer shared() {
+        return SHARED;
+    }
+
+    /**
+     * Run task once, after delay has elapsed
+     *
+     * @param task Task to run on the timer thread
+     * @param delay Time to wait
+     * @param unit Time unit for delay
+     * @return Timeout that can be used to cancel the task
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        if (started.compareAndSet(false, true))
+            worker.start();
+        final Timeout timeout = new Timeout(task, System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay)));
+        pending.offer(timeout);
+        if (idle)
+            LockSupport.unpark(worker);
+        return timeout;
+    }
+
+    /**
+     * @return Precision of this timer in nanoseconds
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * A coarse clock advanced by the worker thread, System.nanoTime is only consulted while the timer is idle.
+     *
+     * @return Number of ticks that have elapsed
+     */
+    public long currentTick() {
+        if (idle)
+            return (System.nanoTime() - startTime) / tickNanos;
+        return currentTick;
+    }
+
+    private void run() {
+        long tick = (System.nanoTime() - startTime) / tickNanos;
+        for (;;) {
+            if (scheduled == 0 && pending.isEmpty()) {
+                idle = true;
+                if (pending.isEmpty())
+                    LockSupport.park(this);
+                tick = Math.max(tick, (System.nanoTime() - startTime) / tickNanos);
+                currentTick = tick;
+                idle = false;
+                continue;
+            }
+            awaitTick(tick + 1);
+            transferPending(tick);
+            expire((int) tick & mask);
+            currentTick = ++tick;
+        }
+    }
+
+    private void awaitTick(final long tick) {
+        final long deadline = tick * tickNanos;
+        long remaining;
+        while ((remaining = deadline - (System.nanoTime() - startTime)) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private void transferPending(final long tick) {
+        Timeout next;
+        while ((next = pending.poll()) != null) {
+            if (next.state.get() != Timeout.WAITING)
+                continue;
+            final long expiresOn = next.deadline / tickNanos;
+            next.remainingRounds = (expiresOn - tick) / heads.length;
+            final int index = (int) Math.max(expiresOn, tick) & mask;
+            next.prev = tails[index];
+            if (tails[index] == null)
+                heads[index] = next;
+            else
+                tails[index].next = next;
+            tails[index] = next;
+            scheduled++;
+        }
+    }
+
+    private void expire(final int index) {
+        Timeout next = heads[index];
+        while (next != null) {
+            final Timeout current = next;
+            next = current.next;
+            if (current.state.get() == Timeout.CANCELLED) {
+                remove(index, current);
+            } else if (current.remainingRounds <= 0) {
+                remove(index, current);
+                if (current.state.compareAndSet(Timeout.WAITING, Timeout.EXPIRED)) {
+                    try {
+                        current.task.run();
+                    } catch (final Throwable t) {
+                        worker.getUncaughtExceptionHandler()
+                              .uncaughtException(worker, t);
+                    }
+                }
+            } else {
+                current.remainingRounds--;
+            }
+        }
+    }
+
+    private void remove(final int index, final Timeout timeout) {
+        if (timeout.prev == null)
+            heads[index] = timeout.next;
+        else
+            timeout.prev.next = timeout.next;
+        if (timeout.next == null)
+            tails[index] = timeout.prev;
+        else
+            timeout.next.prev = timeout.prev;
+        timeout.prev = timeout.next = null;
+        scheduled--;
+    }
+
+    /**
+     * Handle for a task scheduled on a {@link HashedWheelTimer}
+     */
+    public static final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the task was cancelled before it ran
+         */
+        public boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+}
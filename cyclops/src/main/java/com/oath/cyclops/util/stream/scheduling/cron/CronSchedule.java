@@ -0,0 +1,269 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+/**
+ * A cron expression compiled once into bitsets (one per field), for repeated evaluation of the next fire time.
+ *
+ * {@link #nextFireAfter(long)} works directly on epoch millis with integer calendar arithmetic, it does not allocate
+ * Dates or Calendars. Expressions using the L, W or # modifiers or restricting the year are evaluated via
+ * {@link CronExpression}.
+ *
+ * <pre>
+ * {@code
+ *  CronSchedule schedule = CronSchedule.of("0 0/5 * * * ?");
+ *  long next = schedule.nextFireAfter(System.currentTimeMillis());
+ * }
+ * </pre>
+ */
+public final class CronSchedule {
+
+    private static final int MAX_CACHED = 1024;
+    private static final ConcurrentMap<String, CronSchedule> cache = new ConcurrentHashMap<>();
+
+    /*
+     * Searches further than this many years ahead (e.g. 30th February) find no fire time
+     */
+    private static final int MAX_YEARS_AHEAD = 8;
+    private static final int MAX_ATTEMPTS = 86400;
+
+    private final String cron;
+    private final TimeZone timeZone;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean dayOfMonthSpecified;
+    private final CronExpression fallback;
+
+    private CronSchedule(final CronExpression expression) {
+        this.cron = expression.getCronExpression();
+        this.timeZone = expression.getTimeZone();
+        this.seconds = bits(expression.seconds, 0, 59);
+        this.minutes = bits(expression.minutes, 0, 59);
+        this.hours = bits(expression.hours, 0, 23);
+        this.daysOfMonth = bits(expression.daysOfMonth, 1, 31);
+        this.months = bits(expression.months, 1, 12);
+        this.daysOfWeek = bits(expression.daysOfWeek, 1, 7);
+        this.dayOfMonthSpecified = !expression.daysOfMonth.contains(CronExpression.NO_SPEC);
+        final boolean simple = !expression.lastdayOfMonth && !expression.nearestWeekday && !expression.lastdayOfWeek
+                && expression.nthdayOfWeek == 0 && expression.years.contains(CronExpression.ALL_SPEC);
+        this.fallback = simple ? null : expression;
+    }
+
+    /**
+     * Compile a cron expression, compiled schedules are cached and shared by expression
+     *
+     * @param cron Cron expression
+     * @return Compiled schedule
+     */
+    public static CronSchedule of(final String cron) {
+        final CronSchedule cached = cache.get(cron);
+        if (cached != null)
+            return cached;
+        final CronSchedule schedule = compile(cron);
+        if (cache.size() < MAX_CACHED)
+            cache.putIfAbsent(cron, schedule);
+        return schedule;
+    }
+
+    /**
+     * Compile a cron expression without caching it
+     *
+     * @param cron Cron expression
+     * @return Compiled schedule
+     */
+    public static CronSchedule compile(final String cron) {
+        try {
+            return new CronSchedule(new CronExpression(cron));
+        } catch (final ParseException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @param epochMillis Time to search from
+     * @return The first fire time (in epoch millis) strictly after epochMillis, or -1 if there is none
+     */
+    public long nextFireAfter(final long epochMillis) {
+        if (fallback != null) {
+            final Date next = fallback.getNextValidTimeAfter(new Date(epochMillis));
+            return next == null ? -1 : next.getTime();
+        }
+        final long after = Math.floorDiv(epochMillis, 1000) + 1;
+        long local = after + timeZone.getOffset(after * 1000) / 1000;
+        //skip local times that do not exist (DST gap) or that are not after epochMillis (DST overlap)
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            final long next = nextLocal(local);
+            if (next == -1)
+                return -1;
+            final long utc = toUtc(next);
+            if (utc >= after && utc + timeZone.getOffset(utc * 1000) / 1000 == next)
+                return utc * 1000;
+            local = next + 1;
+        }
+        return -1;
+    }
+
+    public String getCronExpression() {
+        return cron;
+    }
+
+    @Override
+    public String toString() {
+        return cron;
+    }
+
+    private long toUtc(final long localSeconds) {
+        final int guess = timeZone.getOffset(localSeconds * 1000 - timeZone.getRawOffset()) / 1000;
+        final long utc = localSeconds - guess;
+        final int actual = timeZone.getOffset(utc * 1000) / 1000;
+        return actual == guess ? utc : localSeconds - actual;
+    }
+
+    /*
+     * First local time (in seconds since the local epoch) at or after localSeconds that matches every field
+     */
+    private long nextLocal(final long localSeconds) {
+        long days = Math.floorDiv(localSeconds, 86400);
+        final int secondOfDay = (int) Math.floorMod(localSeconds, 86400);
+        int hour = secondOfDay / 3600;
+        int minute = (secondOfDay / 60) % 60;
+        int second = secondOfDay % 60;
+
+        //civil date from days since epoch (proleptic Gregorian)
+        final long z = days + 719468;
+        final long era = Math.floorDiv(z, 146097);
+        final int doe = (int) (z - era * 146097);
+        final int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+        final int maxYear = year + MAX_YEARS_AHEAD;
+
+        for (;;) {
+            if (year > maxYear)
+                return -1;
+            if (!isSet(months, month)) {
+                if (++month > 12) {
+                    month = 1;
+                    year++;
+                }
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (day > lengthOfMonth(year, month)) {
+                day = 1;
+                hour = minute = second = 0;
+                if (++month > 12) {
+                    month = 1;
+                    year++;
+                }
+                continue;
+            }
+            if (!dayMatches(year, month, day)) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            final int nextHour = nextSet(hours, hour);
+            if (nextHour == -1) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+            final int nextMinute = nextSet(minutes, minute);
+            if (nextMinute == -1) {
+                hour++;
+                minute = second = 0;
+                if (hour > 23) {
+                    day++;
+                    hour = 0;
+                }
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+            final int nextSecond = nextSet(seconds, second);
+            if (nextSecond == -1) {
+                second = 0;
+                if (++minute > 59) {
+                    minute = 0;
+                    if (++hour > 23) {
+                        day++;
+                        hour = 0;
+                    }
+                }
+                continue;
+            }
+            return daysFromCivil(year, month, day) * 86400 + hour * 3600 + minute * 60 + nextSecond;
+        }
+    }
+
+    private boolean dayMatches(final int year, final int month, final int day) {
+        if (dayOfMonthSpecified)
+            return isSet(daysOfMonth, day);
+        //1 is Sunday, 1970-01-01 was a Thursday
+        final int dayOfWeek = (int) Math.floorMod(daysFromCivil(year, month, day) + 4, 7) + 1;
+        return isSet(daysOfWeek, dayOfWeek);
+    }
+
+    private static long daysFromCivil(final int year, final int month, final int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final int yoe = (int) (y - era * 400);
+        final int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isSet(final long bits, final int index) {
+        return (bits & (1L << index)) != 0;
+    }
+
+    private static int nextSet(final long bits, final int from) {
+        final long remaining = bits >>> from;
+        return remaining == 0 ? -1 : from + Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static long bits(final Set<Integer> values, final int min, final int max) {
+        long bits = 0;
+        for (final Integer next : values) {
+            if (next >= min && next <= max)
+                bits |= 1L << next;
+        }
+        return bits;
+    }
+}
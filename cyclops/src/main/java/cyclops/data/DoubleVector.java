@@ -0,0 +1,313 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveTrie;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed doubles.
+ *
+ * Shares the 32 way trie shape of {@link Vector}, but stores elements in double[] leaves so that iteration,
+ * folds and maps do not box.
+ *
+ * <pre>
+ *     {@code
+ *      DoubleVector v = DoubleVector.of(1.5,2.5,3.0);
+ *      double total = v.map(d->d*2).sum();
+ *     }
+ * </pre>
+ */
+public final class DoubleVector implements Iterable<Double>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final double[] EMPTY_TAIL = new double[0];
+    private static final DoubleVector EMPTY = new DoubleVector(PrimitiveTrie.empty(), EMPTY_TAIL);
+
+    private final PrimitiveTrie trie;
+    private final double[] tail;
+    private final int size;
+
+    private DoubleVector(PrimitiveTrie trie, double[] tail) {
+        this.trie = trie;
+        this.tail = tail;
+        this.size = trie.size() + tail.length;
+    }
+
+    public static DoubleVector empty() {
+        return EMPTY;
+    }
+
+    public static DoubleVector of(double... values) {
+        return EMPTY.appendAll(values);
+    }
+
+    public static DoubleVector fromStream(DoubleStream stream) {
+        return fromIterator(stream.iterator());
+    }
+
+    public static DoubleVector fromIterable(Iterable<Double> values) {
+        if (values instanceof DoubleVector)
+            return (DoubleVector) values;
+        Builder builder = new Builder(PrimitiveTrie.empty(), EMPTY_TAIL);
+        for (Double next : values) {
+            builder.add(next);
+        }
+        return builder.build();
+    }
+
+    public static DoubleVector fromVector(Vector<Double> vector) {
+        return fromIterable(vector);
+    }
+
+    public static DoubleVector fromIterator(PrimitiveIterator.OfDouble it) {
+        return EMPTY.appendAll(it);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    public double getOrElse(int pos, double alt) {
+        if (pos < 0 || pos >= size)
+            return alt;
+        return unsafeGet(pos);
+    }
+
+    public Option<Double> get(int pos) {
+        if (pos < 0 || pos >= size)
+            return Option.none();
+        return Option.some(unsafeGet(pos));
+    }
+
+    private double unsafeGet(int pos) {
+        if (pos >= tailOffset())
+            return tail[pos - tailOffset()];
+        return ((double[]) trie.leafFor(pos))[pos & (PrimitiveTrie.SIZE - 1)];
+    }
+
+    public DoubleVector append(double value) {
+        if (tail.length == PrimitiveTrie.SIZE - 1) {
+            double[] leaf = Arrays.copyOf(tail, PrimitiveTrie.SIZE);
+            leaf[tail.length] = value;
+            return new DoubleVector(trie.appendLeaf(leaf), EMPTY_TAIL);
+        }
+        double[] newTail = Arrays.copyOf(tail, tail.length + 1);
+        newTail[tail.length] = value;
+        return new DoubleVector(trie, newTail);
+    }
+
+    public DoubleVector plus(double value) {
+        return append(value);
+    }
+
+    public DoubleVector appendAll(double... values) {
+        Builder builder = new Builder(trie, tail);
+        for (double next : values) {
+            builder.add(next);
+        }
+        return builder.build();
+    }
+
+    public DoubleVector appendAll(DoubleVector values) {
+        if (isEmpty())
+            return values;
+        return appendAll(values.iterator());
+    }
+
+    private DoubleVector appendAll(PrimitiveIterator.OfDouble it) {
+        Builder builder = new Builder(trie, tail);
+        while (it.hasNext()) {
+            builder.add(it.nextDouble());
+        }
+        return builder.build();
+    }
+
+    public DoubleVector updateAt(int pos, double value) {
+        if (pos < 0 || pos >= size)
+            return this;
+        if (pos >= tailOffset()) {
+            double[] newTail = tail.clone();
+            newTail[pos - tailOffset()] = value;
+            return new DoubleVector(trie, newTail);
+        }
+        double[] leaf = ((double[]) trie.leafFor(pos)).clone();
+        leaf[pos & (PrimitiveTrie.SIZE - 1)] = value;
+        return new DoubleVector(trie.setLeaf(pos, leaf), tail);
+    }
+
+    public DoubleVector map(DoubleUnaryOperator fn) {
+        PrimitiveTrie mapped = trie.mapLeaves(leaf -> mapArray((double[]) leaf, fn));
+        return new DoubleVector(mapped, mapArray(tail, fn));
+    }
+
+    private static double[] mapArray(double[] array, DoubleUnaryOperator fn) {
+        double[] res = new double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            res[i] = fn.applyAsDouble(array[i]);
+        }
+        return res;
+    }
+
+    public DoubleVector filter(DoublePredicate predicate) {
+        Builder builder = new Builder(PrimitiveTrie.empty(), EMPTY_TAIL);
+        forEachDouble(i -> {
+            if (predicate.test(i))
+                builder.add(i);
+        });
+        return builder.build();
+    }
+
+    public void forEachDouble(DoubleConsumer consumer) {
+        trie.forEachLeaf(leaf -> {
+            for (double next : (double[]) leaf) {
+                consumer.accept(next);
+            }
+        });
+        for (double next : tail) {
+            consumer.accept(next);
+        }
+    }
+
+    public double foldLeft(double zero, DoubleBinaryOperator fn) {
+        double[] acc = {zero};
+        forEachDouble(i -> acc[0] = fn.applyAsDouble(acc[0], i));
+        return acc[0];
+    }
+
+    /**
+     * @return Sum of all elements, using simple (uncompensated) summation
+     */
+    public double sum() {
+        double[] acc = {0};
+        forEachDouble(i -> acc[0] += i);
+        return acc[0];
+    }
+
+    public double[] toArray() {
+        double[] res = new double[size];
+        int[] pos = {0};
+        trie.forEachLeaf(leaf -> {
+            System.arraycopy(leaf, 0, res, pos[0], PrimitiveTrie.SIZE);
+            pos[0] += PrimitiveTrie.SIZE;
+        });
+        System.arraycopy(tail, 0, res, pos[0], tail.length);
+        return res;
+    }
+
+    public Vector<Double> vector() {
+        Vector.Transient<Double> res = Vector.<Double>empty().asTransient();
+        forEachDouble(res::append);
+        return res.persistent();
+    }
+
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(Spliterators.spliterator(iterator(), size,
+                        Spliterator.ORDERED | Spliterator.IMMUTABLE), false);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            int index = 0;
+            double[] leaf = EMPTY_TAIL;
+            int leafStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                if (index - leafStart >= leaf.length) {
+                    leafStart = index;
+                    leaf = index >= tailOffset() ? tail : (double[]) trie.leafFor(index);
+                }
+                return leaf[index++ - leafStart];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof DoubleVector))
+            return false;
+        DoubleVector other = (DoubleVector) o;
+        if (size != other.size)
+            return false;
+        PrimitiveIterator.OfDouble a = iterator();
+        PrimitiveIterator.OfDouble b = other.iterator();
+        while (a.hasNext()) {
+            if (Double.doubleToLongBits(a.nextDouble()) != Double.doubleToLongBits(b.nextDouble()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Same hashCode as the equivalent Vector of Doubles
+     */
+    @Override
+    public int hashCode() {
+        int[] hashCode = {1};
+        forEachDouble(i -> hashCode[0] = 31 * hashCode[0] + Double.hashCode(i));
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /*
+     * Appends into a fresh tail, pushing each full leaf into the trie
+     */
+    private static final class Builder {
+        private PrimitiveTrie trie;
+        private double[] leaf = new double[PrimitiveTrie.SIZE];
+        private int count;
+
+        Builder(PrimitiveTrie trie, double[] tail) {
+            this.trie = trie;
+            System.arraycopy(tail, 0, leaf, 0, tail.length);
+            this.count = tail.length;
+        }
+
+        void add(double value) {
+            leaf[count++] = value;
+            if (count == PrimitiveTrie.SIZE) {
+                trie = trie.appendLeaf(leaf);
+                leaf = new double[PrimitiveTrie.SIZE];
+                count = 0;
+            }
+        }
+
+        DoubleVector build() {
+            return new DoubleVector(trie, count == 0 ? EMPTY_TAIL : Arrays.copyOf(leaf, count));
+        }
+    }
+}
@@ -7,8 +7,11 @@ import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
+import cyclops.function.Monoid;
 import com.oath.cyclops.hkt.DataWitness.hashMap;
-import cyclops.data.base.HAMT;
+import cyclops.data.base.CHAMP;
+import cyclops.data.base.ParallelTraversal;
+import cyclops.data.base.TransientOwner;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
@@ -19,7 +22,9 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 
@@ -27,11 +32,11 @@ import java.util.stream.Stream;
 @AllArgsConstructor
 public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,Higher2<hashMap,K,V>, Serializable{
 
-    private final HAMT.Node<K,V> map;
+    private final CHAMP.Node<K,V> map;
     private static final long serialVersionUID = 1L;
 
     public static <K,V> HashMap<K,V> empty(){
-        return new HashMap<>(HAMT.empty());
+        return new HashMap<>(CHAMP.empty());
     }
     public static <K,V> HashMap<K,V> of(K k,V v){
         HashMap<K,V> res = empty();
@@ -40,21 +45,21 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromMap(Map<K,V> map){
-        HashMap<K,V> res = empty();
+        Transient<K,V> res = HashMap.<K,V>empty().asTransient();
         for(Map.Entry<K,V> next : map.entrySet()){
-            res = res.put(next.getKey(),next.getValue());
+            res.put(next.getKey(),next.getValue());
         }
-        return res;
+        return res.persistent();
     }
     public static <K,V> HashMap<K,V> fromMap(PersistentMap<K,V> map){
         if(map instanceof HashMap){
             return (HashMap)map;
         }
-        HashMap<K,V> res = empty();
+        Transient<K,V> res = HashMap.<K,V>empty().asTransient();
         for(Tuple2<K,V> next : map){
-            res = res.put(next._1(),next._2());
+            res.put(next._1(),next._2());
         }
-        return res;
+        return res.persistent();
     }
     public static <K,V> HashMap<K,V> of(K k1,V v1,K k2, V v2){
         HashMap<K,V> res = empty();
@@ -62,7 +67,72 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromStream(Stream<Tuple2<K,V>> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.put(t2._1(),t2._2()));
+        //the transient is confined to this thread, so parallel Streams are iterated rather than forEach'd
+        Transient<K,V> res = HashMap.<K,V>empty().asTransient();
+        Iterator<Tuple2<K,V>> it = stream.iterator();
+        while(it.hasNext()){
+            Tuple2<K,V> next = it.next();
+            res.put(next._1(),next._2());
+        }
+        return res.persistent();
+    }
+
+    /**
+     * Create a transient (batch-mutable) view of this HashMap. Trie nodes created by the transient are updated in place
+     * by subsequent puts, rather than path copied. The transient may only be used by the creating thread, and not at all
+     * after persistent() has been called.
+     *
+     * <pre>
+     * {@code
+     *     HashMap.Transient<Integer,String> t = HashMap.<Integer,String>empty().asTransient();
+     *     for(int i=0;i<1_000_000;i++)
+     *          t.put(i,"value"+i);
+     *     HashMap<Integer,String> map = t.persistent();
+     * }
+     * </pre>
+     *
+     * @return Transient HashMap containing the entries of this HashMap
+     */
+    public Transient<K,V> asTransient(){
+        return new Transient<>(map);
+    }
+
+    public static final class Transient<K,V> {
+        private final TransientOwner owner = new TransientOwner();
+        private CHAMP.Node<K,V> map;
+
+        private Transient(CHAMP.Node<K, V> map) {
+            this.map = map;
+        }
+
+        public Transient<K,V> put(K key, V value){
+            owner.ensureEditable();
+            map = map.plus(owner,0,key.hashCode(),key,value);
+            return this;
+        }
+
+        public Transient<K,V> remove(K key){
+            owner.ensureEditable();
+            map = map.minus(0,key.hashCode(),key);
+            return this;
+        }
+
+        public Option<V> get(K key){
+            owner.ensureEditable();
+            return map.get(0,key.hashCode(),key);
+        }
+
+        public int size(){
+            return map.size();
+        }
+
+        /**
+         * @return Persistent HashMap containing all entries, this transient can no longer be used
+         */
+        public HashMap<K,V> persistent(){
+            owner.release();
+            return new HashMap<>(map);
+        }
     }
 
     public int size(){
@@ -80,10 +150,77 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
         return DMap.three(this,two.map1(),two.map2());
     }
 
+    /**
+     * Merge two HashMaps at the trie level, walking both tries together rather than re-inserting entry by entry.
+     * The resolver is called for every key present in both maps.
+     *
+     * <pre>
+     * {@code
+     *     HashMap<String,Integer> merged = HashMap.of("a",1,"b",2)
+     *                                             .merge(HashMap.of("b",10,"c",3),(a,b)->a+b);
+     *     //[a=1,b=12,c=3]
+     * }
+     * </pre>
+     *
+     * @param other HashMap to merge with
+     * @param resolver Resolves the value for keys present in both maps (this map's value is passed first)
+     * @return HashMap containing the entries of both maps
+     */
+    public HashMap<K,V> merge(HashMap<K,V> other, BiFunction<? super V, ? super V, ? extends V> resolver){
+        return new HashMap<>(map.merge(other.map,resolver));
+    }
+
+    /**
+     * @param other HashMap whose keys should be removed
+     * @return HashMap containing the entries of this map whose keys are not present in other
+     */
+    public HashMap<K,V> difference(HashMap<K,?> other){
+        return new HashMap<>(map.difference(other.map));
+    }
+
+    /**
+     * @param other HashMap whose keys should be retained
+     * @return HashMap containing the entries of this map whose keys are also present in other
+     */
+    public HashMap<K,V> intersection(HashMap<K,?> other){
+        return new HashMap<>(map.intersect(other.map));
+    }
+
     public ReactiveSeq<Tuple2<K,V>> stream(){
         return map.stream();
     }
 
+    /**
+     * Fold the entries of this HashMap on the supplied ForkJoinPool, sub-nodes of the trie are folded as separate
+     * tasks and combined in iteration order, so the Monoid need only be associative.
+     *
+     * @param pool ForkJoinPool to run on
+     * @param monoid Monoid to fold with
+     * @return Result of the fold
+     */
+    public Tuple2<K,V> parallelFold(ForkJoinPool pool, Monoid<Tuple2<K,V>> monoid){
+        return ParallelTraversal.fold(pool,map.<Tuple2<K,V>>part(Tuple::tuple),monoid);
+    }
+
+    public Tuple2<K,V> parallelFold(Monoid<Tuple2<K,V>> monoid){
+        return parallelFold(ForkJoinPool.commonPool(),monoid);
+    }
+
+    public <A,R> R parallelCollect(ForkJoinPool pool, Collector<? super Tuple2<K,V>, A, R> collector){
+        return ParallelTraversal.collect(pool,map.<Tuple2<K,V>>part(Tuple::tuple),collector);
+    }
+
+    public <A,R> R parallelCollect(Collector<? super Tuple2<K,V>, A, R> collector){
+        return parallelCollect(ForkJoinPool.commonPool(),collector);
+    }
+
+    /**
+     * @return Parallel JDK Stream of the entries, split on trie node boundaries
+     */
+    public Stream<Tuple2<K,V>> parallelStream(){
+        return ParallelTraversal.parallelStream(map.<Tuple2<K,V>>part(Tuple::tuple));
+    }
+
     @Override
     public <R> HashMap<K, R> mapValues(Function<? super V, ? extends R> map) {
         return fromStream(stream().map(t->t.map2(map)));
@@ -155,7 +292,7 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> removeAll(K... keys) {
-        HAMT.Node<K,V> cur = map;
+        CHAMP.Node<K,V> cur = map;
         for(K key : keys){
             cur = cur.minus(0,key.hashCode(),key);
         }
@@ -198,11 +335,14 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
-        HashMap<K,V> res = this;
+        if(map instanceof HashMap){
+            return new HashMap<>(this.map.putAll(((HashMap<K,V>)map).map));
+        }
+        Transient<K,V> res = asTransient();
         for(Tuple2<? extends K, ? extends V> e : map){
-            res = res.put(e._1(),e._2());
+            res.put(e._1(),e._2());
         }
-        return res;
+        return res.persistent();
     }
 
 
@@ -218,7 +358,7 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public Iterator<Tuple2<K, V>> iterator() {
-        return stream().iterator();
+        return map.iterator();
     }
 
     @Override
@@ -232,6 +372,10 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
         if (o == null)
           return false;
 
+        if(o instanceof HashMap){
+          HashMap<K,V> m = (HashMap<K,V>)o;
+          return map.equals(m.map);
+        }
         if(o instanceof PersistentMap){
           PersistentMap<K,V> m = (PersistentMap<K,V>)o;
           return equalTo(m);
@@ -242,7 +386,7 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public int hashCode() {
-        return map.streamNaturalOrder().foldLeft(0,(acc,t2)-> acc+t2.hashCode());
+        return map.hashCode();
     }
 
     public static <K, V> HashMap<K,V> narrow(HashMap<? extends K, ? extends V> map) {
@@ -6,7 +6,8 @@ import com.oath.cyclops.types.persistent.PersistentSet;
 import com.oath.cyclops.hkt.Higher;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.hashSet;
-import cyclops.data.base.HAMT;
+import cyclops.data.base.CHAMP;
+import cyclops.data.base.ParallelTraversal;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -23,6 +24,7 @@ import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -32,7 +34,7 @@ import java.util.stream.Stream;
 public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Serializable {
     private static final long serialVersionUID = 1L;
     @Getter
-    private final HAMT.Node<T,T> map;
+    private final CHAMP.Node<T,T> map;
 
     static <T> Collector<T, Set<T>, HashSet<T>> collector() {
         Collector<T, ?, Set<T>> c  = Collectors.toSet();
@@ -40,15 +42,15 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> empty(){
-        return new HashSet<T>( HAMT.empty());
+        return new HashSet<T>( CHAMP.empty());
     }
     public static <T> HashSet<T> singleton(T value){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        CHAMP.Node<T, T> tree = CHAMP.empty();
         tree = tree.plus(0,value.hashCode(),value,value);
         return new HashSet<>(tree);
     }
     public static <T> HashSet<T> of(T... values){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        CHAMP.Node<T, T> tree = CHAMP.empty();
         for(T value : values){
             tree = tree.plus(0,value.hashCode(),value,value);
         }
@@ -210,6 +212,9 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> plusAll(Iterable<? extends T> list) {
+          if(list instanceof HashSet){
+              return new HashSet<>(map.putAll(((HashSet<T>)list).map));
+          }
           HashSet<T> res = this;
           for(T next : list){
               res = res.plus(next);
@@ -220,6 +225,9 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> removeAll(Iterable<? extends T> list) {
+          if(list instanceof HashSet){
+              return new HashSet<>(map.difference(((HashSet<T>)list).map));
+          }
           HashSet<T> res = this;
           for(T next : list){
               res = res.removeValue(next);
@@ -229,18 +237,51 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public ReactiveSeq<T> stream() {
-          return map.stream().map(t->t._1());
+          return map.keys();
+      }
+
+      /**
+       * Fold the elements of this HashSet on the supplied ForkJoinPool, sub-nodes of the trie are folded as separate
+       * tasks and combined in iteration order, so the Monoid need only be associative.
+       *
+       * @param pool ForkJoinPool to run on
+       * @param monoid Monoid to fold with
+       * @return Result of the fold
+       */
+      public T parallelFold(ForkJoinPool pool, Monoid<T> monoid){
+          return ParallelTraversal.fold(pool,map.<T>part((k,v)->k),monoid);
+      }
+
+      public T parallelFold(Monoid<T> monoid){
+          return parallelFold(ForkJoinPool.commonPool(),monoid);
+      }
+
+      public <A,R> R parallelCollect(ForkJoinPool pool, Collector<? super T, A, R> collector){
+          return ParallelTraversal.collect(pool,map.<T>part((k,v)->k),collector);
+      }
+
+      public <A,R> R parallelCollect(Collector<? super T, A, R> collector){
+          return parallelCollect(ForkJoinPool.commonPool(),collector);
+      }
+
+      /**
+       * @return Parallel JDK Stream, split on trie node boundaries
+       */
+      public Stream<T> parallelStream(){
+          return ParallelTraversal.parallelStream(map.<T>part((k,v)->k));
       }
 
       @Override
       public Iterator<T> iterator() {
-          return stream().iterator();
+          return map.keyIterator();
       }
 
       @Override
       public boolean equals(Object o) {
           if(!(o instanceof PersistentSet) || o==null)
               return false;
+          if(o instanceof HashSet)
+              return map.equals(((HashSet)o).map);
           PersistentSet s = (PersistentSet)o;
          for(T next : this){
              if(!s.containsValue(next))
@@ -344,6 +385,9 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> retainAll(Iterable<? extends T> it) {
+          if(it instanceof HashSet){
+              return new HashSet<>(map.intersect(((HashSet<T>)it).map));
+          }
           return (HashSet<T>)ImmutableSet.super.retainAll(it);
       }
 
@@ -9,6 +9,8 @@ import cyclops.control.Eval;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.intMap;
 import cyclops.data.base.IntPatriciaTrie;
+import cyclops.data.base.ParallelTraversal;
+import cyclops.data.base.TransientOwner;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
 import cyclops.function.Function3;
@@ -24,7 +26,9 @@ import org.reactivestreams.Publisher;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -99,15 +103,11 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
         if(iterable instanceof IntMap){
             return (IntMap<T>)iterable;
         }
-        Iterator<T> it = iterable.iterator();
-        IntPatriciaTrie.Node<T> tree = IntPatriciaTrie.empty();
-        int count = 0;
-        while(it.hasNext()){
-            T next = it.next();
-            tree = tree.put(count,count,next);
-            count++;
+        Transient<T> res = IntMap.<T>empty().asTransient();
+        for(T next : iterable){
+            res.append(next);
         }
-        return new IntMap<T>(tree,count);
+        return res.persistent();
     }
     public static <T> IntMap<T> empty(){
         IntPatriciaTrie.Node<T> tree = IntPatriciaTrie.empty();
@@ -116,11 +116,59 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
     }
 
     public static <T> IntMap<T> of(T... values){
-        IntPatriciaTrie.Node<T> tree = IntPatriciaTrie.empty();
+        Transient<T> res = IntMap.<T>empty().asTransient();
         for(int i=0;i<values.length;i++){
-            tree = tree.put(i,i,values[i]);
+            res.append(values[i]);
+        }
+        return res.persistent();
+    }
+
+    /**
+     * Create a transient (batch-mutable) view of this IntMap. Trie nodes created by the transient are updated in place
+     * by subsequent appends, rather than path copied. The transient may only be used by the creating thread, and not at all
+     * after persistent() has been called.
+     *
+     * @return Transient IntMap containing the values of this IntMap
+     */
+    public Transient<T> asTransient(){
+        return new Transient<>(intMap,size);
+    }
+
+    public static final class Transient<T> {
+        private final TransientOwner owner = new TransientOwner();
+        private IntPatriciaTrie.Node<T> intMap;
+        private int size;
+
+        private Transient(IntPatriciaTrie.Node<T> intMap, int size) {
+            this.intMap = intMap;
+            this.size = size;
+        }
+
+        public Transient<T> append(T value){
+            owner.ensureEditable();
+            intMap = intMap.put(owner,size,size,value);
+            size++;
+            return this;
+        }
+
+        public Transient<T> appendAll(Iterable<? extends T> values){
+            for(T next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return size;
+        }
+
+        /**
+         * @return Persistent IntMap containing all values, this transient can no longer be used
+         */
+        public IntMap<T> persistent(){
+            owner.release();
+            return new IntMap<>(intMap,size);
         }
-        return new IntMap<T>(tree,values.length);
     }
     @Override
     public Iterator<T> iterator(){
@@ -214,6 +262,38 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
         return intMap.stream();
     }
 
+    /**
+     * Fold this IntMap on the supplied ForkJoinPool. As the trie is keyed on the low order bits of the index, sub-tries
+     * are not contiguous, instead the index range is split in half and each half folded as a separate task, so the
+     * Monoid need only be associative.
+     *
+     * @param pool ForkJoinPool to run on
+     * @param monoid Monoid to fold with
+     * @return Result of the fold
+     */
+    public T parallelFold(ForkJoinPool pool, Monoid<T> monoid){
+        return ParallelTraversal.fold(pool,ParallelTraversal.indexed(i->intMap.getOrElse(i,i,null),size),monoid);
+    }
+
+    public T parallelFold(Monoid<T> monoid){
+        return parallelFold(ForkJoinPool.commonPool(),monoid);
+    }
+
+    public <A,R> R parallelCollect(ForkJoinPool pool, Collector<? super T, A, R> collector){
+        return ParallelTraversal.collect(pool,ParallelTraversal.indexed(i->intMap.getOrElse(i,i,null),size),collector);
+    }
+
+    public <A,R> R parallelCollect(Collector<? super T, A, R> collector){
+        return parallelCollect(ForkJoinPool.commonPool(),collector);
+    }
+
+    /**
+     * @return Parallel JDK Stream, split on index ranges
+     */
+    public Stream<T> parallelStream(){
+        return ParallelTraversal.parallelStream(ParallelTraversal.indexed(i->intMap.getOrElse(i,i,null),size));
+    }
+
   @Override
   public <R1, R2, R3, R> IntMap<R> forEach4(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends Iterable<R3>> iterable3, Function4<? super T, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
     return (IntMap< R>) ImmutableList.super.forEach4(iterable1,iterable2,iterable3,yieldingFunction);
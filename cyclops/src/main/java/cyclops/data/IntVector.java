@@ -0,0 +1,322 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveTrie;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed ints.
+ *
+ * Shares the 32 way trie shape of {@link Vector}, but stores elements in int[] leaves so that iteration,
+ * folds and maps do not box.
+ *
+ * <pre>
+ *     {@code
+ *      IntVector v = IntVector.range(0,1000);
+ *      long total = v.map(i->i*2).sum();
+ *     }
+ * </pre>
+ */
+public final class IntVector implements Iterable<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int[] EMPTY_TAIL = new int[0];
+    private static final IntVector EMPTY = new IntVector(PrimitiveTrie.empty(), EMPTY_TAIL);
+
+    private final PrimitiveTrie trie;
+    private final int[] tail;
+    private final int size;
+
+    private IntVector(PrimitiveTrie trie, int[] tail) {
+        this.trie = trie;
+        this.tail = tail;
+        this.size = trie.size() + tail.length;
+    }
+
+    public static IntVector empty() {
+        return EMPTY;
+    }
+
+    public static IntVector of(int... values) {
+        return EMPTY.appendAll(values);
+    }
+
+    /**
+     * @param start Inclusive start
+     * @param end Exclusive end
+     * @return IntVector of the ints from start to end
+     */
+    public static IntVector range(int start, int end) {
+        return fromIterator(IntStream.range(start, end).iterator());
+    }
+
+    public static IntVector fromStream(IntStream stream) {
+        return fromIterator(stream.iterator());
+    }
+
+    public static IntVector fromIterable(Iterable<Integer> values) {
+        if (values instanceof IntVector)
+            return (IntVector) values;
+        Builder builder = new Builder(PrimitiveTrie.empty(), EMPTY_TAIL);
+        for (Integer next : values) {
+            builder.add(next);
+        }
+        return builder.build();
+    }
+
+    public static IntVector fromVector(Vector<Integer> vector) {
+        return fromIterable(vector);
+    }
+
+    public static IntVector fromIterator(PrimitiveIterator.OfInt it) {
+        return EMPTY.appendAll(it);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    public int getOrElse(int pos, int alt) {
+        if (pos < 0 || pos >= size)
+            return alt;
+        return unsafeGet(pos);
+    }
+
+    public Option<Integer> get(int pos) {
+        if (pos < 0 || pos >= size)
+            return Option.none();
+        return Option.some(unsafeGet(pos));
+    }
+
+    private int unsafeGet(int pos) {
+        if (pos >= tailOffset())
+            return tail[pos - tailOffset()];
+        return ((int[]) trie.leafFor(pos))[pos & (PrimitiveTrie.SIZE - 1)];
+    }
+
+    public IntVector append(int value) {
+        if (tail.length == PrimitiveTrie.SIZE - 1) {
+            int[] leaf = Arrays.copyOf(tail, PrimitiveTrie.SIZE);
+            leaf[tail.length] = value;
+            return new IntVector(trie.appendLeaf(leaf), EMPTY_TAIL);
+        }
+        int[] newTail = Arrays.copyOf(tail, tail.length + 1);
+        newTail[tail.length] = value;
+        return new IntVector(trie, newTail);
+    }
+
+    public IntVector plus(int value) {
+        return append(value);
+    }
+
+    public IntVector appendAll(int... values) {
+        Builder builder = new Builder(trie, tail);
+        for (int next : values) {
+            builder.add(next);
+        }
+        return builder.build();
+    }
+
+    public IntVector appendAll(IntVector values) {
+        if (isEmpty())
+            return values;
+        return appendAll(values.iterator());
+    }
+
+    private IntVector appendAll(PrimitiveIterator.OfInt it) {
+        Builder builder = new Builder(trie, tail);
+        while (it.hasNext()) {
+            builder.add(it.nextInt());
+        }
+        return builder.build();
+    }
+
+    public IntVector updateAt(int pos, int value) {
+        if (pos < 0 || pos >= size)
+            return this;
+        if (pos >= tailOffset()) {
+            int[] newTail = tail.clone();
+            newTail[pos - tailOffset()] = value;
+            return new IntVector(trie, newTail);
+        }
+        int[] leaf = ((int[]) trie.leafFor(pos)).clone();
+        leaf[pos & (PrimitiveTrie.SIZE - 1)] = value;
+        return new IntVector(trie.setLeaf(pos, leaf), tail);
+    }
+
+    public IntVector map(IntUnaryOperator fn) {
+        PrimitiveTrie mapped = trie.mapLeaves(leaf -> mapArray((int[]) leaf, fn));
+        return new IntVector(mapped, mapArray(tail, fn));
+    }
+
+    private static int[] mapArray(int[] array, IntUnaryOperator fn) {
+        int[] res = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            res[i] = fn.applyAsInt(array[i]);
+        }
+        return res;
+    }
+
+    public IntVector filter(IntPredicate predicate) {
+        Builder builder = new Builder(PrimitiveTrie.empty(), EMPTY_TAIL);
+        forEachInt(i -> {
+            if (predicate.test(i))
+                builder.add(i);
+        });
+        return builder.build();
+    }
+
+    public void forEachInt(IntConsumer consumer) {
+        trie.forEachLeaf(leaf -> {
+            for (int next : (int[]) leaf) {
+                consumer.accept(next);
+            }
+        });
+        for (int next : tail) {
+            consumer.accept(next);
+        }
+    }
+
+    public int foldLeft(int zero, IntBinaryOperator fn) {
+        int[] acc = {zero};
+        forEachInt(i -> acc[0] = fn.applyAsInt(acc[0], i));
+        return acc[0];
+    }
+
+    /**
+     * @return Sum of all elements, accumulated as a long to avoid overflow
+     */
+    public long sum() {
+        long[] acc = {0};
+        forEachInt(i -> acc[0] += i);
+        return acc[0];
+    }
+
+    public int[] toArray() {
+        int[] res = new int[size];
+        int[] pos = {0};
+        trie.forEachLeaf(leaf -> {
+            System.arraycopy(leaf, 0, res, pos[0], PrimitiveTrie.SIZE);
+            pos[0] += PrimitiveTrie.SIZE;
+        });
+        System.arraycopy(tail, 0, res, pos[0], tail.length);
+        return res;
+    }
+
+    public Vector<Integer> vector() {
+        Vector.Transient<Integer> res = Vector.<Integer>empty().asTransient();
+        forEachInt(res::append);
+        return res.persistent();
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), size,
+                        Spliterator.ORDERED | Spliterator.IMMUTABLE), false);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            int[] leaf = EMPTY_TAIL;
+            int leafStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                if (index - leafStart >= leaf.length) {
+                    leafStart = index;
+                    leaf = index >= tailOffset() ? tail : (int[]) trie.leafFor(index);
+                }
+                return leaf[index++ - leafStart];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof IntVector))
+            return false;
+        IntVector other = (IntVector) o;
+        if (size != other.size)
+            return false;
+        PrimitiveIterator.OfInt a = iterator();
+        PrimitiveIterator.OfInt b = other.iterator();
+        while (a.hasNext()) {
+            if (a.nextInt() != b.nextInt())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Same hashCode as the equivalent Vector of Integers
+     */
+    @Override
+    public int hashCode() {
+        int[] hashCode = {1};
+        forEachInt(i -> hashCode[0] = 31 * hashCode[0] + Integer.hashCode(i));
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /*
+     * Appends into a fresh tail, pushing each full leaf into the trie
+     */
+    private static final class Builder {
+        private PrimitiveTrie trie;
+        private int[] leaf = new int[PrimitiveTrie.SIZE];
+        private int count;
+
+        Builder(PrimitiveTrie trie, int[] tail) {
+            this.trie = trie;
+            System.arraycopy(tail, 0, leaf, 0, tail.length);
+            this.count = tail.length;
+        }
+
+        void add(int value) {
+            leaf[count++] = value;
+            if (count == PrimitiveTrie.SIZE) {
+                trie = trie.appendLeaf(leaf);
+                leaf = new int[PrimitiveTrie.SIZE];
+                count = 0;
+            }
+        }
+
+        IntVector build() {
+            return new IntVector(trie, count == 0 ? EMPTY_TAIL : Arrays.copyOf(leaf, count));
+        }
+    }
+}
@@ -4,6 +4,7 @@ package cyclops.data;
 import com.oath.cyclops.hkt.Higher;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.lazyString;
+import cyclops.data.base.Rope;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -17,24 +18,95 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable String of Characters.
+ *
+ * LazyStrings created from CharSequences are backed by a balanced {@link Rope} of packed char[] leaves, giving O(log n)
+ * concatenation, substring and indexed access and iteration without boxing (via {@link #chars()}).
+ * LazyStrings created from a LazySeq (or other Iterable) remain fully lazy, operations without a Rope specific
+ * implementation are applied lazily via {@link #lazySeq()}.
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class LazyString implements ImmutableList<Character>,Higher<lazyString,Character>, Serializable {
     private static final long serialVersionUID = 1L;
+    private final Rope rope;
     private final LazySeq<Character> string;
 
-    private static final LazyString Nil = fromLazySeq(LazySeq.empty());
+    private static final LazyString Nil = fromRope(Rope.empty());
     public static LazyString fromLazySeq(LazySeq<Character> string){
-        return new LazyString(string);
+        return new LazyString(null,string);
     }
     public static LazyString fromIterable(Iterable<Character> string){
-        return new LazyString(LazySeq.fromIterable(string));
+        if(string instanceof LazyString)
+            return (LazyString)string;
+        return new LazyString(null,LazySeq.fromIterable(string));
     }
     public static LazyString of(CharSequence seq){
-        return fromLazySeq(LazySeq.fromStream( seq.chars().mapToObj(i -> (char) i)));
+        return fromRope(Rope.of(seq));
+    }
+    public static LazyString fromRope(Rope rope){
+        return new LazyString(rope,null);
+    }
+
+    private static Rope ropeOf(Iterable<? extends Character> it){
+        if(it instanceof LazyString && ((LazyString)it).rope!=null)
+            return ((LazyString)it).rope;
+        StringBuilder b = new StringBuilder();
+        for(Character c : it)
+            b.append(c.charValue());
+        return Rope.of(b);
+    }
+
+    /**
+     * @return true if this LazyString is backed by a Rope, false if it is backed by a LazySeq
+     */
+    public boolean isRope(){
+        return rope!=null;
+    }
+
+    /**
+     * @return A Rope backed copy of this LazyString, LazySeq backed LazyStrings are fully evaluated
+     */
+    public LazyString materialize(){
+        return rope!=null ? this : fromRope(ropeOf(string));
+    }
+
+    @Override
+    public LazySeq<Character> lazySeq(){
+        return rope==null ? string : LazySeq.fromIterator(iterator());
     }
 
+    @Override
+    public Iterator<Character> iterator(){
+        if(rope==null)
+            return string.iterator();
+        PrimitiveIterator.OfInt it = rope.iterator();
+        return new Iterator<Character>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Character next() {
+                return (char)it.nextInt();
+            }
+        };
+    }
+
+    /**
+     * @return IntStream over the characters of this LazyString, Rope backed LazyStrings do not box
+     */
+    public IntStream chars(){
+        if(rope==null)
+            return string.stream().mapToInt(c->c);
+        return StreamSupport.intStream(Spliterators.spliterator(rope.iterator(),rope.length(),
+                                Spliterator.ORDERED|Spliterator.IMMUTABLE|Spliterator.NONNULL),false);
+    }
 
     static Collector<Character, List<Character>, LazyString> collector() {
         Collector<Character, ?, List<Character>> c  = Collectors.toList();
@@ -53,90 +125,139 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
     }
 
     public LazyString op(Function<? super LazySeq<Character>, ? extends LazySeq<Character>> custom){
-        return fromLazySeq(custom.apply(string));
+        return fromLazySeq(custom.apply(lazySeq()));
     }
 
     public LazyString substring(int start){
         return drop(start);
     }
     public LazyString substring(int start, int end){
+        if(rope!=null)
+            return fromRope(rope.substring(start,end));
         return drop(start).take(end-start);
     }
     public LazyString toUpperCase(){
-        return fromLazySeq(string.map(c->c.toString().toUpperCase().charAt(0)));
+        if(rope!=null)
+            return fromRope(rope.map(c->Character.toString((char)c).toUpperCase().charAt(0)));
+        return fromLazySeq(lazySeq().map(c->c.toString().toUpperCase().charAt(0)));
     }
     public LazyString toLowerCase(){
-        return fromLazySeq(string.map(c->c.toString().toLowerCase().charAt(0)));
+        if(rope!=null)
+            return fromRope(rope.map(c->Character.toString((char)c).toLowerCase().charAt(0)));
+        return fromLazySeq(lazySeq().map(c->c.toString().toLowerCase().charAt(0)));
     }
     public LazySeq<LazyString> words() {
-        return string.split(t -> t.equals(' ')).map(l-> fromLazySeq(l));
+        if(rope!=null)
+            return split(' ');
+        return lazySeq().split(t -> t.equals(' ')).map(l-> fromLazySeq(l));
     }
     public LazySeq<LazyString> lines() {
-        return string.split(t -> t.equals('\n')).map(l-> fromLazySeq(l));
+        if(rope!=null)
+            return split('\n');
+        return lazySeq().split(t -> t.equals('\n')).map(l-> fromLazySeq(l));
+    }
+
+    /*
+     * Lazily splits the Rope on sep, each piece shares structure with this LazyString.
+     * Matches LazySeq#split : runs of separators are skipped and no empty pieces are produced
+     */
+    private LazySeq<LazyString> split(char sep){
+        Rope r = rope;
+        return LazySeq.fromIterator(new Iterator<LazyString>() {
+            int pos = skip(0);
+
+            private int skip(int from){
+                while(from<r.length() && r.charAt(from)==sep)
+                    from++;
+                return from;
+            }
+            @Override
+            public boolean hasNext() {
+                return pos<r.length();
+            }
+
+            @Override
+            public LazyString next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                int end = r.indexOf(sep,pos);
+                if(end==-1)
+                    end = r.length();
+                LazyString res = fromRope(r.substring(pos,end));
+                pos = skip(end);
+                return res;
+            }
+        });
     }
     public LazyString mapChar(Function<Character,Character> fn){
-        return fromLazySeq(string.map(fn));
+        if(rope!=null)
+            return fromRope(rope.map(c->fn.apply((char)c)));
+        return fromLazySeq(lazySeq().map(fn));
     }
     public LazyString flatMapChar(Function<Character,LazyString> fn){
-        return fromLazySeq(string.flatMap(fn.andThen(s->s.string)));
+        return fromLazySeq(lazySeq().flatMap(fn.andThen(LazyString::lazySeq)));
     }
 
     @Override
     public LazyString filter(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filter(predicate));
+        return fromLazySeq(lazySeq().filter(predicate));
     }
 
     @Override
     public <R> ImmutableList<R> map(Function<? super Character, ? extends R> fn) {
-        return string.map(fn);
+        return lazySeq().map(fn);
     }
 
     @Override
     public <R> ImmutableList<R> flatMap(Function<? super Character, ? extends ImmutableList<? extends R>> fn) {
-        return  string.flatMap(fn);
+        return  lazySeq().flatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> concatMap(Function<? super Character, ? extends Iterable<? extends R>> fn) {
-        return  string.concatMap(fn);
+        return  lazySeq().concatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(fn);
+      return lazySeq().mergeMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(int maxConcurecy, Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(maxConcurecy,fn);
+      return lazySeq().mergeMap(maxConcurecy,fn);
     }
 
   @Override
     public <R> R fold(Function<? super Some<Character>, ? extends R> fn1, Function<? super None<Character>, ? extends R> fn2) {
-        return string.fold(fn1,fn2);
+        return lazySeq().fold(fn1,fn2);
     }
 
     @Override
     public LazyString onEmpty(Character value) {
-        return fromLazySeq(string.onEmpty(value));
+        return fromLazySeq(lazySeq().onEmpty(value));
     }
 
     @Override
     public LazyString onEmptyGet(Supplier<? extends Character> supplier) {
-        return fromLazySeq(string.onEmptyGet(supplier));
+        return fromLazySeq(lazySeq().onEmptyGet(supplier));
     }
 
 
     @Override
     public ImmutableList<Character> onEmptySwitch(Supplier<? extends ImmutableList<Character>> supplier) {
-        return string.onEmptySwitch(supplier);
+        return lazySeq().onEmptySwitch(supplier);
     }
 
     public ReactiveSeq<Character> stream(){
-        return string.stream();
+        if(rope!=null)
+            return ReactiveSeq.fromIterator(iterator());
+        return lazySeq().stream();
     }
     public LazyString take(final long n) {
-        return fromLazySeq(string.take(n));
+        if(rope!=null)
+            return fromRope(rope.substring(0,(int)Math.min(n,rope.length())));
+        return fromLazySeq(lazySeq().take(n));
 
     }
 
@@ -152,248 +273,288 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public LazyString replaceFirst(Character currentElement, Character newElement) {
-        return fromLazySeq(string.replaceFirst(currentElement,newElement));
+        return fromLazySeq(lazySeq().replaceFirst(currentElement,newElement));
     }
 
     @Override
     public LazyString removeFirst(Predicate<? super Character> pred) {
-        return fromLazySeq(string.removeFirst(pred));
+        return fromLazySeq(lazySeq().removeFirst(pred));
     }
 
     @Override
     public LazyString subList(int start, int end) {
-        return fromLazySeq(string.subList(start,end));
+        if(rope!=null)
+            return substring(start,end);
+        return fromLazySeq(lazySeq().subList(start,end));
     }
 
 
     @Override
     public LazyString filterNot(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filterNot(predicate));
+        return fromLazySeq(lazySeq().filterNot(predicate));
     }
 
     @Override
     public LazyString notNull() {
-        return fromLazySeq(string.notNull());
+        return fromLazySeq(lazySeq().notNull());
     }
 
     @Override
     public LazyString peek(Consumer<? super Character> c) {
-        return fromLazySeq(string.peek(c));
+        return fromLazySeq(lazySeq().peek(c));
     }
 
     @Override
     public LazyString tailOrElse(ImmutableList<Character> tail) {
-        return fromLazySeq(string.tailOrElse(LazySeq.fromIterable(tail)));
+        return fromLazySeq(lazySeq().tailOrElse(LazySeq.fromIterable(tail)));
     }
 
     @Override
     public LazyString removeStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.removeStream(stream));
+        return fromLazySeq(lazySeq().removeStream(stream));
     }
 
     @Override
     public LazyString removeAt(long pos) {
-        return fromLazySeq(string.removeAt(pos));
+        return fromLazySeq(lazySeq().removeAt(pos));
     }
 
     @Override
     public LazyString removeAll(Character... values) {
-        return fromLazySeq(string.removeAll(values));
+        return fromLazySeq(lazySeq().removeAll(values));
     }
 
     @Override
     public LazyString retainAll(Iterable<? extends Character> it) {
-        return fromLazySeq(string.retainAll(it));
+        return fromLazySeq(lazySeq().retainAll(it));
     }
 
     @Override
     public LazyString retainStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.retainStream(stream));
+        return fromLazySeq(lazySeq().retainStream(stream));
     }
 
     @Override
     public LazyString retainAll(Character... values) {
-        return fromLazySeq(string.retainAll(values));
+        return fromLazySeq(lazySeq().retainAll(values));
     }
 
     @Override
     public LazyString distinct() {
-        return fromLazySeq(string.distinct());
+        return fromLazySeq(lazySeq().distinct());
     }
 
     @Override
     public LazyString sorted() {
-        return fromLazySeq(string.sorted());
+        return fromLazySeq(lazySeq().sorted());
     }
 
     @Override
     public LazyString sorted(Comparator<? super Character> c) {
-        return fromLazySeq(string.sorted(c));
+        return fromLazySeq(lazySeq().sorted(c));
     }
 
     @Override
     public LazyString takeWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeWhile(p));
+        return fromLazySeq(lazySeq().takeWhile(p));
     }
 
     @Override
     public LazyString dropWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropWhile(p));
+        return fromLazySeq(lazySeq().dropWhile(p));
     }
 
     @Override
     public LazyString takeUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeUntil(p));
+        return fromLazySeq(lazySeq().takeUntil(p));
     }
 
     @Override
     public LazyString dropUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropUntil(p));
+        return fromLazySeq(lazySeq().dropUntil(p));
     }
 
     @Override
     public LazyString dropRight(int num) {
-        return fromLazySeq(string.dropRight(num));
+        if(rope!=null)
+            return fromRope(rope.substring(0,rope.length()-Math.max(0,num)));
+        return fromLazySeq(lazySeq().dropRight(num));
     }
 
     @Override
     public LazyString takeRight(int num) {
-        return fromLazySeq(string.takeRight(num));
+        if(rope!=null)
+            return fromRope(rope.substring(rope.length()-Math.max(0,num),rope.length()));
+        return fromLazySeq(lazySeq().takeRight(num));
     }
 
     @Override
     public LazyString shuffle() {
-        return fromLazySeq(string.shuffle());
+        return fromLazySeq(lazySeq().shuffle());
     }
 
     @Override
     public LazyString shuffle(Random random) {
-        return fromLazySeq(string.shuffle(random));
+        return fromLazySeq(lazySeq().shuffle(random));
     }
 
     @Override
     public LazyString slice(long from, long to) {
-        return fromLazySeq(string.slice(from,to));
+        if(rope!=null)
+            return fromRope(rope.substring((int)Math.min(from,rope.length()),(int)Math.min(to,rope.length())));
+        return fromLazySeq(lazySeq().slice(from,to));
     }
 
     @Override
     public <U extends Comparable<? super U>> LazyString sorted(Function<? super Character, ? extends U> function) {
-        return fromLazySeq(string.sorted(function));
+        return fromLazySeq(lazySeq().sorted(function));
     }
 
     @Override
     public LazyString prependStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.prependStream(stream));
+        return fromLazySeq(lazySeq().prependStream(stream));
     }
 
     @Override
     public LazyString appendAll(Character... values) {
-        return fromLazySeq(string.appendAll(values));
+        if(rope!=null)
+            return fromRope(rope.concat(Rope.wrap(chars(values))));
+        return fromLazySeq(lazySeq().appendAll(values));
     }
 
     @Override
     public LazyString prependAll(Character... values) {
-        return fromLazySeq(string.prependAll(values));
+        if(rope!=null)
+            return fromRope(Rope.wrap(chars(values)).concat(rope));
+        return fromLazySeq(lazySeq().prependAll(values));
     }
 
     @Override
     public LazyString insertAt(int pos, Character... values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return fromLazySeq(lazySeq().insertAt(pos,values));
     }
 
     @Override
     public LazyString deleteBetween(int start, int end) {
-        return fromLazySeq(string.deleteBetween(start,end));
+        if(rope!=null)
+            return fromRope(rope.substring(0,start).concat(rope.substring(end,rope.length())));
+        return fromLazySeq(lazySeq().deleteBetween(start,end));
     }
 
     @Override
     public LazyString insertStreamAt(int pos, Stream<Character> stream) {
-        return fromLazySeq(string.insertStreamAt(pos,stream));
+        return fromLazySeq(lazySeq().insertStreamAt(pos,stream));
     }
 
 
 
     @Override
     public LazyString plusAll(Iterable<? extends Character> list) {
-        return fromLazySeq(string.plusAll(list));
+        return prependAll(list);
     }
 
     @Override
     public LazyString plus(Character value) {
-        return fromLazySeq(string.plus(value));
+        return prepend(value);
     }
 
     @Override
     public LazyString removeValue(Character value) {
-        return fromLazySeq(string.removeValue(value));
+        return fromLazySeq(lazySeq().removeValue(value));
     }
 
 
     @Override
     public LazyString removeAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.removeAll(value));
+        return fromLazySeq(lazySeq().removeAll(value));
     }
 
     @Override
     public LazyString updateAt(int pos, Character value) {
-        return fromLazySeq(string.updateAt(pos,value));
+        if(rope!=null && pos>=0 && pos<rope.length())
+            return fromRope(rope.substring(0,pos).concat(Rope.of(String.valueOf(value.charValue()))).concat(rope.substring(pos+1,rope.length())));
+        return fromLazySeq(lazySeq().updateAt(pos,value));
     }
 
     @Override
     public LazyString insertAt(int pos, Iterable<? extends Character> values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        if(rope!=null && pos>=0 && pos<=rope.length())
+            return fromRope(rope.substring(0,pos).concat(ropeOf(values)).concat(rope.substring(pos,rope.length())));
+        return fromLazySeq(lazySeq().insertAt(pos,values));
     }
 
     @Override
     public LazyString insertAt(int i, Character value) {
-        return fromLazySeq(string.insertAt(i,value));
+        return fromLazySeq(lazySeq().insertAt(i,value));
     }
 
     public LazyString  drop(final long num) {
-        return fromLazySeq(string.drop(num));
+        if(rope!=null)
+            return fromRope(rope.substring((int)Math.min(Math.max(0,num),rope.length()),rope.length()));
+        return fromLazySeq(lazySeq().drop(num));
     }
     public LazyString  reverse() {
-        return fromLazySeq(string.reverse());
+        if(rope!=null)
+            return fromRope(rope.reverse());
+        return fromLazySeq(lazySeq().reverse());
     }
     public Option<Character> get(int pos){
-        return string.get(pos);
+        if(rope!=null)
+            return pos>=0 && pos<rope.length() ? Option.some(rope.charAt(pos)) : Option.none();
+        return lazySeq().get(pos);
     }
 
     @Override
     public Character getOrElse(int pos, Character alt) {
-        return string.getOrElse(pos,alt);
+        if(rope!=null)
+            return pos>=0 && pos<rope.length() ? rope.charAt(pos) : alt;
+        return lazySeq().getOrElse(pos,alt);
     }
 
     @Override
     public Character getOrElseGet(int pos, Supplier<? extends Character> alt) {
-        return string.getOrElseGet(pos,alt);
+        if(rope!=null)
+            return pos>=0 && pos<rope.length() ? rope.charAt(pos) : alt.get();
+        return lazySeq().getOrElseGet(pos,alt);
     }
 
     public LazyString prepend(Character value){
-        return fromLazySeq(string.prepend(value));
+        if(rope!=null)
+            return fromRope(Rope.of(String.valueOf(value.charValue())).concat(rope));
+        return fromLazySeq(lazySeq().prepend(value));
     }
 
     @Override
     public LazyString append(Character value) {
-        return fromLazySeq(string.append(value));
+        if(rope!=null)
+            return fromRope(rope.concat(Rope.of(String.valueOf(value.charValue()))));
+        return fromLazySeq(lazySeq().append(value));
     }
 
     @Override
     public LazyString prependAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.prependAll(value)) ;
+        if(rope!=null)
+            return fromRope(ropeOf(value).concat(rope));
+        return fromLazySeq(lazySeq().prependAll(value)) ;
     }
 
 
     @Override
     public LazyString appendAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.appendAll(value)) ;
+        if(rope!=null && value instanceof LazyString && ((LazyString)value).rope!=null)
+            return fromRope(rope.concat(((LazyString)value).rope));
+        return fromLazySeq(lazySeq().appendAll(value)) ;
     }
 
     public LazyString prependAll(LazyString value){
-        return fromLazySeq(string.prependAll(value.string));
+        if(rope!=null && value.rope!=null)
+            return fromRope(value.rope.concat(rope));
+        return fromLazySeq(lazySeq().prependAll(value.lazySeq()));
     }
     public LazyString append(String s){
-        return fromLazySeq(string.appendAll(LazySeq.fromStream( s.chars().mapToObj(i -> (char) i))));
+        if(rope!=null)
+            return fromRope(rope.concat(Rope.of(s)));
+        return fromLazySeq(lazySeq().appendAll(LazySeq.fromStream( s.chars().mapToObj(i -> (char) i))));
     }
     public int size(){
         return length();
@@ -401,23 +562,46 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public boolean isEmpty() {
-        return string.isEmpty();
+        if(rope!=null)
+            return rope.isEmpty();
+        return lazySeq().isEmpty();
     }
 
     public int length(){
-        return string.size();
+        if(rope!=null)
+            return rope.length();
+        return lazySeq().size();
     }
     public String toString(){
-        return string.stream().join("");
+        if(rope!=null)
+            return rope.toString();
+        return lazySeq().stream().join("");
+    }
+
+    private static char[] chars(Character... values){
+        char[] res = new char[values.length];
+        for(int i=0;i<values.length;i++)
+            res[i]=values[i];
+        return res;
     }
 
     @Override
     public int hashCode() {
-        return this.string.hashCode();
+        if(rope==null)
+            return this.string.hashCode();
+        int hashCode = 1;
+        PrimitiveIterator.OfInt it = rope.iterator();
+        while(it.hasNext())
+            hashCode = 31*hashCode + it.nextInt();
+        return hashCode;
     }
 
     @Override
     public boolean equals(Object obj) {
-        return this.string.equals(obj);
+        if(obj==this)
+            return true;
+        if(rope!=null && obj instanceof LazyString && ((LazyString)obj).rope!=null)
+            return rope.contentEquals(((LazyString)obj).rope);
+        return lazySeq().equals(obj);
     }
 }
@@ -0,0 +1,319 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveTrie;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed longs.
+ *
+ * Shares the 32 way trie shape of {@link Vector}, but stores elements in long[] leaves so that iteration,
+ * folds and maps do not box.
+ *
+ * <pre>
+ *     {@code
+ *      LongVector v = LongVector.range(0,1000);
+ *      long total = v.map(i->i*2).sum();
+ *     }
+ * </pre>
+ */
+public final class LongVector implements Iterable<Long>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final long[] EMPTY_TAIL = new long[0];
+    private static final LongVector EMPTY = new LongVector(PrimitiveTrie.empty(), EMPTY_TAIL);
+
+    private final PrimitiveTrie trie;
+    private final long[] tail;
+    private final int size;
+
+    private LongVector(PrimitiveTrie trie, long[] tail) {
+        this.trie = trie;
+        this.tail = tail;
+        this.size = trie.size() + tail.length;
+    }
+
+    public static LongVector empty() {
+        return EMPTY;
+    }
+
+    public static LongVector of(long... values) {
+        return EMPTY.appendAll(values);
+    }
+
+    /**
+     * @param start Inclusive start
+     * @param end Exclusive end
+     * @return LongVector of the ints from start to end
+     */
+    public static LongVector range(long start, long end) {
+        return fromIterator(LongStream.range(start, end).iterator());
+    }
+
+    public static LongVector fromStream(LongStream stream) {
+        return fromIterator(stream.iterator());
+    }
+
+    public static LongVector fromIterable(Iterable<Long> values) {
+        if (values instanceof LongVector)
+            return (LongVector) values;
+        Builder builder = new Builder(PrimitiveTrie.empty(), EMPTY_TAIL);
+        for (Long next : values) {
+            builder.add(next);
+        }
+        return builder.build();
+    }
+
+    public static LongVector fromVector(Vector<Long> vector) {
+        return fromIterable(vector);
+    }
+
+    public static LongVector fromIterator(PrimitiveIterator.OfLong it) {
+        return EMPTY.appendAll(it);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    public long getOrElse(int pos, long alt) {
+        if (pos < 0 || pos >= size)
+            return alt;
+        return unsafeGet(pos);
+    }
+
+    public Option<Long> get(int pos) {
+        if (pos < 0 || pos >= size)
+            return Option.none();
+        return Option.some(unsafeGet(pos));
+    }
+
+    private long unsafeGet(int pos) {
+        if (pos >= tailOffset())
+            return tail[pos - tailOffset()];
+        return ((long[]) trie.leafFor(pos))[pos & (PrimitiveTrie.SIZE - 1)];
+    }
+
+    public LongVector append(long value) {
+        if (tail.length == PrimitiveTrie.SIZE - 1) {
+            long[] leaf = Arrays.copyOf(tail, PrimitiveTrie.SIZE);
+            leaf[tail.length] = value;
+            return new LongVector(trie.appendLeaf(leaf), EMPTY_TAIL);
+        }
+        long[] newTail = Arrays.copyOf(tail, tail.length + 1);
+        newTail[tail.length] = value;
+        return new LongVector(trie, newTail);
+    }
+
+    public LongVector plus(long value) {
+        return append(value);
+    }
+
+    public LongVector appendAll(long... values) {
+        Builder builder = new Builder(trie, tail);
+        for (long next : values) {
+            builder.add(next);
+        }
+        return builder.build();
+    }
+
+    public LongVector appendAll(LongVector values) {
+        if (isEmpty())
+            return values;
+        return appendAll(values.iterator());
+    }
+
+    private LongVector appendAll(PrimitiveIterator.OfLong it) {
+        Builder builder = new Builder(trie, tail);
+        while (it.hasNext()) {
+            builder.add(it.nextLong());
+        }
+        return builder.build();
+    }
+
+    public LongVector updateAt(int pos, long value) {
+        if (pos < 0 || pos >= size)
+            return this;
+        if (pos >= tailOffset()) {
+            long[] newTail = tail.clone();
+            newTail[pos - tailOffset()] = value;
+            return new LongVector(trie, newTail);
+        }
+        long[] leaf = ((long[]) trie.leafFor(pos)).clone();
+        leaf[pos & (PrimitiveTrie.SIZE - 1)] = value;
+        return new LongVector(trie.setLeaf(pos, leaf), tail);
+    }
+
+    public LongVector map(LongUnaryOperator fn) {
+        PrimitiveTrie mapped = trie.mapLeaves(leaf -> mapArray((long[]) leaf, fn));
+        return new LongVector(mapped, mapArray(tail, fn));
+    }
+
+    private static long[] mapArray(long[] array, LongUnaryOperator fn) {
+        long[] res = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            res[i] = fn.applyAsLong(array[i]);
+        }
+        return res;
+    }
+
+    public LongVector filter(LongPredicate predicate) {
+        Builder builder = new Builder(PrimitiveTrie.empty(), EMPTY_TAIL);
+        forEachLong(i -> {
+            if (predicate.test(i))
+                builder.add(i);
+        });
+        return builder.build();
+    }
+
+    public void forEachLong(LongConsumer consumer) {
+        trie.forEachLeaf(leaf -> {
+            for (long next : (long[]) leaf) {
+                consumer.accept(next);
+            }
+        });
+        for (long next : tail) {
+            consumer.accept(next);
+        }
+    }
+
+    public long foldLeft(long zero, LongBinaryOperator fn) {
+        long[] acc = {zero};
+        forEachLong(i -> acc[0] = fn.applyAsLong(acc[0], i));
+        return acc[0];
+    }
+
+    public long sum() {
+        long[] acc = {0};
+        forEachLong(i -> acc[0] += i);
+        return acc[0];
+    }
+
+    public long[] toArray() {
+        long[] res = new long[size];
+        int[] pos = {0};
+        trie.forEachLeaf(leaf -> {
+            System.arraycopy(leaf, 0, res, pos[0], PrimitiveTrie.SIZE);
+            pos[0] += PrimitiveTrie.SIZE;
+        });
+        System.arraycopy(tail, 0, res, pos[0], tail.length);
+        return res;
+    }
+
+    public Vector<Long> vector() {
+        Vector.Transient<Long> res = Vector.<Long>empty().asTransient();
+        forEachLong(res::append);
+        return res.persistent();
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(Spliterators.spliterator(iterator(), size,
+                        Spliterator.ORDERED | Spliterator.IMMUTABLE), false);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            int index = 0;
+            long[] leaf = EMPTY_TAIL;
+            int leafStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                if (index - leafStart >= leaf.length) {
+                    leafStart = index;
+                    leaf = index >= tailOffset() ? tail : (long[]) trie.leafFor(index);
+                }
+                return leaf[index++ - leafStart];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof LongVector))
+            return false;
+        LongVector other = (LongVector) o;
+        if (size != other.size)
+            return false;
+        PrimitiveIterator.OfLong a = iterator();
+        PrimitiveIterator.OfLong b = other.iterator();
+        while (a.hasNext()) {
+            if (a.nextLong() != b.nextLong())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Same hashCode as the equivalent Vector of Longs
+     */
+    @Override
+    public int hashCode() {
+        int[] hashCode = {1};
+        forEachLong(i -> hashCode[0] = 31 * hashCode[0] + Long.hashCode(i));
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /*
+     * Appends into a fresh tail, pushing each full leaf into the trie
+     */
+    private static final class Builder {
+        private PrimitiveTrie trie;
+        private long[] leaf = new long[PrimitiveTrie.SIZE];
+        private int count;
+
+        Builder(PrimitiveTrie trie, long[] tail) {
+            this.trie = trie;
+            System.arraycopy(tail, 0, leaf, 0, tail.length);
+            this.count = tail.length;
+        }
+
+        void add(long value) {
+            leaf[count++] = value;
+            if (count == PrimitiveTrie.SIZE) {
+                trie = trie.appendLeaf(leaf);
+                leaf = new long[PrimitiveTrie.SIZE];
+                count = 0;
+            }
+        }
+
+        LongVector build() {
+            return new LongVector(trie, count == 0 ? EMPTY_TAIL : Arrays.copyOf(leaf, count));
+        }
+    }
+}
@@ -6,8 +6,11 @@ import cyclops.companion.Comparators;
 import cyclops.control.Option;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
+import cyclops.function.Monoid;
 import com.oath.cyclops.hkt.DataWitness.treeMap;
 import cyclops.data.base.RedBlackTree;
+import cyclops.data.base.ParallelTraversal;
+import cyclops.data.base.TransientOwner;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,7 +23,9 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -38,6 +43,37 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
         return map.stream();
     }
 
+    /**
+     * Fold the entries of this TreeMap in key order on the supplied ForkJoinPool, subtrees are folded as separate tasks
+     * and combined in order, so the Monoid need only be associative.
+     *
+     * @param pool ForkJoinPool to run on
+     * @param monoid Monoid to fold with
+     * @return Result of the fold
+     */
+    public Tuple2<K,V> parallelFold(ForkJoinPool pool, Monoid<Tuple2<K,V>> monoid){
+        return ParallelTraversal.fold(pool,map.part(),monoid);
+    }
+
+    public Tuple2<K,V> parallelFold(Monoid<Tuple2<K,V>> monoid){
+        return parallelFold(ForkJoinPool.commonPool(),monoid);
+    }
+
+    public <A,R> R parallelCollect(ForkJoinPool pool, Collector<? super Tuple2<K,V>, A, R> collector){
+        return ParallelTraversal.collect(pool,map.part(),collector);
+    }
+
+    public <A,R> R parallelCollect(Collector<? super Tuple2<K,V>, A, R> collector){
+        return parallelCollect(ForkJoinPool.commonPool(),collector);
+    }
+
+    /**
+     * @return Parallel JDK Stream of the entries in key order, split on subtree boundaries
+     */
+    public Stream<Tuple2<K,V>> parallelStream(){
+        return ParallelTraversal.parallelStream(map.part());
+    }
+
     public static <K,V> TreeMap<K,V> empty(Comparator<K> comp){
         return new TreeMap<>( RedBlackTree.empty(comp),comp);
     }
@@ -49,8 +85,113 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     }
 
     public static <K,V> TreeMap<K,V> fromStream(Stream<Tuple2<K,V>> stream, Comparator<K> comp){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(comp),(m,t2)->m.put(t2._1(),t2._2()));
+        //the transient is confined to this thread, so parallel Streams are iterated rather than forEach'd
+        Transient<K,V> res = TreeMap.<K,V>empty(comp).asTransient();
+        Iterator<Tuple2<K,V>> it = stream.iterator();
+        while(it.hasNext()){
+            Tuple2<K,V> next = it.next();
+            res.put(next._1(),next._2());
+        }
+        return res.persistent();
+    }
+
+    /**
+     * Create a transient (batch-mutable) view of this TreeMap. Puts and removes are buffered in a mutable sorted map,
+     * the red black tree is rebuilt bottom up (in linear time) when persistent() is called, rather than being rebalanced
+     * on every insertion. The transient may only be used by the creating thread, and not at all after persistent() has been called.
+     *
+     * <pre>
+     * {@code
+     *     TreeMap.Transient<Integer,String> t = TreeMap.<Integer,String>empty(Comparator.naturalOrder()).asTransient();
+     *     for(int i=0;i<1_000_000;i++)
+     *          t.put(i,"value"+i);
+     *     TreeMap<Integer,String> map = t.persistent();
+     * }
+     * </pre>
+     *
+     * @return Transient TreeMap containing the entries of this TreeMap
+     */
+    public Transient<K,V> asTransient(){
+        return new Transient<>(map,comparator);
+    }
+
+    public static final class Transient<K,V> {
+        private final TransientOwner owner = new TransientOwner();
+        private final RedBlackTree.Tree<K,V> base;
+        private final Comparator<K> comparator;
+        //a null entry records a removal from the base tree
+        private final java.util.TreeMap<K,Tuple2<K,V>> edits;
+
+        private Transient(RedBlackTree.Tree<K, V> base, Comparator<K> comparator) {
+            this.base = base;
+            this.comparator = comparator;
+            this.edits = new java.util.TreeMap<>(comparator);
+        }
+
+        public Transient<K,V> put(K key, V value){
+            owner.ensureEditable();
+            edits.put(key,Tuple.tuple(key,value));
+            return this;
+        }
+
+        public Transient<K,V> remove(K key){
+            owner.ensureEditable();
+            if(base.isEmpty())
+                edits.remove(key);
+            else
+                edits.put(key,null);
+            return this;
+        }
+
+        public Option<V> get(K key){
+            owner.ensureEditable();
+            if(edits.containsKey(key))
+                return Option.ofNullable(edits.get(key)).map(Tuple2::_2);
+            return base.get(key);
+        }
+
+        /**
+         * @return Persistent TreeMap containing all entries, this transient can no longer be used
+         */
+        public TreeMap<K,V> persistent(){
+            owner.release();
+            if(edits.isEmpty())
+                return new TreeMap<>(base,comparator);
+            if(!base.isEmpty() && edits.size()<REBUILD_THRESHOLD){
+                RedBlackTree.Tree<K,V> tree = base;
+                for(Map.Entry<K,Tuple2<K,V>> e : edits.entrySet()){
+                    tree = e.getValue()==null ? tree.minus(e.getKey()) : tree.plus(e.getKey(),e.getValue()._2());
+                }
+                return new TreeMap<>(tree,comparator);
+            }
+            Tuple2<K,V>[] sorted = new Tuple2[base.size()+edits.size()];
+            return new TreeMap<>(RedBlackTree.fromSorted(comparator,sorted,merge(sorted)),comparator);
+        }
+
+        private int merge(Tuple2<K,V>[] res){
+            int n = 0;
+            Iterator<Tuple2<K,V>> it = base.stream().iterator();
+            Tuple2<K,V> next = it.hasNext() ? it.next() : null;
+            for(Map.Entry<K,Tuple2<K,V>> e : edits.entrySet()){
+                while(next!=null && comparator.compare(next._1(),e.getKey())<0){
+                    res[n++]=next;
+                    next = it.hasNext() ? it.next() : null;
+                }
+                if(next!=null && comparator.compare(next._1(),e.getKey())==0)
+                    next = it.hasNext() ? it.next() : null;
+                if(e.getValue()!=null)
+                    res[n++]=e.getValue();
+            }
+            while(next!=null){
+                res[n++]=next;
+                next = it.hasNext() ? it.next() : null;
+            }
+            return n;
+        }
     }
+    //below this many buffered edits against a non-empty tree, path copying each edit is cheaper than a full rebuild
+    private static final int REBUILD_THRESHOLD = 32;
+
     @Override
     public <R> TreeMap<K, R> mapValues(Function<? super V, ? extends R> map) {
         return fromStream(stream().map(t->t.map2(map)), comparator);
@@ -144,15 +285,22 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     }
 
     public static <K,V> TreeMap<K,V> fromMap(Comparator<K> comp, Map<K,V> map){
-        Stream<Tuple2<K, V>> s = map.entrySet().stream().map(e -> Tuple.tuple(e.getKey(), e.getValue()));
-        return new TreeMap<>(RedBlackTree.fromStream(comp,s),comp);
+        Transient<K,V> res = TreeMap.<K,V>empty(comp).asTransient();
+        for(Map.Entry<K,V> next : map.entrySet()){
+            res.put(next.getKey(),next.getValue());
+        }
+        return res.persistent();
     }
     public static <K,V> TreeMap<K,V> fromMap(Comparator<K> comp, PersistentMap<K,V> map){
         if(map instanceof TreeMap){
             TreeMap<K,V> t = (TreeMap)map;
             return t.withComparator(comp);
         }
-        return new TreeMap<>(RedBlackTree.fromStream(comp,map.stream()),comp);
+        Transient<K,V> res = TreeMap.<K,V>empty(comp).asTransient();
+        for(Tuple2<K,V> next : map){
+            res.put(next._1(),next._2());
+        }
+        return res.persistent();
     }
 
     public <KR,VR> TreeMap<KR,VR> bimap(Comparator<KR> comp, Function<? super K, ? extends KR> keyMapper, Function<? super V, ? extends VR> valueMapper){
@@ -173,7 +321,11 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
 
     @Override
     public TreeMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
-        return map.stream().foldLeft(this,(m,next)->m.put(next._1(),next._2()));
+        Transient<K,V> res = asTransient();
+        for(Tuple2<? extends K, ? extends V> next : map){
+            res.put(next._1(),next._2());
+        }
+        return res.persistent();
     }
 
     @Override
@@ -219,6 +371,101 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
         return map.size();
     }
 
+    /**
+     * @return Entry with the greatest key less than or equal to the supplied key, in O(log n)
+     */
+    public Option<Tuple2<K,V>> floor(K key){
+        return map.floor(key);
+    }
+
+    /**
+     * @return Entry with the least key greater than or equal to the supplied key, in O(log n)
+     */
+    public Option<Tuple2<K,V>> ceiling(K key){
+        return map.ceiling(key);
+    }
+
+    /**
+     * @return Entry with the greatest key strictly less than the supplied key, in O(log n)
+     */
+    public Option<Tuple2<K,V>> lower(K key){
+        return map.lower(key);
+    }
+
+    /**
+     * @return Entry with the least key strictly greater than the supplied key, in O(log n)
+     */
+    public Option<Tuple2<K,V>> higher(K key){
+        return map.higher(key);
+    }
+
+    public Option<Tuple2<K,V>> first(){
+        return map.min();
+    }
+
+    public Option<Tuple2<K,V>> last(){
+        return map.max();
+    }
+
+    /**
+     * @return Number of keys in this TreeMap strictly less than the supplied key, in O(log n)
+     */
+    public int rank(K key){
+        return map.rank(key);
+    }
+
+    /**
+     * @return Entry at the supplied position in key order, in O(log n)
+     */
+    public Option<Tuple2<K,V>> getAt(int index){
+        return map.getAt(index);
+    }
+
+    /**
+     * Range slice of this TreeMap, subtrees that fall entirely within the range are shared rather than copied.
+     *
+     * <pre>
+     * {@code
+     *     TreeMap.of(Comparator.naturalOrder(),1,"a",2,"b",3,"c",4,"d")
+     *            .subMap(2,4);
+     *     //[2=b,3=c]
+     * }
+     * </pre>
+     *
+     * @param from Lowest key (inclusive)
+     * @param to Highest key (exclusive)
+     * @return TreeMap containing the entries with keys in the range, in O(log n)
+     */
+    public TreeMap<K,V> subMap(K from, K to){
+        return subMap(from,true,to,false);
+    }
+
+    public TreeMap<K,V> subMap(K from, boolean fromInclusive, K to, boolean toInclusive){
+        return new TreeMap<>(RedBlackTree.range(map,from,fromInclusive,to,toInclusive),comparator);
+    }
+
+    /**
+     * @return TreeMap containing the entries with keys strictly less than the supplied key, in O(log n)
+     */
+    public TreeMap<K,V> headMap(K to){
+        return headMap(to,false);
+    }
+
+    public TreeMap<K,V> headMap(K to, boolean inclusive){
+        return new TreeMap<>(RedBlackTree.head(map,to,inclusive),comparator);
+    }
+
+    /**
+     * @return TreeMap containing the entries with keys greater than or equal to the supplied key, in O(log n)
+     */
+    public TreeMap<K,V> tailMap(K from){
+        return tailMap(from,true);
+    }
+
+    public TreeMap<K,V> tailMap(K from, boolean inclusive){
+        return new TreeMap<>(RedBlackTree.tail(map,from,inclusive),comparator);
+    }
+
     @Override
     public <K2, V2> DMap.Two<K, V, K2, V2> merge(ImmutableMap<K2, V2> one) {
         return DMap.two(this,one);
@@ -238,7 +238,56 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public Option<T> get(int index) {
-        return stream().elementAt(index);
+        return map.getAt(index).map(Tuple2::_1);
+    }
+
+    /**
+     * @return Number of elements in this TreeSet strictly less than the supplied value, in O(log n)
+     */
+    public int rank(T value) {
+        return map.rank(value);
+    }
+
+    /**
+     * @return Greatest element less than or equal to the supplied value, in O(log n)
+     */
+    public Option<T> floor(T value) {
+        return map.floor(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return Least element greater than or equal to the supplied value, in O(log n)
+     */
+    public Option<T> ceiling(T value) {
+        return map.ceiling(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return Greatest element strictly less than the supplied value, in O(log n)
+     */
+    public Option<T> lower(T value) {
+        return map.lower(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return Least element strictly greater than the supplied value, in O(log n)
+     */
+    public Option<T> higher(T value) {
+        return map.higher(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return TreeSet containing the elements strictly less than the supplied value, in O(log n)
+     */
+    public TreeSet<T> headSet(T toElement) {
+        return new TreeSet<>(RedBlackTree.head(map,toElement,false),comp);
+    }
+
+    /**
+     * @return TreeSet containing the elements greater than or equal to the supplied value, in O(log n)
+     */
+    public TreeSet<T> tailSet(T fromElement) {
+        return new TreeSet<>(RedBlackTree.tail(map,fromElement,true),comp);
     }
 
 
@@ -254,23 +303,27 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
         return comp;
     }
 
+    /**
+     * Range slice of this TreeSet, subtrees that fall entirely within the range are shared rather than copied.
+     *
+     * @param fromElement Lowest element (inclusive)
+     * @param toElement Highest element (exclusive)
+     * @return TreeSet containing the elements in the range, in O(log n)
+     */
     @Override
-    public ImmutableSortedSet<T> subSet(T fromElement, T toElement) {
-
-       return fromStream(stream().dropWhile(e-> !Objects.equals(e,fromElement))
-                                 .takeUntil(e->Objects.equals(e,toElement)),comp);
-
+    public TreeSet<T> subSet(T fromElement, T toElement) {
+        return new TreeSet<>(RedBlackTree.range(map,fromElement,true,toElement,false),comp);
     }
 
 
     @Override
     public Option<T> first() {
-        return Option.fromIterable(this);
+        return map.min().map(Tuple2::_1);
     }
 
     @Override
     public Option<T> last() {
-        return stream().takeRight(1).takeOne();
+        return map.max().map(Tuple2::_1);
     }
 
     @Override
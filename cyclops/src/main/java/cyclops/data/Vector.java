@@ -8,6 +8,8 @@ import com.oath.cyclops.types.persistent.PersistentIndexed;
 import cyclops.control.Either;
 import cyclops.control.Option;
 import cyclops.data.base.BAMT;
+import cyclops.data.base.ParallelTraversal;
+import cyclops.data.base.TransientOwner;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -23,6 +25,7 @@ import org.reactivestreams.Publisher;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -102,19 +105,12 @@ public class Vector<T> implements ImmutableList<T>,
   }
     @Override
     public Iterator<T> iterator(){
-        return new Iterator<T>() {
-            int index =0;
-            @Override
-            public boolean hasNext() {
-                return index <size;
-            }
-
-            @Override
-            public T next() {
-                return getOrElse(index++,null);
-            }
-        };
+        return part().iterator();
+    }
 
+    @Override
+    public void forEach(Consumer<? super T> action){
+        part().forEach(action);
     }
 
     @Override
@@ -129,25 +125,32 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> removeAt(long i) {
-        return (Vector<T>)ImmutableList.super.removeAt(i);
+        if(i<0||i>=size)
+            return this;
+        return take(i).concat(drop(i+1));
     }
 
     @Override
     public Vector<T> insertAt(int pos, T... values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,Vector.of(values));
     }
     @Override
     public Vector<T> insertAt(int i, T e){
-        return (Vector<T>)ImmutableList.super.insertAt(i,e);
+        return insertAt(i,Vector.of(e));
     }
 
     @Override
     public Vector<T> insertAt(int pos, Iterable<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        Vector<T> toInsert = Vector.fromIterable((Iterable<T>)values);
+        if(pos<=0)
+            return toInsert.concat(this);
+        if(pos>=size)
+            return concat(toInsert);
+        return take(pos).concat(toInsert).concat(drop(pos));
     }
     @Override
     public Vector<T> insertAt(int pos, ReactiveSeq<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,(Iterable<? extends T>)values);
     }
     public Vector<T> plusAll(int i, Iterable<? extends T> values){
         return insertAt(i,values);
@@ -210,18 +213,93 @@ public class Vector<T> implements ImmutableList<T>,
         if(it instanceof Vector){
             return (Vector<T>)it;
         }
-        Vector<T> res = empty();
+        Transient<T> res = Vector.<T>empty().asTransient();
         for(T next : it){
-            res = res.plus(next);
+            res.append(next);
         }
-        return res;
+        return res.persistent();
     }
     public static <T> Vector<T> of(T... value){
-        Vector<T> res = empty();
+        Transient<T> res = Vector.<T>empty().asTransient();
         for(T next : value){
-            res = res.plus(next);
+            res.append(next);
+        }
+        return res.persistent();
+    }
+
+    /**
+     * Create a transient (batch-mutable) view of this Vector. Appends to the transient fill leaf arrays in place,
+     * and the trie is built once, at its final size, when {@link Transient#persistent()} is called.
+     * The transient may only be used by the creating thread, and not at all after persistent() has been called.
+     *
+     * <pre>
+     * {@code
+     *     Vector.Transient<Integer> t = Vector.<Integer>empty().asTransient();
+     *     for(int i=0;i<1_000_000;i++)
+     *          t.append(i);
+     *     Vector<Integer> vec = t.persistent();
+     * }
+     * </pre>
+     *
+     * @return Transient Vector containing the elements of this Vector
+     */
+    public Transient<T> asTransient(){
+        return new Transient<>(this);
+    }
+
+    public static final class Transient<T> {
+        private final TransientOwner owner = new TransientOwner();
+        private final BAMT.NestedArray<T> root;
+        private final int rootSize;
+        private Object[][] leaves = new Object[4][];
+        private int leafCount = 0;
+        private Object[] tail = new Object[32];
+        private int tailSize = 0;
+        private int size;
+
+        private Transient(Vector<T> vector) {
+            this.root = vector.root;
+            this.rootSize = vector.size-vector.tail.size();
+            this.size = rootSize;
+            for(T next : vector.tail.getNestedArrayAt(0)){
+                append(next);
+            }
+        }
+
+        public Transient<T> append(T value){
+            owner.ensureEditable();
+            tail[tailSize++] = value;
+            size++;
+            if(tailSize==32){
+                if(leafCount==leaves.length)
+                    leaves = Arrays.copyOf(leaves,leaves.length*2);
+                leaves[leafCount++] = tail;
+                tail = new Object[32];
+                tailSize = 0;
+            }
+            return this;
+        }
+
+        public Transient<T> appendAll(Iterable<? extends T> values){
+            for(T next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return size;
+        }
+
+        /**
+         * @return Persistent Vector containing all appended elements, this transient can no longer be used
+         */
+        public Vector<T> persistent(){
+            owner.release();
+            BAMT.Relaxed<T> built = BAMT.Relaxed.fromLeaves(leaves,leafCount);
+            BAMT.NestedArray<T> newRoot = built==null ? root : (rootSize==0 ? built : BAMT.Relaxed.concat(BAMT.Relaxed.fromNestedArray(root,rootSize),built));
+            return new Vector<>(newRoot,new BAMT.ActiveTail<>((T[])Arrays.copyOf(tail,tailSize)),size);
         }
-        return res;
     }
 
 
@@ -230,7 +308,49 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public ReactiveSeq<T> stream(){
-        return ReactiveSeq.fromIterable(this);
+        return ReactiveSeq.fromSpliterator(ParallelTraversal.spliterator(part()));
+    }
+
+    /**
+     * Fold this Vector on the supplied ForkJoinPool, sub-tries of the BAMT and the tail are folded as separate tasks
+     * and combined in order, so the Monoid need only be associative.
+     *
+     * <pre>
+     * {@code
+     *  Vector.range(0,1_000_000).parallelFold(pool,Monoids.intSum);
+     * }
+     * </pre>
+     *
+     * @param pool ForkJoinPool to run on
+     * @param monoid Monoid to fold with
+     * @return Result of the fold
+     */
+    public T parallelFold(ForkJoinPool pool, Monoid<T> monoid){
+        return ParallelTraversal.fold(pool,part(),monoid);
+    }
+
+    public T parallelFold(Monoid<T> monoid){
+        return parallelFold(ForkJoinPool.commonPool(),monoid);
+    }
+
+    public <A,R> R parallelCollect(ForkJoinPool pool, Collector<? super T, A, R> collector){
+        return ParallelTraversal.collect(pool,part(),collector);
+    }
+
+    public <A,R> R parallelCollect(Collector<? super T, A, R> collector){
+        return parallelCollect(ForkJoinPool.commonPool(),collector);
+    }
+
+    /**
+     * @return Parallel JDK Stream, split on sub-trie boundaries
+     */
+    public Stream<T> parallelStream(){
+        return ParallelTraversal.parallelStream(part());
+    }
+
+    private ParallelTraversal.Part<T> part(){
+        return ParallelTraversal.concat(BAMT.Relaxed.fromNestedArray(root,size-tail.size()),
+                                        tail.size()==0 ? null : BAMT.Relaxed.leaf(tail.getNestedArrayAt(0)));
     }
 
     public Vector<T> filter(Predicate<? super T> pred){
@@ -573,7 +693,8 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> slice(long from, long to) {
-        return (Vector<T>) ImmutableList.super.slice(from,to);
+        long start = Math.max(from,0);
+        return drop(start).take(Math.max(to-start,0));
     }
 
 
@@ -589,12 +710,14 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> prependAll(T... values) {
-        return (Vector<T>) ImmutableList.super.prependAll(values);
+        return Vector.of(values).concat(this);
     }
 
     @Override
     public Vector<T> deleteBetween(int start, int end) {
-        return (Vector<T>) ImmutableList.super.deleteBetween(start,end);
+        if(start>=end || end<=0 || start>=size)
+            return this;
+        return take(start).concat(drop(end));
     }
 
     @Override
@@ -742,13 +865,7 @@ public class Vector<T> implements ImmutableList<T>,
             return empty();
         if(num>=size())
             return this;
-        if(num==tail.size())
-            return new Vector<>(new BAMT.Zero<>(),tail,num);
-        if(num<tail.size()){
-            BAMT.ActiveTail<T> newTail = tail.takeRight(num);
-            return new Vector<>(new BAMT.Zero<>(),newTail,newTail.size());
-        }
-        return (Vector<T>)ImmutableList.super.dropRight(num);
+        return drop(size-num);
     }
 
     public Vector<T> dropRight(int num){
@@ -756,13 +873,7 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(tail.size()==1){
-            return new Vector<>(this.root,BAMT.ActiveTail.emptyTail(),size()-1).drop(num-1);
-        }
-        if(tail.size()>0){
-            return new Vector<>(this.root,tail.dropRight(num),size()-(Math.min(tail.size(),num))).dropRight(num-tail.size());
-        }
-        return unitStream(stream().dropRight(num));
+        return take(size-num);
     }
     @Override
     public Vector<T> drop(long num) {
@@ -770,10 +881,11 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(size()<32){
-            return new Vector<>(this.root,tail.drop((int)num),size()-(int)num);
+        int rootSize = size-tail.size();
+        if(num>=rootSize){
+            return new Vector<>(new BAMT.Zero<>(),tail.drop((int)num-rootSize),size-(int)num);
         }
-        return unitStream(stream().drop(num));
+        return new Vector<>(BAMT.Relaxed.fromNestedArray(root,rootSize).drop((int)num),tail,size-(int)num);
     }
 
     @Override
@@ -782,60 +894,71 @@ public class Vector<T> implements ImmutableList<T>,
             return empty();
         if(num>=size())
             return this;
-        if(size()<32){
-            return new Vector<T>(this.root,tail.dropRight(Math.max(tail.size()-(int)num,0)),(int)num);
+        int rootSize = size-tail.size();
+        if(num>=rootSize){
+            return new Vector<T>(root,tail.dropRight(size-(int)num),(int)num);
         }
-        return unitStream(stream().take(num));
+        return new Vector<>(BAMT.Relaxed.fromNestedArray(root,rootSize).take((int)num),BAMT.ActiveTail.emptyTail(),(int)num);
     }
 
     @Override
     public Vector<T> prepend(T value) {
-        return prependAll(Arrays.asList(value));
+        return Vector.of(value).concat(this);
     }
 
 
     @Override
     public Vector<T> prependAll(Iterable<? extends T> value) {
-        int newSize= 0;
-        BAMT.NestedArray<T> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<T> newTail = BAMT.ActiveTail.emptyTail();
-
-        for (T t : value) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-        for (T t : this) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-
-        return new Vector<>(newRoot,newTail,newSize);
+        return Vector.fromIterable((Iterable<T>)value).concat(this);
     }
 
     public Vector<T> append(T value) {
         return plus(value);
     }
 
+    /**
+     * Concatenate two Vectors, sharing the structure of both.
+     * Where the other Vector is larger than a single leaf, the tries are joined via relaxed (size table) nodes in O(log n)
+     *
+     * <pre>
+     * {@code
+     *     Vector.of(1,2,3).concat(Vector.of(4,5,6));
+     *
+     *     //Vector[1,2,3,4,5,6]
+     * }
+     * </pre>
+     *
+     * @param other Vector to append
+     * @return Vector containing the elements of this Vector followed by the elements of other
+     */
+    public Vector<T> concat(Vector<T> other){
+        if(other.size==0)
+            return this;
+        if(size==0)
+            return other;
+        int otherRootSize = other.size-other.tail.size();
+        if(otherRootSize==0)
+            return appendTail(other.tail);
+        BAMT.Relaxed<T> left = BAMT.Relaxed.fromNestedArray(root,size-tail.size());
+        if(tail.size()>0)
+            left = BAMT.Relaxed.concat(left,BAMT.Relaxed.leaf(tail.getNestedArrayAt(0)));
+        BAMT.Relaxed<T> right = BAMT.Relaxed.fromNestedArray(other.root,otherRootSize);
+        return new Vector<>(BAMT.Relaxed.concat(left,right),other.tail,size+other.size);
+    }
+
+    private Vector<T> appendTail(BAMT.ActiveTail<T> values){
+        Vector<T> res = this;
+        T[] array = values.getNestedArrayAt(0);
+        for(T next : array){
+            res = res.plus(next);
+        }
+        return res;
+    }
+
     @Override
     public Vector<T> appendAll(Iterable<? extends T> value) {
+        if(value instanceof Vector)
+            return concat((Vector<T>)value);
         int newSize= size;
         BAMT.NestedArray<T> newRoot =root;
         BAMT.ActiveTail<T> newTail = tail;
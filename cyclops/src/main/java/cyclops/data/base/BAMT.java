@@ -4,9 +4,13 @@ import cyclops.control.Option;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -1034,4 +1038,509 @@ public class BAMT<T> {
         }
 
     }
+
+    /*
+     * Relaxed radix balanced variant of the trie. Internal nodes are either plain Object[] arrays, where every child
+     * but the last is full so indexing is pure bit arithmetic (as in Two..Six), or SizedNodes carrying a cumulative
+     * size table. Relaxed nodes allow concatenation, slicing and prepending in O(log n).
+     */
+    public static class Relaxed<T> implements PopulatedArray<T>, ParallelTraversal.Part<T> {
+        private static final int WIDTH = 32;
+        private static final int EXTRAS = 2;
+
+        final Object node;
+        final int height;
+        final int size;
+
+        Relaxed(Object node, int height, int size) {
+            this.node = node;
+            this.height = height;
+            this.size = size;
+        }
+
+        static final class SizedNode {
+            final Object[] children;
+            final int[] sizes;
+
+            SizedNode(Object[] children, int[] sizes) {
+                this.children = children;
+                this.sizes = sizes;
+            }
+        }
+
+        public static <T> Relaxed<T> leaf(T[] array){
+            return new Relaxed<>(array,0,array.length);
+        }
+
+        /**
+         * @param array Trie to convert
+         * @param size Number of elements stored in the trie
+         * @return Relaxed view of the trie sharing all existing nodes, or null if the trie is empty
+         */
+        public static <T> Relaxed<T> fromNestedArray(NestedArray<T> array, int size){
+            if(size==0 || array instanceof Zero)
+                return null;
+            if(array instanceof Relaxed)
+                return (Relaxed<T>)array;
+            if(array instanceof One)
+                return new Relaxed<>(((One<T>)array).array,0,size);
+            if(array instanceof Two)
+                return new Relaxed<>(((Two<T>)array).array,1,size);
+            if(array instanceof Three)
+                return new Relaxed<>(((Three<T>)array).array,2,size);
+            if(array instanceof Four)
+                return new Relaxed<>(((Four<T>)array).array,3,size);
+            if(array instanceof Five)
+                return new Relaxed<>(((Five<T>)array).array,4,size);
+            return new Relaxed<>(((Six<T>)array).array,5,size);
+        }
+
+        /**
+         * Build a balanced trie bottom up, every node is allocated once at its final size
+         *
+         * @param leaves Leaf arrays, all but the last must hold 32 elements
+         * @param count Number of leaves to use
+         * @return Relaxed trie over the leaves, or null if count is 0
+         */
+        public static <T> Relaxed<T> fromLeaves(Object[][] leaves, int count){
+            if(count==0)
+                return null;
+            Object[] level = leaves;
+            int length = count;
+            int height = 0;
+            int size = (count-1)*WIDTH + leaves[count-1].length;
+            while(length>1){
+                Object[] parents = new Object[(length+WIDTH-1)/WIDTH];
+                for(int i=0;i<parents.length;i++){
+                    int start = i*WIDTH;
+                    parents[i] = Arrays.copyOfRange(level,start,Math.min(start+WIDTH,length),Object[].class);
+                }
+                level = parents;
+                length = parents.length;
+                height++;
+            }
+            return new Relaxed<>(level[0],height,size);
+        }
+
+        public static <T> Relaxed<T> concat(Relaxed<T> left, Relaxed<T> right){
+            if(left==null)
+                return right;
+            if(right==null)
+                return left;
+            Object[] top = merge(left.node,left.height,right.node,right.height);
+            int height = Math.max(left.height,right.height);
+            if(top.length==1)
+                return new Relaxed<>(top[0],height,left.size+right.size);
+            return new Relaxed<>(build(top,height+1),height+1,left.size+right.size);
+        }
+
+        public int size(){
+            return size;
+        }
+
+        /**
+         * @param num Number of elements to keep, 0 &lt; num &lt;= size
+         */
+        public Relaxed<T> take(int num){
+            if(num>=size)
+                return this;
+            return collapse(takeNode(node,height,num),height,num);
+        }
+
+        /**
+         * @param num Number of elements to drop, 0 &lt;= num &lt; size
+         */
+        public Relaxed<T> drop(int num){
+            if(num<=0)
+                return this;
+            return collapse(dropNode(node,height,num),height,size-num);
+        }
+
+        @Override
+        public NestedArray<T> append(ActiveTail<T> tail) {
+            if(tail.size()==0)
+                return this;
+            Object pushed = push(node,height,tail.array);
+            if(pushed!=null)
+                return new Relaxed<>(pushed,height,size+tail.size());
+            if(!(node instanceof SizedNode) && shift(height+1)<31 && size==1<<shift(height+1))
+                return new Relaxed<>(new Object[]{node,path(tail.array,height)},height+1,size+tail.size());
+            return concat(this,leaf(tail.array));
+        }
+
+        //fast path for appending to balanced tries, returns null where a relaxed concat is required
+        private static Object push(Object node, int height, Object[] leaf){
+            if(height==0 || node instanceof SizedNode)
+                return null;
+            Object[] children = (Object[])node;
+            Object last = last(children);
+            int full = 1 << shift(height);
+            if(sizeOf(last,height-1)==full){
+                if(children.length==WIDTH)
+                    return null;
+                Object[] added = Arrays.copyOf(children,children.length+1,Object[].class);
+                added[children.length] = path(leaf,height-1);
+                return added;
+            }
+            Object pushed = push(last,height-1,leaf);
+            if(pushed==null)
+                return null;
+            Object[] updated = Arrays.copyOf(children,children.length,Object[].class);
+            updated[children.length-1] = pushed;
+            return updated;
+        }
+
+        private static Object path(Object[] leaf, int height){
+            Object node = leaf;
+            for(int h=0;h<height;h++){
+                node = new Object[]{node};
+            }
+            return node;
+        }
+
+        /**
+         * @return Sub-tries of the root node in index order, or an empty List for a single leaf
+         */
+        @Override
+        public List<Relaxed<T>> split() {
+            if(height==0)
+                return Collections.emptyList();
+            Object[] children = children(node);
+            List<Relaxed<T>> parts = new ArrayList<>(children.length);
+            for(Object child : children){
+                parts.add(new Relaxed<>(child,height-1,sizeOf(child,height-1)));
+            }
+            return parts;
+        }
+
+        /*
+         * Walks the trie a leaf array at a time, with no per element index arithmetic
+         */
+        @Override
+        public void forEach(Consumer<? super T> action) {
+            forEachLeaf(node,height,action);
+        }
+
+        private static <T> void forEachLeaf(Object node, int height, Consumer<? super T> action){
+            if(height==0){
+                for(Object next : (Object[])node){
+                    action.accept((T)next);
+                }
+                return;
+            }
+            for(Object child : children(node)){
+                forEachLeaf(child,height-1,action);
+            }
+        }
+
+        @Override
+        public ReactiveSeq<T> stream() {
+            return ReactiveSeq.fromIterator(iterator());
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                final Object[][] path = new Object[height+1][];
+                final int[] index = new int[height+1];
+                int returned = 0;
+                {
+                    descend(height,node);
+                }
+
+                private void descend(int level, Object from){
+                    Object current = from;
+                    for(int h=level;h>=0;h--){
+                        path[h] = children(current);
+                        index[h] = 0;
+                        if(h>0)
+                            current = path[h][0];
+                    }
+                }
+                @Override
+                public boolean hasNext() {
+                    return returned<size;
+                }
+
+                @Override
+                public T next() {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    if(index[0]==path[0].length){
+                        int level = 1;
+                        while(index[level]+1==path[level].length)
+                            level++;
+                        index[level]++;
+                        descend(level-1,path[level][index[level]]);
+                    }
+                    returned++;
+                    return (T)path[0][index[0]++];
+                }
+            };
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<T> alt) {
+            if(pos<0 || pos>=size)
+                return alt.get();
+            return at(pos);
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            if(pos<0 || pos>=size)
+                return alt;
+            return at(pos);
+        }
+
+        @Override
+        public Option<T> get(int pos) {
+            if(pos<0 || pos>=size)
+                return Option.none();
+            return Option.of(at(pos));
+        }
+
+        @Override
+        public T[] getNestedArrayAt(int pos) {
+            Object current = node;
+            int index = pos;
+            for(int h=height;h>0;h--){
+                int slot = slot(current,h,index);
+                index -= offset(current,h,slot);
+                current = children(current)[slot];
+            }
+            return (T[])current;
+        }
+
+        @Override
+        public Relaxed<T> set(int pos, T value) {
+            if(pos<0 || pos>=size)
+                return this;
+            return new Relaxed<>(setNode(node,height,pos,value),height,size);
+        }
+
+        @Override
+        public <R> Relaxed<R> map(Function<? super T, ? extends R> fn) {
+            return new Relaxed<>(mapNode(node,height,fn),height,size);
+        }
+
+        private T at(int pos){
+            Object current = node;
+            int index = pos;
+            for(int h=height;h>0;h--){
+                int slot = slot(current,h,index);
+                index -= offset(current,h,slot);
+                current = children(current)[slot];
+            }
+            return (T)((Object[])current)[index];
+        }
+
+        private static <T> Relaxed<T> collapse(Object node, int height, int size){
+            while(height>0 && children(node).length==1){
+                node = children(node)[0];
+                height--;
+            }
+            return new Relaxed<>(node,height,size);
+        }
+
+        private static Object[] children(Object node){
+            return node instanceof SizedNode ? ((SizedNode)node).children : (Object[])node;
+        }
+
+        private static int shift(int height){
+            return BITS_IN_INDEX*height;
+        }
+
+        private static int slot(Object node, int height, int index){
+            int shift = shift(height);
+            int slot = shift<31 ? index >>> shift : 0;
+            if(node instanceof SizedNode){
+                int[] sizes = ((SizedNode)node).sizes;
+                while(sizes[slot]<=index)
+                    slot++;
+            }
+            return slot;
+        }
+
+        private static int offset(Object node, int height, int slot){
+            if(slot==0)
+                return 0;
+            if(node instanceof SizedNode)
+                return ((SizedNode)node).sizes[slot-1];
+            return slot << shift(height);
+        }
+
+        static int sizeOf(Object node, int height){
+            if(height==0)
+                return ((Object[])node).length;
+            if(node instanceof SizedNode){
+                int[] sizes = ((SizedNode)node).sizes;
+                return sizes[sizes.length-1];
+            }
+            Object[] children = (Object[])node;
+            return ((children.length-1) << shift(height)) + sizeOf(last(children),height-1);
+        }
+
+        static Object build(Object[] children, int height){
+            int[] sizes = new int[children.length];
+            boolean balanced = shift(height)<31;
+            int full = balanced ? 1 << shift(height) : 0;
+            int total = 0;
+            for(int i=0;i<children.length;i++){
+                int next = sizeOf(children[i],height-1);
+                if(i<children.length-1 && next!=full)
+                    balanced = false;
+                total += next;
+                sizes[i] = total;
+            }
+            return balanced ? children : new SizedNode(children,sizes);
+        }
+
+        private static Object takeNode(Object node, int height, int num){
+            if(height==0){
+                Object[] leaf = (Object[])node;
+                return num==leaf.length ? leaf : Arrays.copyOf(leaf,num,Object[].class);
+            }
+            int slot = slot(node,height,num-1);
+            int before = offset(node,height,slot);
+            Object[] children = Arrays.copyOf(children(node),slot+1,Object[].class);
+            children[slot] = takeNode(children[slot],height-1,num-before);
+            if(node instanceof SizedNode){
+                int[] sizes = Arrays.copyOf(((SizedNode)node).sizes,slot+1);
+                sizes[slot] = num;
+                return new SizedNode(children,sizes);
+            }
+            return children;
+        }
+
+        private static Object dropNode(Object node, int height, int num){
+            if(height==0){
+                Object[] leaf = (Object[])node;
+                return Arrays.copyOfRange(leaf,num,leaf.length,Object[].class);
+            }
+            int slot = slot(node,height,num);
+            int before = offset(node,height,slot);
+            Object[] current = children(node);
+            Object[] children = Arrays.copyOfRange(current,slot,current.length,Object[].class);
+            if(num>before)
+                children[0] = dropNode(children[0],height-1,num-before);
+            return build(children,height);
+        }
+
+        private static Object setNode(Object node, int height, int index, Object value){
+            if(height==0){
+                Object[] leaf = Arrays.copyOf((Object[])node,((Object[])node).length,Object[].class);
+                leaf[index]=value;
+                return leaf;
+            }
+            int slot = slot(node,height,index);
+            int before = offset(node,height,slot);
+            Object[] children = Arrays.copyOf(children(node),children(node).length,Object[].class);
+            children[slot] = setNode(children[slot],height-1,index-before,value);
+            if(node instanceof SizedNode)
+                return new SizedNode(children,((SizedNode)node).sizes);
+            return children;
+        }
+
+        private static Object mapNode(Object node, int height, Function<?,?> fn){
+            Object[] current = children(node);
+            Object[] res = new Object[current.length];
+            for(int i=0;i<current.length;i++){
+                res[i] = height==0 ? ((Function<Object,Object>)fn).apply(current[i]) : mapNode(current[i],height-1,fn);
+            }
+            if(node instanceof SizedNode)
+                return new SizedNode(res,((SizedNode)node).sizes);
+            return res;
+        }
+
+        /*
+         * Concatenates two sub-tries, returning one or two nodes at height max(leftHeight,rightHeight).
+         * Nodes along the seam are redistributed so the result stays within EXTRAS of the optimal node count.
+         */
+        private static Object[] merge(Object left, int leftHeight, Object right, int rightHeight){
+            if(leftHeight==0 && rightHeight==0){
+                Object[] l = (Object[])left;
+                Object[] r = (Object[])right;
+                if(l.length+r.length<=WIDTH){
+                    Object[] joined = Arrays.copyOf(l,l.length+r.length,Object[].class);
+                    System.arraycopy(r,0,joined,l.length,r.length);
+                    return new Object[]{joined};
+                }
+                return new Object[]{l,r};
+            }
+            int height = Math.max(leftHeight,rightHeight);
+            Object[] leftChildren = leftHeight==height ? children(left) : null;
+            Object[] rightChildren = rightHeight==height ? children(right) : null;
+            Object[] middle = merge(leftChildren==null ? left : last(leftChildren), leftChildren==null ? leftHeight : leftHeight-1,
+                                    rightChildren==null ? right : rightChildren[0], rightChildren==null ? rightHeight : rightHeight-1);
+            int leftCount = leftChildren==null ? 0 : leftChildren.length-1;
+            int rightCount = rightChildren==null ? 0 : rightChildren.length-1;
+            Object[] all = new Object[leftCount+middle.length+rightCount];
+            if(leftCount>0)
+                System.arraycopy(leftChildren,0,all,0,leftCount);
+            System.arraycopy(middle,0,all,leftCount,middle.length);
+            if(rightCount>0)
+                System.arraycopy(rightChildren,1,all,leftCount+middle.length,rightCount);
+
+            Object[] balanced = rebalance(all,height-1);
+            if(balanced.length<=WIDTH)
+                return new Object[]{build(balanced,height)};
+            return new Object[]{build(Arrays.copyOf(balanced,WIDTH),height),
+                                build(Arrays.copyOfRange(balanced,WIDTH,balanced.length),height)};
+        }
+
+        private static Object[] rebalance(Object[] all, int height){
+            int[] plan = new int[all.length];
+            int total = 0;
+            for(int i=0;i<all.length;i++){
+                plan[i] = children(all[i]).length;
+                total += plan[i];
+            }
+            int optimal = (total+WIDTH-1)/WIDTH;
+            int count = all.length;
+            if(count<=optimal+EXTRAS)
+                return all;
+            int i=0;
+            while(count>optimal+EXTRAS){
+                while(plan[i]>WIDTH-EXTRAS/2)
+                    i++;
+                int remaining = plan[i];
+                do{
+                    int next = Math.min(remaining+plan[i+1],WIDTH);
+                    plan[i] = next;
+                    remaining = remaining+plan[i+1]-next;
+                    i++;
+                }while(remaining>0);
+                System.arraycopy(plan,i+1,plan,i,count-i-1);
+                count--;
+                i--;
+            }
+
+            Object[] result = new Object[count];
+            int source = 0;
+            int offset = 0;
+            for(int k=0;k<count;k++){
+                Object[] slots = children(all[source]);
+                if(offset==0 && slots.length==plan[k]){
+                    result[k] = all[source++];
+                    continue;
+                }
+                Object[] dest = new Object[plan[k]];
+                int filled = 0;
+                while(filled<dest.length){
+                    slots = children(all[source]);
+                    int copy = Math.min(dest.length-filled,slots.length-offset);
+                    System.arraycopy(slots,offset,dest,filled,copy);
+                    filled += copy;
+                    offset += copy;
+                    if(offset==slots.length){
+                        source++;
+                        offset = 0;
+                    }
+                }
+                result[k] = height==0 ? dest : build(dest,height);
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,959 @@
+package cyclops.data.base;
+
+
+import cyclops.companion.Comparators;
+import cyclops.control.Option;
+import cyclops.data.LazySeq;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Compressed Hash-Array Mapped Prefix-tree (Steindorfer &amp; Vinju).
+ *
+ * Compared with {@link HAMT} each node keeps two bitmaps, one for inline key / value entries and one for sub-nodes,
+ * over a single untyped array. Keys and values are stored directly in the array (no per-entry node or tuple objects),
+ * entries are grouped ahead of sub-nodes so iteration is a linear scan, and deletion always restores the canonical
+ * (smallest) trie shape. As the shape depends only on the contents, two tries can be compared structurally.
+ *
+ * Hashes are not stored, when an entry is pushed down a level its hash is recomputed with {@link Object#hashCode()},
+ * so the hash supplied to every operation must be the hashCode of the key.
+ *
+ * Array layout of a {@link BitmapNode} with n entries and m sub-nodes :- [k0,v0,k1,v1 ... kn-1,vn-1,node m-1 ... node0]
+ */
+public final class CHAMP<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    static final int BITS_IN_INDEX = 5;
+    static final int SIZE = 1 << BITS_IN_INDEX;
+    static final int MASK = SIZE - 1;
+    static final int MAX_DEPTH = (32 + BITS_IN_INDEX - 1) / BITS_IN_INDEX;
+
+    private CHAMP() {
+    }
+
+    public static <K, V> Node<K, V> empty() {
+        return BitmapNode.EMPTY;
+    }
+
+    public interface Node<K, V> extends Serializable {
+
+        default Node<K, V> put(K key, V value) {
+            return plus(0, key.hashCode(), key, value);
+        }
+
+        default Option<V> get(K key) {
+            return get(0, key.hashCode(), key);
+        }
+
+        default V getOrElse(K key, V alt) {
+            return getOrElse(0, key.hashCode(), key, alt);
+        }
+
+        default boolean containsKey(K key) {
+            return get(key).isPresent();
+        }
+
+        default Node<K, V> minus(K key) {
+            return minus(0, key.hashCode(), key);
+        }
+
+        Node<K, V> plus(int bitShiftDepth, int hash, K key, V value);
+
+        /**
+         * Transient insertion, nodes owned by the supplied token are updated in place
+         */
+        Node<K, V> plus(TransientOwner owner, int bitShiftDepth, int hash, K key, V value);
+
+        Option<V> get(int bitShiftDepth, int hash, K key);
+
+        V getOrElse(int bitShiftDepth, int hash, K key, V alt);
+
+        V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt);
+
+        Node<K, V> minus(int bitShiftDepth, int hash, K key);
+
+        int size();
+
+        /**
+         * Visit every key / value pair without allocating intermediate tuples
+         */
+        void forEach(BiConsumer<? super K, ? super V> consumer);
+
+        default Iterator<Tuple2<K, V>> iterator() {
+            return new TrieIterator<K, V, Tuple2<K, V>>(this, Tuple::tuple);
+        }
+
+        default Iterator<K> keyIterator() {
+            return new TrieIterator<K, V, K>(this, (k, v) -> k);
+        }
+
+        default LazySeq<Tuple2<K, V>> lazyList() {
+            return LazySeq.fromIterator(iterator());
+        }
+
+        default ReactiveSeq<Tuple2<K, V>> stream() {
+            return ReactiveSeq.fromSpliterator(ParallelTraversal.spliterator(part(Tuple::tuple)));
+        }
+
+        default ReactiveSeq<K> keys() {
+            return ReactiveSeq.fromSpliterator(ParallelTraversal.spliterator(part((k, v) -> k)));
+        }
+
+        /**
+         * @param fn Conversion of each key / value pair to the element type
+         * @return Part of this trie for parallel traversal, split on sub-node boundaries in iteration order
+         */
+        default <R> ParallelTraversal.Part<R> part(BiFunction<? super K, ? super V, ? extends R> fn) {
+            return new NodePart<>(this, fn);
+        }
+
+        default ReactiveSeq<Tuple2<K, V>> streamNaturalOrder() {
+            return stream().sorted(Comparators.naturalOrderIdentityComparator());
+        }
+
+        /**
+         * Trie to trie union. The resolver is called for every key present in both tries (this trie's value first).
+         */
+        default Node<K, V> merge(Node<K, V> other, BiFunction<? super V, ? super V, ? extends V> resolver) {
+            return CHAMP.merge(0, this, other, resolver);
+        }
+
+        /**
+         * Trie to trie union where other's value wins for keys present in both tries, sub-tries shared by reference
+         * between both sides are reused without being visited.
+         */
+        default Node<K, V> putAll(Node<K, V> other) {
+            return CHAMP.merge(0, this, other, null);
+        }
+
+        /**
+         * @return Entries of this trie whose keys are not present in other
+         */
+        default Node<K, V> difference(Node<K, ?> other) {
+            return root(CHAMP.difference(0, this, other));
+        }
+
+        /**
+         * @return Entries of this trie whose keys are also present in other
+         */
+        default Node<K, V> intersect(Node<K, ?> other) {
+            return root(CHAMP.intersect(0, this, other));
+        }
+    }
+
+    public static final class BitmapNode<K, V> implements Node<K, V> {
+        private static final long serialVersionUID = 1L;
+        static final BitmapNode EMPTY = new BitmapNode(0, 0, 0, new Object[0], null);
+
+        private int dataMap;
+        private int nodeMap;
+        private int size;
+        private Object[] content;
+        private final transient TransientOwner owner;
+
+        private BitmapNode(int dataMap, int nodeMap, int size, Object[] content, TransientOwner owner) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.size = size;
+            this.content = content;
+            this.owner = owner;
+        }
+
+        @Override
+        public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+            return plus(null, bitShiftDepth, hash, key, value);
+        }
+
+        @Override
+        public Node<K, V> plus(TransientOwner owner, int bitShiftDepth, int hash, K key, V value) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                K current = (K) content[index];
+                if (Objects.equals(current, key)) {
+                    if (content[index + 1] == value)
+                        return this;
+                    BitmapNode<K, V> editable = editable(owner);
+                    editable.content[index + 1] = value;
+                    return editable;
+                }
+                Node<K, V> sub = mergeTwo(owner, bitShiftDepth + BITS_IN_INDEX, current, (V) content[index + 1], current.hashCode(),
+                                            key, value, hash);
+                return update(owner, dataMap ^ bit, nodeMap | bit, size + 1, migrateToNode(bit, sub));
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = nodeSlot(bit);
+                Node<K, V> sub = (Node<K, V>) content[index];
+                int subSize = sub.size();
+                Node<K, V> updated = sub.plus(owner, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+                if (updated == sub && updated.size() == subSize)
+                    return this;
+                BitmapNode<K, V> editable = editable(owner);
+                editable.content[index] = updated;
+                editable.size = size + updated.size() - subSize;
+                return editable;
+            }
+            return update(owner, dataMap | bit, nodeMap, size + 1, insertEntry(bit, key, value));
+        }
+
+        @Override
+        public Option<V> get(int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                return Objects.equals(content[index], key) ? Option.some((V) content[index + 1]) : Option.none();
+            }
+            if ((nodeMap & bit) != 0)
+                return node(bit).get(bitShiftDepth + BITS_IN_INDEX, hash, key);
+            return Option.none();
+        }
+
+        @Override
+        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                return Objects.equals(content[index], key) ? (V) content[index + 1] : alt;
+            }
+            if ((nodeMap & bit) != 0)
+                return node(bit).getOrElse(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            return alt;
+        }
+
+        @Override
+        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                return Objects.equals(content[index], key) ? (V) content[index + 1] : alt.get();
+            }
+            if ((nodeMap & bit) != 0)
+                return node(bit).getOrElseGet(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            return alt.get();
+        }
+
+        @Override
+        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                if (!Objects.equals(content[index], key))
+                    return this;
+                if (size == 1)
+                    return EMPTY;
+                int newDataMap = dataMap ^ bit;
+                if (bitShiftDepth > 0 && newDataMap == 0 && Integer.bitCount(nodeMap) == 1) {
+                    //only a sub-node remains, a collision node can move up to the parent
+                    Node<K, V> remaining = (Node<K, V>) content[content.length - 1];
+                    if (remaining instanceof CollisionNode)
+                        return remaining;
+                }
+                return new BitmapNode<>(newDataMap, nodeMap, size - 1, removeEntry(bit), null);
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = nodeSlot(bit);
+                Node<K, V> sub = (Node<K, V>) content[index];
+                Node<K, V> updated = sub.minus(bitShiftDepth + BITS_IN_INDEX, hash, key);
+                if (updated == sub)
+                    return this;
+                boolean onlyChild = dataMap == 0 && Integer.bitCount(nodeMap) == 1;
+                if (updated.size() == 1) {
+                    if (bitShiftDepth > 0 && onlyChild)
+                        return updated; //the parent inlines the single remaining entry
+                    Object[] entry = updated instanceof CollisionNode ? ((CollisionNode<K, V>) updated).content : ((BitmapNode<K, V>) updated).content;
+                    return new BitmapNode<>(dataMap | bit, nodeMap ^ bit, size - 1, migrateToInline(bit, entry[0], entry[1]), null);
+                }
+                if (bitShiftDepth > 0 && onlyChild && updated instanceof CollisionNode)
+                    return updated;
+                Object[] copy = content.clone();
+                copy[index] = updated;
+                return new BitmapNode<>(dataMap, nodeMap, size - 1, copy, null);
+            }
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> consumer) {
+            int dataLength = 2 * Integer.bitCount(dataMap);
+            for (int i = 0; i < dataLength; i += 2) {
+                consumer.accept((K) content[i], (V) content[i + 1]);
+            }
+            for (int i = content.length - 1; i >= dataLength; i--) {
+                ((Node<K, V>) content[i]).forEach(consumer);
+            }
+        }
+
+        private BitmapNode<K, V> editable(TransientOwner owner) {
+            return TransientOwner.owns(owner, this.owner) ? this : new BitmapNode<>(dataMap, nodeMap, size, content.clone(), owner);
+        }
+
+        private BitmapNode<K, V> update(TransientOwner owner, int dataMap, int nodeMap, int size, Object[] content) {
+            if (TransientOwner.owns(owner, this.owner)) {
+                this.dataMap = dataMap;
+                this.nodeMap = nodeMap;
+                this.size = size;
+                this.content = content;
+                return this;
+            }
+            return new BitmapNode<>(dataMap, nodeMap, size, content, owner);
+        }
+
+        private Node<K, V> node(int bit) {
+            return (Node<K, V>) content[nodeSlot(bit)];
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        private int nodeSlot(int bit) {
+            return content.length - 1 - nodeIndex(bit);
+        }
+
+        private Object[] insertEntry(int bit, K key, V value) {
+            int index = 2 * dataIndex(bit);
+            Object[] result = new Object[content.length + 2];
+            System.arraycopy(content, 0, result, 0, index);
+            result[index] = key;
+            result[index + 1] = value;
+            System.arraycopy(content, index, result, index + 2, content.length - index);
+            return result;
+        }
+
+        private Object[] removeEntry(int bit) {
+            int index = 2 * dataIndex(bit);
+            Object[] result = new Object[content.length - 2];
+            System.arraycopy(content, 0, result, 0, index);
+            System.arraycopy(content, index + 2, result, index, content.length - index - 2);
+            return result;
+        }
+
+        private Object[] migrateToNode(int bit, Node<K, V> node) {
+            int oldIndex = 2 * dataIndex(bit);
+            int newIndex = content.length - 2 - nodeIndex(bit);
+            Object[] result = new Object[content.length - 1];
+            System.arraycopy(content, 0, result, 0, oldIndex);
+            System.arraycopy(content, oldIndex + 2, result, oldIndex, newIndex - oldIndex);
+            result[newIndex] = node;
+            System.arraycopy(content, newIndex + 2, result, newIndex + 1, content.length - newIndex - 2);
+            return result;
+        }
+
+        private Object[] migrateToInline(int bit, Object key, Object value) {
+            int oldIndex = nodeSlot(bit);
+            int newIndex = 2 * dataIndex(bit);
+            Object[] result = new Object[content.length + 1];
+            System.arraycopy(content, 0, result, 0, newIndex);
+            result[newIndex] = key;
+            result[newIndex + 1] = value;
+            System.arraycopy(content, newIndex, result, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(content, oldIndex + 1, result, oldIndex + 2, content.length - oldIndex - 1);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof BitmapNode))
+                return false;
+            BitmapNode<?, ?> that = (BitmapNode<?, ?>) o;
+            if (dataMap != that.dataMap || nodeMap != that.nodeMap || size != that.size)
+                return false;
+            for (int i = 0; i < content.length; i++) {
+                if (!Objects.equals(content[i], that.content[i]))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int[] hash = {0};
+            forEach((k, v) -> hash[0] += Objects.hash(k, v));
+            return hash[0];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder s = new StringBuilder("{d:" + Integer.toBinaryString(dataMap) + ",n:" + Integer.toBinaryString(nodeMap) + ",s:" + size);
+            int dataLength = 2 * Integer.bitCount(dataMap);
+            for (int i = 0; i < dataLength; i += 2) {
+                s.append(",[k:" + content[i] + ",v:" + content[i + 1] + "]");
+            }
+            for (int i = content.length - 1; i >= dataLength; i--) {
+                s.append("," + content[i]);
+            }
+            return s.append("}").toString();
+        }
+    }
+
+    public static final class CollisionNode<K, V> implements Node<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int hash;
+        private final Object[] content;
+
+        CollisionNode(int hash, Object[] content) {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        @Override
+        public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+            return plus(null, bitShiftDepth, hash, key, value);
+        }
+
+        @Override
+        public Node<K, V> plus(TransientOwner owner, int bitShiftDepth, int hash, K key, V value) {
+            if (this.hash == hash) {
+                int index = indexOf(key);
+                if (index >= 0) {
+                    if (content[index + 1] == value)
+                        return this;
+                    Object[] copy = content.clone();
+                    copy[index + 1] = value;
+                    return new CollisionNode<>(hash, copy);
+                }
+                Object[] added = new Object[content.length + 2];
+                System.arraycopy(content, 0, added, 0, content.length);
+                added[content.length] = key;
+                added[content.length + 1] = value;
+                return new CollisionNode<>(hash, added);
+            }
+            return merge(owner, bitShiftDepth, hash, key, value);
+        }
+
+        private Node<K, V> merge(TransientOwner owner, int bitShiftDepth, int hash, K key, V value) {
+            int maskThis = mask(this.hash, bitShiftDepth);
+            int maskThat = mask(hash, bitShiftDepth);
+            if (maskThis == maskThat) {
+                Node<K, V> merged = merge(owner, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+                return new BitmapNode<>(0, bitpos(maskThis), size() + 1, new Object[]{merged}, owner);
+            }
+            return new BitmapNode<>(bitpos(maskThat), bitpos(maskThis), size() + 1, new Object[]{key, value, this}, owner);
+        }
+
+        @Override
+        public Option<V> get(int bitShiftDepth, int hash, K key) {
+            int index = this.hash == hash ? indexOf(key) : -1;
+            return index >= 0 ? Option.some((V) content[index + 1]) : Option.none();
+        }
+
+        @Override
+        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+            int index = this.hash == hash ? indexOf(key) : -1;
+            return index >= 0 ? (V) content[index + 1] : alt;
+        }
+
+        @Override
+        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+            int index = this.hash == hash ? indexOf(key) : -1;
+            return index >= 0 ? (V) content[index + 1] : alt.get();
+        }
+
+        @Override
+        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+            int index = this.hash == hash ? indexOf(key) : -1;
+            if (index < 0)
+                return this;
+            Object[] removed = new Object[content.length - 2];
+            System.arraycopy(content, 0, removed, 0, index);
+            System.arraycopy(content, index + 2, removed, index, content.length - index - 2);
+            return new CollisionNode<>(hash, removed);
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (Objects.equals(content[i], key))
+                    return i;
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return content.length / 2;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> consumer) {
+            for (int i = 0; i < content.length; i += 2) {
+                consumer.accept((K) content[i], (V) content[i + 1]);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof CollisionNode))
+                return false;
+            CollisionNode<K, V> that = (CollisionNode<K, V>) o;
+            if (hash != that.hash || content.length != that.content.length)
+                return false;
+            //bucket order depends on insertion order
+            for (int i = 0; i < content.length; i += 2) {
+                int index = that.indexOf((K) content[i]);
+                if (index < 0 || !Objects.equals(content[i + 1], that.content[index + 1]))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int[] hash = {0};
+            forEach((k, v) -> hash[0] += Objects.hash(k, v));
+            return hash[0];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder s = new StringBuilder("[COLLISION : h:" + hash);
+            for (int i = 0; i < content.length; i += 2) {
+                s.append(",[k:" + content[i] + ",v:" + content[i + 1] + "]");
+            }
+            return s.append("]").toString();
+        }
+    }
+
+    private static <K, V> Node<K, V> mergeTwo(TransientOwner owner, int bitShiftDepth, K key1, V value1, int hash1, K key2, V value2, int hash2) {
+        if (hash1 == hash2)
+            return new CollisionNode<>(hash1, new Object[]{key1, value1, key2, value2});
+        int mask1 = mask(hash1, bitShiftDepth);
+        int mask2 = mask(hash2, bitShiftDepth);
+        if (mask1 == mask2) {
+            Node<K, V> merged = mergeTwo(owner, bitShiftDepth + BITS_IN_INDEX, key1, value1, hash1, key2, value2, hash2);
+            return new BitmapNode<>(0, bitpos(mask1), 2, new Object[]{merged}, owner);
+        }
+        Object[] content = mask1 < mask2 ? new Object[]{key1, value1, key2, value2} : new Object[]{key2, value2, key1, value1};
+        return new BitmapNode<>(bitpos(mask1) | bitpos(mask2), 0, 2, content, owner);
+    }
+
+    private static <K, V> Node<K, V> root(Node<K, V> node) {
+        return node.size() == 0 ? BitmapNode.EMPTY : node;
+    }
+
+    /*
+     * A null resolver means the right hand value wins, only then can identical sub-tries and values be reused as is
+     */
+    private static <K, V> Node<K, V> merge(int shift, Node<K, V> a, Node<K, V> b, BiFunction<? super V, ? super V, ? extends V> resolver) {
+        if ((a == b && resolver == null) || b.size() == 0)
+            return a;
+        if (a.size() == 0)
+            return b;
+        if (!(a instanceof BitmapNode) || !(b instanceof BitmapNode)) {
+            Node<K, V>[] result = new Node[]{a};
+            b.forEach((k, v) -> result[0] = plusResolved(shift, result[0], k, v, resolver));
+            return result[0];
+        }
+        BitmapNode<K, V> left = (BitmapNode<K, V>) a;
+        BitmapNode<K, V> right = (BitmapNode<K, V>) b;
+        Assembler<K, V> res = new Assembler<>();
+        int bits = left.dataMap | left.nodeMap | right.dataMap | right.nodeMap;
+        for (int remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            int bit = Integer.lowestOneBit(remaining);
+            if ((left.dataMap & bit) != 0) {
+                int index = 2 * left.dataIndex(bit);
+                K key = (K) left.content[index];
+                V value = (V) left.content[index + 1];
+                if ((right.dataMap & bit) != 0) {
+                    int rightIndex = 2 * right.dataIndex(bit);
+                    K rightKey = (K) right.content[rightIndex];
+                    V rightValue = (V) right.content[rightIndex + 1];
+                    if (Objects.equals(key, rightKey))
+                        res.entry(bit, key, resolve(resolver, value, rightValue));
+                    else
+                        res.node(bit, mergeTwo(null, shift + BITS_IN_INDEX, key, value, key.hashCode(), rightKey, rightValue, rightKey.hashCode()));
+                } else if ((right.nodeMap & bit) != 0) {
+                    Node<K, V> sub = right.node(bit);
+                    Option<V> present = sub.get(shift + BITS_IN_INDEX, key.hashCode(), key);
+                    V resolved = present.isPresent() ? resolve(resolver, value, present.orElse(null)) : value;
+                    res.node(bit, sub.plus(shift + BITS_IN_INDEX, key.hashCode(), key, resolved));
+                } else {
+                    res.entry(bit, key, value);
+                }
+            } else if ((left.nodeMap & bit) != 0) {
+                Node<K, V> sub = left.node(bit);
+                if ((right.dataMap & bit) != 0) {
+                    int rightIndex = 2 * right.dataIndex(bit);
+                    res.node(bit, plusResolved(shift + BITS_IN_INDEX, sub, (K) right.content[rightIndex], (V) right.content[rightIndex + 1], resolver));
+                } else if ((right.nodeMap & bit) != 0) {
+                    res.node(bit, merge(shift + BITS_IN_INDEX, sub, right.node(bit), resolver));
+                } else {
+                    res.node(bit, sub);
+                }
+            } else if ((right.dataMap & bit) != 0) {
+                int rightIndex = 2 * right.dataIndex(bit);
+                res.entry(bit, right.content[rightIndex], right.content[rightIndex + 1]);
+            } else {
+                res.node(bit, right.node(bit));
+            }
+        }
+        return res.build(shift, left);
+    }
+
+    private static <K, V> Node<K, V> plusResolved(int shift, Node<K, V> node, K key, V value, BiFunction<? super V, ? super V, ? extends V> resolver) {
+        Option<V> present = node.get(shift, key.hashCode(), key);
+        return node.plus(shift, key.hashCode(), key, present.isPresent() ? resolve(resolver, present.orElse(null), value) : value);
+    }
+
+    private static <V> V resolve(BiFunction<? super V, ? super V, ? extends V> resolver, V left, V right) {
+        return resolver == null ? right : resolver.apply(left, right);
+    }
+
+    private static <K, V> Node<K, V> difference(int shift, Node<K, V> a, Node<K, ?> b) {
+        if (a == b)
+            return BitmapNode.EMPTY;
+        if (a.size() == 0 || b.size() == 0)
+            return a;
+        if (a instanceof CollisionNode)
+            return filter((CollisionNode<K, V>) a, shift, b, false);
+        if (b instanceof CollisionNode) {
+            Node<K, V>[] result = new Node[]{a};
+            b.forEach((k, v) -> result[0] = result[0].minus(shift, k.hashCode(), k));
+            return result[0];
+        }
+        BitmapNode<K, V> left = (BitmapNode<K, V>) a;
+        BitmapNode<K, ?> right = (BitmapNode<K, ?>) b;
+        Assembler<K, V> res = new Assembler<>();
+        for (int remaining = left.dataMap | left.nodeMap; remaining != 0; remaining &= remaining - 1) {
+            int bit = Integer.lowestOneBit(remaining);
+            if ((left.dataMap & bit) != 0) {
+                int index = 2 * left.dataIndex(bit);
+                K key = (K) left.content[index];
+                boolean removed = (right.dataMap & bit) != 0 ? Objects.equals(key, right.content[2 * right.dataIndex(bit)])
+                                    : (right.nodeMap & bit) != 0 && right.node(bit).get(shift + BITS_IN_INDEX, key.hashCode(), key).isPresent();
+                if (!removed)
+                    res.entry(bit, key, left.content[index + 1]);
+            } else {
+                Node<K, V> sub = left.node(bit);
+                if ((right.dataMap & bit) != 0) {
+                    K key = (K) right.content[2 * right.dataIndex(bit)];
+                    res.child(bit, sub.minus(shift + BITS_IN_INDEX, key.hashCode(), key));
+                } else if ((right.nodeMap & bit) != 0) {
+                    res.child(bit, difference(shift + BITS_IN_INDEX, sub, right.node(bit)));
+                } else {
+                    res.node(bit, sub);
+                }
+            }
+        }
+        return res.build(shift, left);
+    }
+
+    private static <K, V> Node<K, V> intersect(int shift, Node<K, V> a, Node<K, ?> b) {
+        if (a == b || a.size() == 0)
+            return a;
+        if (b.size() == 0)
+            return BitmapNode.EMPTY;
+        if (a instanceof CollisionNode)
+            return filter((CollisionNode<K, V>) a, shift, b, true);
+        if (b instanceof CollisionNode) {
+            CollisionNode<K, ?> bucket = (CollisionNode<K, ?>) b;
+            Object[] kept = new Object[bucket.content.length];
+            int length = 0;
+            for (int i = 0; i < bucket.content.length; i += 2) {
+                K key = (K) bucket.content[i];
+                Option<V> present = a.get(shift, bucket.hash, key);
+                if (present.isPresent()) {
+                    kept[length++] = key;
+                    kept[length++] = present.orElse(null);
+                }
+            }
+            return new CollisionNode<>(bucket.hash, Arrays.copyOf(kept, length));
+        }
+        BitmapNode<K, V> left = (BitmapNode<K, V>) a;
+        BitmapNode<K, ?> right = (BitmapNode<K, ?>) b;
+        Assembler<K, V> res = new Assembler<>();
+        for (int remaining = (left.dataMap | left.nodeMap) & (right.dataMap | right.nodeMap); remaining != 0; remaining &= remaining - 1) {
+            int bit = Integer.lowestOneBit(remaining);
+            if ((left.dataMap & bit) != 0) {
+                int index = 2 * left.dataIndex(bit);
+                K key = (K) left.content[index];
+                boolean retained = (right.dataMap & bit) != 0 ? Objects.equals(key, right.content[2 * right.dataIndex(bit)])
+                                    : right.node(bit).get(shift + BITS_IN_INDEX, key.hashCode(), key).isPresent();
+                if (retained)
+                    res.entry(bit, key, left.content[index + 1]);
+            } else {
+                Node<K, V> sub = left.node(bit);
+                if ((right.dataMap & bit) != 0) {
+                    K key = (K) right.content[2 * right.dataIndex(bit)];
+                    Option<V> present = sub.get(shift + BITS_IN_INDEX, key.hashCode(), key);
+                    if (present.isPresent())
+                        res.entry(bit, key, present.orElse(null));
+                } else {
+                    res.child(bit, intersect(shift + BITS_IN_INDEX, sub, right.node(bit)));
+                }
+            }
+        }
+        return res.build(shift, left);
+    }
+
+    private static <K, V> Node<K, V> filter(CollisionNode<K, V> bucket, int shift, Node<K, ?> other, boolean retain) {
+        Object[] kept = new Object[bucket.content.length];
+        int length = 0;
+        for (int i = 0; i < bucket.content.length; i += 2) {
+            K key = (K) bucket.content[i];
+            if (other.get(shift, bucket.hash, key).isPresent() == retain) {
+                kept[length++] = key;
+                kept[length++] = bucket.content[i + 1];
+            }
+        }
+        return length == bucket.content.length ? bucket : new CollisionNode<>(bucket.hash, Arrays.copyOf(kept, length));
+    }
+
+    /**
+     * Collects the entries and sub-nodes produced by a bulk operation (in ascending bit order) into a canonical node
+     */
+    private static final class Assembler<K, V> {
+        private final Object[] data = new Object[2 * SIZE];
+        private final Object[] nodes = new Object[SIZE];
+        private int dataMap;
+        private int nodeMap;
+        private int dataLength;
+        private int nodeLength;
+        private int size;
+
+        void entry(int bit, Object key, Object value) {
+            dataMap |= bit;
+            data[dataLength++] = key;
+            data[dataLength++] = value;
+            size++;
+        }
+
+        void node(int bit, Node<K, V> node) {
+            nodeMap |= bit;
+            nodes[nodeLength++] = node;
+            size += node.size();
+        }
+
+        /**
+         * Add a sub-node result, empty results are dropped and single entry results inlined
+         */
+        void child(int bit, Node<K, V> node) {
+            if (node.size() == 0)
+                return;
+            if (node.size() == 1) {
+                Object[] entry = node instanceof CollisionNode ? ((CollisionNode<K, V>) node).content : ((BitmapNode<K, V>) node).content;
+                entry(bit, entry[0], entry[1]);
+                return;
+            }
+            node(bit, node);
+        }
+
+        Node<K, V> build(int shift, BitmapNode<K, V> original) {
+            if (size == 0)
+                return BitmapNode.EMPTY;
+            if (shift > 0 && dataMap == 0 && nodeLength == 1 && nodes[0] instanceof CollisionNode)
+                return (Node<K, V>) nodes[0];
+            Object[] content = new Object[dataLength + nodeLength];
+            System.arraycopy(data, 0, content, 0, dataLength);
+            for (int i = 0; i < nodeLength; i++) {
+                content[content.length - 1 - i] = nodes[i];
+            }
+            if (dataMap == original.dataMap && nodeMap == original.nodeMap && identical(content, original.content))
+                return original;
+            return new BitmapNode<>(dataMap, nodeMap, size, content, null);
+        }
+
+        private static boolean identical(Object[] a, Object[] b) {
+            if (a.length != b.length)
+                return false;
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i])
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    static int bitpos(int hash, int shift) {
+        return 1 << mask(hash, shift);
+    }
+
+    static int bitpos(int mask) {
+        return 1 << mask;
+    }
+
+    static int mask(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    static final class NodePart<K, V, R> implements ParallelTraversal.Part<R> {
+        private final Node<K, V> node;
+        private final BiFunction<? super K, ? super V, ? extends R> fn;
+
+        NodePart(Node<K, V> node, BiFunction<? super K, ? super V, ? extends R> fn) {
+            this.node = node;
+            this.fn = fn;
+        }
+
+        @Override
+        public int size() {
+            return node.size();
+        }
+
+        @Override
+        public List<? extends ParallelTraversal.Part<R>> split() {
+            if (!(node instanceof BitmapNode))
+                return Collections.emptyList();
+            BitmapNode<K, V> bitmap = (BitmapNode<K, V>) node;
+            Object[] content = bitmap.content;
+            int dataEnd = 2 * Integer.bitCount(bitmap.dataMap);
+            List<ParallelTraversal.Part<R>> parts = new ArrayList<>(1 + content.length - dataEnd);
+            if (dataEnd > 0)
+                parts.add(new EntriesPart<>(content, dataEnd, fn));
+            for (int i = content.length - 1; i >= dataEnd; i--) {
+                parts.add(new NodePart<>((Node<K, V>) content[i], fn));
+            }
+            return parts;
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            return new TrieIterator<>(node, fn);
+        }
+
+        @Override
+        public void forEach(Consumer<? super R> action) {
+            node.forEach((k, v) -> action.accept(fn.apply(k, v)));
+        }
+    }
+
+    /*
+     * The inline entries of a single BitmapNode
+     */
+    static final class EntriesPart<K, V, R> implements ParallelTraversal.Part<R> {
+        private final Object[] content;
+        private final int dataEnd;
+        private final BiFunction<? super K, ? super V, ? extends R> fn;
+
+        EntriesPart(Object[] content, int dataEnd, BiFunction<? super K, ? super V, ? extends R> fn) {
+            this.content = content;
+            this.dataEnd = dataEnd;
+            this.fn = fn;
+        }
+
+        @Override
+        public int size() {
+            return dataEnd / 2;
+        }
+
+        @Override
+        public List<? extends ParallelTraversal.Part<R>> split() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void forEach(Consumer<? super R> action) {
+            for (int i = 0; i < dataEnd; i += 2) {
+                action.accept(fn.apply((K) content[i], (V) content[i + 1]));
+            }
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            return new Iterator<R>() {
+                int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < dataEnd;
+                }
+
+                @Override
+                public R next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    R result = fn.apply((K) content[index], (V) content[index + 1]);
+                    index += 2;
+                    return result;
+                }
+            };
+        }
+    }
+
+    /**
+     * Depth first iterator, entries of each node are returned before those of its sub-nodes
+     */
+    static final class TrieIterator<K, V, R> implements Iterator<R> {
+        private final BiFunction<? super K, ? super V, ? extends R> fn;
+        private final Object[][] nodes = new Object[MAX_DEPTH + 1][];
+        private final int[] next = new int[MAX_DEPTH + 1];
+        private final int[] end = new int[MAX_DEPTH + 1];
+        private int depth = -1;
+        private Object[] data;
+        private int dataIndex;
+        private int dataEnd;
+
+        TrieIterator(Node<K, V> root, BiFunction<? super K, ? super V, ? extends R> fn) {
+            this.fn = fn;
+            visit(root);
+        }
+
+        private void visit(Node<K, V> node) {
+            if (node instanceof CollisionNode) {
+                data = ((CollisionNode<K, V>) node).content;
+                dataIndex = 0;
+                dataEnd = data.length;
+                return;
+            }
+            BitmapNode<K, V> bitmap = (BitmapNode<K, V>) node;
+            data = bitmap.content;
+            dataIndex = 0;
+            dataEnd = 2 * Integer.bitCount(bitmap.dataMap);
+            if (bitmap.nodeMap != 0) {
+                depth++;
+                nodes[depth] = bitmap.content;
+                next[depth] = bitmap.content.length - 1;
+                end[depth] = dataEnd;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (dataIndex >= dataEnd) {
+                if (depth < 0)
+                    return false;
+                Node<K, V> node = (Node<K, V>) nodes[depth][next[depth]];
+                if (--next[depth] < end[depth])
+                    nodes[depth--] = null;
+                visit(node);
+            }
+            return true;
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            K key = (K) data[dataIndex];
+            V value = (V) data[dataIndex + 1];
+            dataIndex += 2;
+            return fn.apply(key, value);
+        }
+    }
+}
@@ -58,6 +58,13 @@ public final class HAMT<K, V> implements Serializable {
 
         public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value);
 
+        /**
+         * Transient insertion, nodes owned by the supplied token are updated in place
+         */
+        default Node<K, V> plus(TransientOwner owner, int bitShiftDepth, int hash, K key, V value){
+            return plus(bitShiftDepth,hash,key,value);
+        }
+
         public Option<V> get(int bitShiftDepth, int hash, K key);
 
         public V getOrElse(int bitShiftDepth, int hash, K key, V alt);
@@ -259,10 +266,10 @@ public final class HAMT<K, V> implements Serializable {
             int newBitset = posThis | posThat;
             if (mask1 == mask2) { //collision
                 Node<K, V> merged = merge(bitShiftDepth + BITS_IN_INDEX, thatHash, that);
-                return new BitsetNode<>(newBitset, 2, new Node[]{merged});
+                return new BitsetNode<>(newBitset, merged.size(), new Node[]{merged});
             }
             Node<K, V>[] ordered = mask1 < mask2 ? new Node[]{this, that} : new Node[]{that, this};
-            return new BitsetNode<>(newBitset, 2, ordered);
+            return new BitsetNode<>(newBitset, size() + that.size(), ordered);
         }
 
         @Override
@@ -315,14 +322,48 @@ public final class HAMT<K, V> implements Serializable {
         }
     }
 
-    @AllArgsConstructor
-    @EqualsAndHashCode
+    @EqualsAndHashCode(exclude = "owner")
     public static final class BitsetNode<K, V> implements Node<K, V> {
-        public final int bitset;
-        private final int size;
-        private final Node<K, V>[] nodes;
+        public int bitset;
+        private int size;
+        private Node<K, V>[] nodes;
+        private final transient TransientOwner owner;
         private static final long serialVersionUID = 1L;
 
+        public BitsetNode(int bitset, int size, Node<K, V>[] nodes) {
+            this(bitset,size,nodes,null);
+        }
+
+        private BitsetNode(int bitset, int size, Node<K, V>[] nodes, TransientOwner owner) {
+            this.bitset = bitset;
+            this.size = size;
+            this.nodes = nodes;
+            this.owner = owner;
+        }
+
+        @Override
+        public Node<K, V> plus(TransientOwner owner, int bitShiftDepth, int hash, K key, V value) {
+            BitsetNode<K, V> editable = TransientOwner.owns(owner, this.owner) ? this : new BitsetNode<>(bitset, size, Arrays.copyOf(nodes, nodes.length), owner);
+            int bitPos = bitpos(hash, bitShiftDepth);
+            int arrayPos = editable.index(bitPos);
+            if (editable.absent(bitPos)) {
+                Node<K, V>[] addedNodes = new Node[editable.nodes.length + 1];
+                System.arraycopy(editable.nodes, 0, addedNodes, 0, arrayPos);
+                addedNodes[arrayPos] = new ValueNode<>(hash, key, value);
+                System.arraycopy(editable.nodes, arrayPos, addedNodes, arrayPos + 1, editable.nodes.length - arrayPos);
+                editable.nodes = addedNodes;
+                editable.bitset = editable.bitset | bitPos;
+                editable.size++;
+            } else {
+                Node<K, V> current = editable.nodes[arrayPos];
+                int currentSize = current.size();
+                Node<K, V> node = current.plus(owner, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+                editable.nodes[arrayPos] = node;
+                editable.size = editable.size + node.size() - currentSize;
+            }
+            return editable;
+        }
+
         @Override
         public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
             int bitPos = bitpos(hash, bitShiftDepth);
@@ -46,6 +46,13 @@ public interface IntPatriciaTrie<V>  {
 
         Node<V> put(int hash, int pos, V value);
 
+        /**
+         * Transient insertion, nodes owned by the supplied token are updated in place
+         */
+        default Node<V> put(TransientOwner owner, int hash, int pos, V value){
+            return put(hash,pos,value);
+        }
+
         Option<V> get(int hash, int pos);
         V getOrElse(int hash, int pos, V value);
         V getOrElseGet(int hash, int pos, Supplier<? extends V> value);
@@ -230,9 +237,23 @@ public interface IntPatriciaTrie<V>  {
 
     static class ArrayNode<V> implements Node<V>, Deconstruct1<Node<V>[]> {
         private final Node<V>[] nodes;
+        private final TransientOwner owner;
 
         private ArrayNode(Node<V>[] nodes) {
+            this(nodes,null);
+        }
+        private ArrayNode(Node<V>[] nodes, TransientOwner owner) {
             this.nodes = nodes;
+            this.owner = owner;
+        }
+
+        @Override
+        public Node<V> put(TransientOwner owner, int hash, int key, V value) {
+            int newHash = hash >>> BITS;
+            int index = hash & MASK;
+            ArrayNode<V> editable = TransientOwner.owns(owner,this.owner) ? this : new ArrayNode<>(Arrays.copyOf(nodes, nodes.length),owner);
+            editable.nodes[index] = nodes[index].put(owner, newHash, key, value);
+            return editable;
         }
 
         @Override
@@ -0,0 +1,337 @@
+package cyclops.data.base;
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import cyclops.function.Monoid;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parallel traversal of persistent data structures. A structure is described as a {@link Part} that can be split on
+ * the boundaries of its internal nodes (trie sub-nodes, tree branches), parts larger than {@link #THRESHOLD} are split
+ * and processed as separate tasks on a ForkJoinPool, smaller parts are traversed sequentially.
+ *
+ * Results of sibling parts are always combined in encounter order, so folds only require an associative (not a
+ * commutative) combining function and produce the same result as the equivalent sequential fold.
+ */
+public final class ParallelTraversal {
+
+    /**
+     * Parts with at most this many elements are traversed sequentially
+     */
+    public static final int THRESHOLD = 4096;
+
+    private ParallelTraversal() {
+    }
+
+    /**
+     * A section of a data structure that can be iterated sequentially, or split into smaller sections
+     *
+     * @param <T> Element type
+     */
+    public interface Part<T> extends Iterable<T> {
+
+        int size();
+
+        /**
+         * @return Sub-parts covering all of the elements of this part, in encounter order, or an empty List if this
+         *         part can not be split any further
+         */
+        List<? extends Part<T>> split();
+    }
+
+    /**
+     * @param parts Parts to join, in encounter order
+     * @return Part covering all of the supplied parts
+     */
+    @SafeVarargs
+    public static <T> Part<T> concat(Part<T>... parts) {
+        List<Part<T>> nonEmpty = new ArrayList<>(parts.length);
+        for (Part<T> next : parts) {
+            if (next != null && next.size() > 0)
+                nonEmpty.add(next);
+        }
+        if (nonEmpty.size() == 1)
+            return nonEmpty.get(0);
+        return new Concat<>(nonEmpty);
+    }
+
+    /**
+     * @param element Element accessor by index
+     * @param size Number of elements
+     * @return Part over the indices 0 until size, split in half on each level
+     */
+    public static <T> Part<T> indexed(IntFunction<? extends T> element, int size) {
+        return new Indexed<>(element, 0, size);
+    }
+
+    public static <T> T fold(ForkJoinPool pool, Part<T> root, Monoid<T> monoid) {
+        return pool.invoke(new FoldTask<T, T>(root, part -> {
+            Object[] result = {monoid.zero()};
+            part.forEach(next -> result[0] = monoid.apply((T) result[0], next));
+            return (T) result[0];
+        }, monoid));
+    }
+
+    public static <T, A, R> R collect(ForkJoinPool pool, Part<T> root, Collector<? super T, A, R> collector) {
+        A container = pool.invoke(new FoldTask<T, A>(root, part -> {
+            A result = collector.supplier().get();
+            BiConsumer<A, ? super T> accumulator = collector.accumulator();
+            part.forEach(next -> accumulator.accept(result, next));
+            return result;
+        }, collector.combiner()));
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * @return Parallel JDK Stream over the part, terminal operations run on the ForkJoinPool they are invoked from
+     */
+    public static <T> Stream<T> parallelStream(Part<T> root) {
+        return StreamSupport.stream(spliterator(root), true);
+    }
+
+    /**
+     * @return Ordered, sized Spliterator over the part that splits on the same boundaries as the parallel folds. It is
+     *         copyable, so it can back a replayable ReactiveSeq
+     */
+    public static <T> Spliterator<T> spliterator(Part<T> root) {
+        return new PartSpliterator<>(Collections.singletonList(root), root.size());
+    }
+
+    private static final class FoldTask<T, R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+        private final Part<T> part;
+        private final Function<? super Part<T>, ? extends R> sequential;
+        private final BinaryOperator<R> combiner;
+
+        FoldTask(Part<T> part, Function<? super Part<T>, ? extends R> sequential, BinaryOperator<R> combiner) {
+            this.part = part;
+            this.sequential = sequential;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (part.size() <= THRESHOLD)
+                return sequential.apply(part);
+            List<? extends Part<T>> parts = part.split();
+            if (parts.size() < 2)
+                return sequential.apply(part);
+            List<FoldTask<T, R>> tasks = new ArrayList<>(parts.size());
+            for (Part<T> next : parts) {
+                tasks.add(new FoldTask<>(next, sequential, combiner));
+            }
+            for (int i = tasks.size() - 1; i > 0; i--) {
+                tasks.get(i).fork();
+            }
+            R result = tasks.get(0).compute();
+            for (int i = 1; i < tasks.size(); i++) {
+                result = combiner.apply(result, tasks.get(i).join());
+            }
+            return result;
+        }
+    }
+
+    private static final class Concat<T> implements Part<T> {
+        private final List<Part<T>> parts;
+        private final int size;
+
+        Concat(List<Part<T>> parts) {
+            this.parts = parts;
+            int total = 0;
+            for (Part<T> next : parts) {
+                total += next.size();
+            }
+            this.size = total;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public List<? extends Part<T>> split() {
+            return parts;
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action) {
+            for (Part<T> next : parts) {
+                next.forEach(action);
+            }
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                int index = 0;
+                Iterator<T> current = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext()) {
+                        if (index == parts.size())
+                            return false;
+                        current = parts.get(index++).iterator();
+                    }
+                    return true;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return current.next();
+                }
+            };
+        }
+    }
+
+    private static final class Indexed<T> implements Part<T> {
+        private final IntFunction<? extends T> element;
+        private final int from;
+        private final int to;
+
+        Indexed(IntFunction<? extends T> element, int from, int to) {
+            this.element = element;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public List<? extends Part<T>> split() {
+            int mid = (from + to) >>> 1;
+            if (mid <= from)
+                return Collections.emptyList();
+            return Arrays.asList(new Indexed<T>(element, from, mid), new Indexed<T>(element, mid, to));
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                int index = from;
+
+                @Override
+                public boolean hasNext() {
+                    return index < to;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return element.apply(index++);
+                }
+            };
+        }
+    }
+
+    /*
+     * Splits the queue of remaining parts in half, a single remaining part is replaced by its sub-parts first
+     */
+    static final class PartSpliterator<T> implements CopyableSpliterator<T> {
+        private final List<Part<T>> origin;
+        private final long originSize;
+        private final ArrayDeque<Part<T>> parts;
+        private long size;
+        private Iterator<T> current;
+
+        PartSpliterator(List<Part<T>> origin, long size) {
+            this.origin = origin;
+            this.originSize = size;
+            this.parts = new ArrayDeque<>(origin);
+            this.size = size;
+        }
+
+        @Override
+        public Spliterator<T> copy() {
+            return new PartSpliterator<>(origin, originSize);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            while (current == null || !current.hasNext()) {
+                Part<T> next = parts.poll();
+                if (next == null)
+                    return false;
+                current = next.iterator();
+            }
+            size--;
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (current != null) {
+                current.forEachRemaining(action);
+                current = null;
+            }
+            Part<T> next;
+            while ((next = parts.poll()) != null) {
+                next.forEach(action);
+            }
+            size = 0;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (current != null)
+                return null;
+            while (parts.size() == 1) {
+                List<? extends Part<T>> split = parts.peek().split();
+                if (split.size() < 2)
+                    return null;
+                parts.clear();
+                parts.addAll(split);
+            }
+            if (parts.size() < 2)
+                return null;
+            int half = parts.size() / 2;
+            List<Part<T>> prefix = new ArrayList<>(half);
+            long prefixSize = 0;
+            for (int i = 0; i < half; i++) {
+                Part<T> next = parts.poll();
+                prefix.add(next);
+                prefixSize += next.size();
+            }
+            size -= prefixSize;
+            return new PartSpliterator<>(prefix, prefixSize);
+        }
+
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+}
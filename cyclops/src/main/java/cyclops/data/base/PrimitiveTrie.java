@@ -0,0 +1,143 @@
+package cyclops.data.base;
+
+import java.io.Serializable;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * The BAMT trie shape (32 way branching, leaves of 32 elements) with opaque leaves, used by the primitive
+ * specialized Vectors to store int[] / long[] / double[] leaves without boxing.
+ *
+ * Only full leaves are stored in the trie, the owning collection keeps the partially filled tail.
+ */
+public final class PrimitiveTrie implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int BITS_IN_INDEX = 5;
+    public static final int SIZE = 1 << BITS_IN_INDEX;
+    static final int MASK = SIZE - 1;
+
+    private static final PrimitiveTrie EMPTY = new PrimitiveTrie(new Object[0], BITS_IN_INDEX, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int leafCount;
+
+    private PrimitiveTrie(Object[] root, int shift, int leafCount) {
+        this.root = root;
+        this.shift = shift;
+        this.leafCount = leafCount;
+    }
+
+    public static PrimitiveTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return Number of elements held in the trie (excluding any tail held by the owner)
+     */
+    public int size() {
+        return leafCount << BITS_IN_INDEX;
+    }
+
+    public int leafCount() {
+        return leafCount;
+    }
+
+    /**
+     * @param index Element index, must be less than {@link #size()}
+     * @return The leaf array containing the element at index
+     */
+    public Object leafFor(int index) {
+        Object node = root;
+        for (int level = shift; level > 0; level -= BITS_IN_INDEX) {
+            node = ((Object[]) node)[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * @param leaf Full leaf (of {@link #SIZE} elements) to append, ownership passes to the trie
+     * @return New trie with leaf appended
+     */
+    public PrimitiveTrie appendLeaf(Object leaf) {
+        int index = size();
+        if (leafCount == (1 << shift)) {
+            Object[] newRoot = new Object[]{root, newPath(shift, leaf)};
+            return new PrimitiveTrie(newRoot, shift + BITS_IN_INDEX, leafCount + 1);
+        }
+        return new PrimitiveTrie(pushLeaf(shift, root, index, leaf), shift, leafCount + 1);
+    }
+
+    /**
+     * @param index Element index, must be less than {@link #size()}
+     * @param leaf Replacement for the leaf containing the element at index
+     * @return New trie with the leaf replaced
+     */
+    public PrimitiveTrie setLeaf(int index, Object leaf) {
+        return new PrimitiveTrie(setLeaf(shift, root, index, leaf), shift, leafCount);
+    }
+
+    /**
+     * Apply fn to every leaf, preserving the shape of the trie
+     */
+    public PrimitiveTrie mapLeaves(UnaryOperator<Object> fn) {
+        if (leafCount == 0)
+            return this;
+        return new PrimitiveTrie(mapLeaves(shift, root, fn), shift, leafCount);
+    }
+
+    /**
+     * Visit every leaf in order
+     */
+    public void forEachLeaf(Consumer<Object> consumer) {
+        if (leafCount > 0)
+            forEachLeaf(shift, root, consumer);
+    }
+
+    private static Object newPath(int level, Object leaf) {
+        if (level == 0)
+            return leaf;
+        return new Object[]{newPath(level - BITS_IN_INDEX, leaf)};
+    }
+
+    private static Object[] pushLeaf(int level, Object[] node, int index, Object leaf) {
+        int sub = (index >>> level) & MASK;
+        Object child;
+        if (level == BITS_IN_INDEX)
+            child = leaf;
+        else if (sub < node.length)
+            child = pushLeaf(level - BITS_IN_INDEX, (Object[]) node[sub], index, leaf);
+        else
+            child = newPath(level - BITS_IN_INDEX, leaf);
+        Object[] res = new Object[Math.max(node.length, sub + 1)];
+        System.arraycopy(node, 0, res, 0, node.length);
+        res[sub] = child;
+        return res;
+    }
+
+    private static Object[] setLeaf(int level, Object[] node, int index, Object leaf) {
+        int sub = (index >>> level) & MASK;
+        Object[] res = node.clone();
+        res[sub] = level == BITS_IN_INDEX ? leaf : setLeaf(level - BITS_IN_INDEX, (Object[]) node[sub], index, leaf);
+        return res;
+    }
+
+    private static Object[] mapLeaves(int level, Object[] node, UnaryOperator<Object> fn) {
+        Object[] res = new Object[node.length];
+        for (int i = 0; i < node.length; i++) {
+            res[i] = level == BITS_IN_INDEX ? fn.apply(node[i]) : mapLeaves(level - BITS_IN_INDEX, (Object[]) node[i], fn);
+        }
+        return res;
+    }
+
+    private static void forEachLeaf(int level, Object[] node, Consumer<Object> consumer) {
+        for (int i = 0; i < node.length; i++) {
+            if (level == BITS_IN_INDEX)
+                consumer.accept(node[i]);
+            else
+                forEachLeaf(level - BITS_IN_INDEX, (Object[]) node[i], consumer);
+        }
+    }
+}
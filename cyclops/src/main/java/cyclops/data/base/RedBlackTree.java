@@ -13,10 +13,15 @@ import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple5;
-import lombok.experimental.Wither;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -37,9 +42,121 @@ public interface RedBlackTree extends Serializable{
         });
         return tree[0];
     }
+    /**
+     * Build a balanced tree bottom up from entries already in ascending key order with no duplicate keys,
+     * in linear time. Nodes on the deepest (incomplete) level are coloured red, all others black.
+     */
+    public static <K,V> Tree<K,V> fromSorted(Comparator<? super K> comp, Tuple2<? extends K, ? extends V>[] entries, int size){
+        int redLevel = 0;
+        for (int m = size - 1; m >= 0; m = m / 2 - 1)
+            redLevel++;
+        return buildSorted(comp,entries,0,size-1,0,redLevel);
+    }
+    static <K,V> Tree<K,V> buildSorted(Comparator<? super K> comp, Tuple2<? extends K, ? extends V>[] entries, int lo, int hi, int level, int redLevel){
+        if(hi<lo)
+            return new Leaf<K,V>(comp);
+        int mid = (lo + hi) >>> 1;
+        Tree<K,V> left = buildSorted(comp,entries,lo,mid-1,level+1,redLevel);
+        Tree<K,V> right = buildSorted(comp,entries,mid+1,hi,level+1,redLevel);
+        boolean isBlack = level!=redLevel || level==0;
+        return new Node(isBlack,left,right,entries[mid]._1(),entries[mid]._2(),comp);
+    }
     public static <K,V> Tree<K,V> empty(Comparator<? super K> comp){
         return new Leaf<K,V>(comp);
     }
+
+    /**
+     * Entries with keys in the supplied range, subtrees that lie entirely inside the range are shared with the source tree.
+     * Runs in O(log n).
+     */
+    public static <K,V> Tree<K,V> range(Tree<K,V> tree, K from, boolean fromInclusive, K to, boolean toInclusive){
+        return head(tail(tree,from,fromInclusive),to,toInclusive);
+    }
+    /**
+     * @return Entries with keys less than (or equal to, if inclusive) the supplied key, in O(log n)
+     */
+    public static <K,V> Tree<K,V> head(Tree<K,V> tree, K to, boolean inclusive){
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split = split(tree,to);
+        Tree<K,V> res = inclusive && split._2().isPresent() ? split._1().plus(to,split._2().orElse(null)) : split._1();
+        return rootIsBlack(res);
+    }
+    /**
+     * @return Entries with keys greater than (or equal to, if inclusive) the supplied key, in O(log n)
+     */
+    public static <K,V> Tree<K,V> tail(Tree<K,V> tree, K from, boolean inclusive){
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split = split(tree,from);
+        Tree<K,V> res = inclusive && split._2().isPresent() ? split._3().plus(from,split._2().orElse(null)) : split._3();
+        return rootIsBlack(res);
+    }
+    /**
+     * Split a tree around a key into the entries before the key, the value stored against the key (if any) and the entries after it.
+     * Each level re-joins an untouched subtree, so the result shares structure with the source tree.
+     */
+    public static <K,V> Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split(Tree<K,V> tree, K key){
+        if(tree.isEmpty())
+            return Tuple.tuple(tree,Option.none(),tree);
+        Node<K,V> node = (Node<K,V>)tree;
+        int compRes = node.comp.compare(key,node.key);
+        if(compRes==0)
+            return Tuple.tuple(node.left,Option.some(node.value),node.right);
+        if(compRes<0){
+            Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> res = split(node.left,key);
+            return Tuple.tuple(res._1(),res._2(),join(res._3(),node.key,node.value,node.right));
+        }
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> res = split(node.right,key);
+        return Tuple.tuple(join(node.left,node.key,node.value,res._1()),res._2(),res._3());
+    }
+    /**
+     * Join two trees and a key / value pair, all keys in left must be less than key and all keys in right greater than it.
+     * Runs in time proportional to the difference in black height between the trees (Blelloch, Ferizovic &amp; Sun - Just Join).
+     */
+    public static <K,V> Tree<K,V> join(Tree<K,V> left, K key, V value, Tree<K,V> right){
+        Tree<K,V> l = rootIsBlack(left);
+        Tree<K,V> r = rootIsBlack(right);
+        int leftHeight = blackHeight(l);
+        int rightHeight = blackHeight(r);
+        if(leftHeight>rightHeight){
+            Node<K,V> res = joinRight(l,leftHeight,key,value,r,rightHeight);
+            return res.isRed() && res.right.isRed() ? res.withBlack(true) : res;
+        }
+        if(rightHeight>leftHeight){
+            Node<K,V> res = joinLeft(l,leftHeight,key,value,r,rightHeight);
+            return res.isRed() && res.left.isRed() ? res.withBlack(true) : res;
+        }
+        return RED(l,r,key,value,l.comparator());
+    }
+    static <K,V> Node<K,V> joinRight(Tree<K,V> left, int leftHeight, K key, V value, Tree<K,V> right, int rightHeight){
+        if(left.isBlack() && leftHeight==rightHeight)
+            return RED(left,right,key,value,left.comparator());
+        Node<K,V> node = (Node<K,V>)left;
+        Node<K,V> joined = joinRight(node.right,node.isBlack ? leftHeight-1 : leftHeight,key,value,right,rightHeight);
+        if(node.isBlack && joined.isRed() && joined.right.isRed()){
+            Node<K,V> nested = (Node<K,V>)joined.right;
+            return RED(BLACK(node.left,joined.left,node.key,node.value,node.comp),nested.withBlack(true),joined.key,joined.value,node.comp);
+        }
+        return new Node<>(node.isBlack,node.left,joined,node.key,node.value,node.comp);
+    }
+    static <K,V> Node<K,V> joinLeft(Tree<K,V> left, int leftHeight, K key, V value, Tree<K,V> right, int rightHeight){
+        if(right.isBlack() && leftHeight==rightHeight)
+            return RED(left,right,key,value,right.comparator());
+        Node<K,V> node = (Node<K,V>)right;
+        Node<K,V> joined = joinLeft(left,leftHeight,key,value,node.left,node.isBlack ? rightHeight-1 : rightHeight);
+        if(node.isBlack && joined.isRed() && joined.left.isRed()){
+            Node<K,V> nested = (Node<K,V>)joined.left;
+            return RED(nested.withBlack(true),BLACK(joined.right,node.right,node.key,node.value,node.comp),joined.key,joined.value,node.comp);
+        }
+        return new Node<>(node.isBlack,joined,node.right,node.key,node.value,node.comp);
+    }
+    static <K,V> int blackHeight(Tree<K,V> tree){
+        int height = 0;
+        Tree<K,V> current = tree;
+        while(!current.isEmpty()){
+            if(current.isBlack())
+                height++;
+            current = ((Node<K,V>)current).left;
+        }
+        return height;
+    }
     public static interface Tree<K,V> extends Sealed2<Node<K,V>,Leaf<K,V>> {
 
         boolean isEmpty();
@@ -57,6 +174,41 @@ public interface RedBlackTree extends Serializable{
         int size();
         String tree();
 
+        /**
+         * @return Entry with the greatest key less than or equal to the supplied key
+         */
+        Option<Tuple2<K,V>> floor(K key);
+        /**
+         * @return Entry with the least key greater than or equal to the supplied key
+         */
+        Option<Tuple2<K,V>> ceiling(K key);
+        /**
+         * @return Entry with the greatest key strictly less than the supplied key
+         */
+        Option<Tuple2<K,V>> lower(K key);
+        /**
+         * @return Entry with the least key strictly greater than the supplied key
+         */
+        Option<Tuple2<K,V>> higher(K key);
+        Option<Tuple2<K,V>> min();
+        Option<Tuple2<K,V>> max();
+        /**
+         * @return Number of keys strictly less than the supplied key
+         */
+        int rank(K key);
+        /**
+         * @return Entry at the supplied position in key order
+         */
+        Option<Tuple2<K,V>> getAt(int index);
+
+        /**
+         * @return Part of this tree for parallel traversal in key order, split into the left subtree, the root entry
+         *         and the right subtree
+         */
+        default ParallelTraversal.Part<Tuple2<K,V>> part(){
+            return new TreePart<>(this);
+        }
+
 
 
 
@@ -117,8 +269,6 @@ public interface RedBlackTree extends Serializable{
         }
     }
 
-    @AllArgsConstructor
-    @Wither
     public static final class Node<K,V> implements Tree<K,V>, Deconstruct5<Boolean,Tree<K,V>,Tree<K,V>, K,V> {
         private final boolean isBlack;
         private final Tree<K,V> left;
@@ -126,9 +276,25 @@ public interface RedBlackTree extends Serializable{
         private final K key;
         private final V value;
         private final Comparator<K> comp;
+        //number of entries in this subtree, supports O(log n) rank / getAt
+        private final int size;
 
         private static final long serialVersionUID = 1L;
 
+        public Node(boolean isBlack, Tree<K, V> left, Tree<K, V> right, K key, V value, Comparator<K> comp) {
+            this.isBlack = isBlack;
+            this.left = left;
+            this.right = right;
+            this.key = key;
+            this.value = value;
+            this.comp = comp;
+            this.size = left.size() + right.size() + 1;
+        }
+
+        public Node<K,V> withBlack(boolean isBlack) {
+            return this.isBlack == isBlack ? this : new Node<>(isBlack, left, right, key, value, comp);
+        }
+
 
         static <K,V> Node<K,V> RED(Tree<K,V> left, Tree<K,V> right,K key, V value,Comparator<? super K> comp){
             return new Node(false,left,right,key,value,comp);
@@ -264,7 +430,79 @@ public interface RedBlackTree extends Serializable{
 
         @Override
         public int size() {
-            return left.size() +right.size() +1;
+            return size;
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> floor(K key) {
+            int compRes = comp.compare(this.key,key);
+            if (compRes>0)
+                return left.floor(key);
+            else if (compRes==0)
+                return Option.some(Tuple.tuple(this.key,value));
+            Option<Tuple2<K, V>> res = right.floor(key);
+            return res.isPresent() ? res : Option.some(Tuple.tuple(this.key,value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> ceiling(K key) {
+            int compRes = comp.compare(this.key,key);
+            if (compRes<0)
+                return right.ceiling(key);
+            else if (compRes==0)
+                return Option.some(Tuple.tuple(this.key,value));
+            Option<Tuple2<K, V>> res = left.ceiling(key);
+            return res.isPresent() ? res : Option.some(Tuple.tuple(this.key,value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> lower(K key) {
+            if (comp.compare(this.key,key)>=0)
+                return left.lower(key);
+            Option<Tuple2<K, V>> res = right.lower(key);
+            return res.isPresent() ? res : Option.some(Tuple.tuple(this.key,value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> higher(K key) {
+            if (comp.compare(this.key,key)<=0)
+                return right.higher(key);
+            Option<Tuple2<K, V>> res = left.higher(key);
+            return res.isPresent() ? res : Option.some(Tuple.tuple(this.key,value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> min() {
+            Node<K,V> current = this;
+            while(!current.left.isEmpty())
+                current = (Node<K,V>)current.left;
+            return Option.some(Tuple.tuple(current.key,current.value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> max() {
+            Node<K,V> current = this;
+            while(!current.right.isEmpty())
+                current = (Node<K,V>)current.right;
+            return Option.some(Tuple.tuple(current.key,current.value));
+        }
+
+        @Override
+        public int rank(K key) {
+            int compRes = comp.compare(this.key,key);
+            if (compRes>=0)
+                return left.rank(key);
+            return left.size() + 1 + right.rank(key);
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> getAt(int index) {
+            int leftSize = left.size();
+            if (index<leftSize)
+                return left.getAt(index);
+            if (index==leftSize)
+                return Option.some(Tuple.tuple(key,value));
+            return right.getAt(index-leftSize-1);
         }
     }
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -326,10 +564,110 @@ public interface RedBlackTree extends Serializable{
             return "{LEAF}";
         }
 
+        @Override
+        public Option<Tuple2<K, V>> floor(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> ceiling(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> lower(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> higher(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> min() {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> max() {
+            return Option.none();
+        }
+
+        @Override
+        public int rank(K key) {
+            return 0;
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> getAt(int index) {
+            return Option.none();
+        }
+
         @Override
         public <R> R fold(Function<? super Node<K, V>, ? extends R> fn1, Function<? super Leaf<K, V>, ? extends R> fn2) {
             return fn2.apply(this);
         }
 
     }
+
+    final class TreePart<K,V> implements ParallelTraversal.Part<Tuple2<K,V>> {
+        private final Tree<K,V> tree;
+
+        TreePart(Tree<K, V> tree) {
+            this.tree = tree;
+        }
+
+        @Override
+        public int size() {
+            return tree.size();
+        }
+
+        @Override
+        public List<? extends ParallelTraversal.Part<Tuple2<K, V>>> split() {
+            if(tree.isEmpty())
+                return Collections.emptyList();
+            Node<K,V> node = (Node<K,V>)tree;
+            List<ParallelTraversal.Part<Tuple2<K,V>>> parts = new ArrayList<>(3);
+            if(!node.left.isEmpty())
+                parts.add(new TreePart<>(node.left));
+            parts.add(ParallelTraversal.indexed(i->Tuple.tuple(node.key,node.value),1));
+            if(!node.right.isEmpty())
+                parts.add(new TreePart<>(node.right));
+            return parts;
+        }
+
+        @Override
+        public Iterator<Tuple2<K, V>> iterator() {
+            return new Iterator<Tuple2<K, V>>() {
+                final ArrayDeque<Node<K,V>> path = new ArrayDeque<>();
+                {
+                    pushLeft(tree);
+                }
+
+                private void pushLeft(Tree<K,V> from){
+                    Tree<K,V> current = from;
+                    while(!current.isEmpty()){
+                        Node<K,V> node = (Node<K,V>)current;
+                        path.push(node);
+                        current = node.left;
+                    }
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return !path.isEmpty();
+                }
+
+                @Override
+                public Tuple2<K, V> next() {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    Node<K,V> node = path.pop();
+                    pushLeft(node.right);
+                    return Tuple.tuple(node.key,node.value);
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,398 @@
+package cyclops.data.base;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Immutable, balanced rope of characters.
+ *
+ * Characters are held in packed {@code char[]} leaves of at most {@link #MAX_LEAF} characters, joined by
+ * concatenation nodes kept height balanced (AVL style). Concatenation and substring are O(log n) and share
+ * structure with their inputs, indexed access is O(log n) and iteration walks the leaves without boxing.
+ */
+public abstract class Rope implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Maximum number of characters stored in a single leaf, adjacent small leaves are packed together up to this size
+     */
+    public static final int MAX_LEAF = 512;
+
+    private static final Rope EMPTY = new Leaf(new char[0], 0, 0);
+
+    /**
+     * Receives a contiguous run of characters from a leaf
+     */
+    public interface Chunk {
+        void accept(char[] chars, int offset, int length);
+    }
+
+    public static Rope empty() {
+        return EMPTY;
+    }
+
+    public static Rope of(CharSequence seq) {
+        int len = seq.length();
+        if (len == 0)
+            return EMPTY;
+        char[] chars = new char[len];
+        if (seq instanceof String) {
+            ((String) seq).getChars(0, len, chars, 0);
+        } else {
+            for (int i = 0; i < len; i++)
+                chars[i] = seq.charAt(i);
+        }
+        return build(chars, 0, len);
+    }
+
+    /**
+     * Build a balanced rope over the supplied array, the array is owned by the rope afterwards and must not be mutated
+     */
+    public static Rope wrap(char[] chars) {
+        if (chars.length == 0)
+            return EMPTY;
+        return build(chars, 0, chars.length);
+    }
+
+    private static Rope build(char[] chars, int from, int to) {
+        int len = to - from;
+        if (len <= MAX_LEAF)
+            return new Leaf(chars, from, len);
+        int leaves = (len + MAX_LEAF - 1) / MAX_LEAF;
+        int mid = from + (leaves / 2) * MAX_LEAF;
+        return new Concat(build(chars, from, mid), build(chars, mid, to));
+    }
+
+    public abstract int length();
+
+    public boolean isEmpty() {
+        return length() == 0;
+    }
+
+    abstract int height();
+
+    public abstract char charAt(int index);
+
+    public abstract void forEachChunk(Chunk chunk);
+
+    abstract Rope sub(int start, int end);
+
+    abstract void copyTo(char[] dest, int destPos);
+
+    public Rope substring(int start, int end) {
+        int len = length();
+        int from = Math.max(0, start);
+        int to = Math.min(len, end);
+        if (from >= to)
+            return EMPTY;
+        if (from == 0 && to == len)
+            return this;
+        return sub(from, to);
+    }
+
+    public Rope concat(Rope other) {
+        return concat(this, other);
+    }
+
+    public char[] toCharArray() {
+        char[] res = new char[length()];
+        copyTo(res, 0);
+        return res;
+    }
+
+    /**
+     * @return Rope with fn applied to each character, computed eagerly
+     */
+    public Rope map(IntUnaryOperator fn) {
+        char[] res = toCharArray();
+        for (int i = 0; i < res.length; i++)
+            res[i] = (char) fn.applyAsInt(res[i]);
+        return wrap(res);
+    }
+
+    public Rope reverse() {
+        char[] res = toCharArray();
+        for (int i = 0, j = res.length - 1; i < j; i++, j--) {
+            char c = res[i];
+            res[i] = res[j];
+            res[j] = c;
+        }
+        return wrap(res);
+    }
+
+    /**
+     * @return index of the first occurrence of c at or after from, or -1
+     */
+    public int indexOf(char c, int from) {
+        Cursor cursor = new Cursor(this, Math.max(0, from));
+        while (cursor.hasNext()) {
+            int pos = cursor.position;
+            if (cursor.nextInt() == c)
+                return pos;
+        }
+        return -1;
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new Cursor(this, 0);
+    }
+
+    /**
+     * @return Iterator over the characters of this Rope starting at index from
+     */
+    public PrimitiveIterator.OfInt iterator(int from) {
+        return new Cursor(this, Math.max(0, Math.min(from, length())));
+    }
+
+    public boolean contentEquals(Rope other) {
+        if (this == other)
+            return true;
+        if (length() != other.length())
+            return false;
+        PrimitiveIterator.OfInt a = iterator();
+        PrimitiveIterator.OfInt b = other.iterator();
+        while (a.hasNext()) {
+            if (a.nextInt() != b.nextInt())
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(toCharArray());
+    }
+
+    public static Rope concat(Rope a, Rope b) {
+        int la = a.length();
+        int lb = b.length();
+        if (la == 0)
+            return b;
+        if (lb == 0)
+            return a;
+        if (la + lb <= MAX_LEAF)
+            return pack(a, b);
+        if (b instanceof Leaf && a instanceof Concat) {
+            Concat ca = (Concat) a;
+            if (ca.right instanceof Leaf && ca.right.length() + lb <= MAX_LEAF)
+                return join(ca.left, pack(ca.right, b));
+        }
+        if (a instanceof Leaf && b instanceof Concat) {
+            Concat cb = (Concat) b;
+            if (cb.left instanceof Leaf && la + cb.left.length() <= MAX_LEAF)
+                return join(pack(a, cb.left), cb.right);
+        }
+        return join(a, b);
+    }
+
+    private static Rope pack(Rope a, Rope b) {
+        char[] chars = new char[a.length() + b.length()];
+        a.copyTo(chars, 0);
+        b.copyTo(chars, a.length());
+        return new Leaf(chars, 0, chars.length);
+    }
+
+    private static Rope join(Rope a, Rope b) {
+        int ha = a.height();
+        int hb = b.height();
+        if (ha > hb + 1) {
+            Concat ca = (Concat) a;
+            return balance(ca.left, join(ca.right, b));
+        }
+        if (hb > ha + 1) {
+            Concat cb = (Concat) b;
+            return balance(join(a, cb.left), cb.right);
+        }
+        return new Concat(a, b);
+    }
+
+    private static Rope balance(Rope l, Rope r) {
+        int hl = l.height();
+        int hr = r.height();
+        if (hl > hr + 1) {
+            Concat cl = (Concat) l;
+            if (cl.left.height() >= cl.right.height())
+                return new Concat(cl.left, new Concat(cl.right, r));
+            Concat clr = (Concat) cl.right;
+            return new Concat(new Concat(cl.left, clr.left), new Concat(clr.right, r));
+        }
+        if (hr > hl + 1) {
+            Concat cr = (Concat) r;
+            if (cr.right.height() >= cr.left.height())
+                return new Concat(new Concat(l, cr.left), cr.right);
+            Concat crl = (Concat) cr.left;
+            return new Concat(new Concat(l, crl.left), new Concat(crl.right, cr.right));
+        }
+        return new Concat(l, r);
+    }
+
+    static final class Leaf extends Rope {
+        private static final long serialVersionUID = 1L;
+        private final char[] chars;
+        private final int offset;
+        private final int length;
+
+        Leaf(char[] chars, int offset, int length) {
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+            return chars[offset + index];
+        }
+
+        @Override
+        public void forEachChunk(Chunk chunk) {
+            if (length > 0)
+                chunk.accept(chars, offset, length);
+        }
+
+        @Override
+        Rope sub(int start, int end) {
+            return new Leaf(chars, offset + start, end - start);
+        }
+
+        @Override
+        void copyTo(char[] dest, int destPos) {
+            System.arraycopy(chars, offset, dest, destPos, length);
+        }
+    }
+
+    static final class Concat extends Rope {
+        private static final long serialVersionUID = 1L;
+        private final Rope left;
+        private final Rope right;
+        private final int length;
+        private final int height;
+
+        Concat(Rope left, Rope right) {
+            this.left = left;
+            this.right = right;
+            this.length = left.length() + right.length();
+            this.height = 1 + Math.max(left.height(), right.height());
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+            Rope node = this;
+            while (node instanceof Concat) {
+                Concat c = (Concat) node;
+                int split = c.left.length();
+                if (index < split) {
+                    node = c.left;
+                } else {
+                    node = c.right;
+                    index -= split;
+                }
+            }
+            return node.charAt(index);
+        }
+
+        @Override
+        public void forEachChunk(Chunk chunk) {
+            left.forEachChunk(chunk);
+            right.forEachChunk(chunk);
+        }
+
+        @Override
+        Rope sub(int start, int end) {
+            int split = left.length();
+            if (end <= split)
+                return left.substring(start, end);
+            if (start >= split)
+                return right.substring(start - split, end - split);
+            return concat(left.substring(start, split), right.substring(0, end - split));
+        }
+
+        @Override
+        void copyTo(char[] dest, int destPos) {
+            left.copyTo(dest, destPos);
+            right.copyTo(dest, destPos + left.length());
+        }
+    }
+
+    /**
+     * Iterates the characters of a Rope leaf by leaf, using an explicit stack of pending right subtrees
+     */
+    static final class Cursor implements PrimitiveIterator.OfInt {
+        private final Rope[] stack;
+        private int depth;
+        private Leaf leaf;
+        private int index;
+        int position;
+
+        Cursor(Rope root, int from) {
+            this.stack = new Rope[root.height() + 1];
+            this.position = from;
+            Rope node = root;
+            int skip = from;
+            while (node instanceof Concat) {
+                Concat c = (Concat) node;
+                int split = c.left.length();
+                if (skip < split) {
+                    stack[depth++] = c.right;
+                    node = c.left;
+                } else {
+                    node = c.right;
+                    skip -= split;
+                }
+            }
+            this.leaf = (Leaf) node;
+            this.index = skip;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (index >= leaf.length) {
+                if (depth == 0)
+                    return false;
+                Rope node = stack[--depth];
+                while (node instanceof Concat) {
+                    Concat c = (Concat) node;
+                    stack[depth++] = c.right;
+                    node = c.left;
+                }
+                leaf = (Leaf) node;
+                index = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            position++;
+            return leaf.chars[leaf.offset + index++];
+        }
+    }
+}
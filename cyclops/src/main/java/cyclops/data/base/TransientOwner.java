@@ -0,0 +1,28 @@
+package cyclops.data.base;
+
+/**
+ * Edit token shared by a transient (batch-mutable) view of a persistent data structure and the nodes it creates.
+ * Nodes whose owner is the active token may be updated in place, all other nodes are path copied.
+ * Once {@link #release()} has been called (by persistent()) the token can no longer be used for edits.
+ */
+public final class TransientOwner {
+
+    private volatile Thread thread = Thread.currentThread();
+
+    public void ensureEditable(){
+        Thread current = thread;
+        if(current==null)
+            throw new IllegalStateException("Transient used after persistent() call");
+        if(current!=Thread.currentThread())
+            throw new IllegalStateException("Transient used by non-owner thread");
+    }
+
+    public void release(){
+        ensureEditable();
+        thread = null;
+    }
+
+    public static boolean owns(TransientOwner owner, TransientOwner nodeOwner){
+        return owner!=null && owner==nodeOwner;
+    }
+}
@@ -0,0 +1,537 @@
+package cyclops.function;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A size bounded {@link Cacheable} for use with {@link Memoize}, with optional time based expiry and hit / miss /
+ * eviction statistics.
+ *
+ * Two eviction policies are available
+ * <ul>
+ *  <li>{@link #lru(int)} evicts the least recently used entry</li>
+ *  <li>{@link #tinyLfu(int)} (W-TinyLFU) admits new entries via a small LRU window, and only retains them when they are
+ *  requested more frequently than the entry they would displace. Frequencies are estimated by a compact count-min
+ *  sketch that is periodically halved, so scans and one-off keys do not flush frequently used entries.</li>
+ * </ul>
+ *
+ * Values are stored in a ConcurrentHashMap and looked up without locking. Accesses are recorded against the policy
+ * under a lock that readers only try to acquire, under contention some accesses are not recorded, which affects
+ * the eviction order but not correctness. The size may briefly exceed the maximum while concurrent loads complete.
+ * Expired entries are reloaded when they are next requested, and are reclaimed from the eldest end of the policy
+ * when new entries are written.
+ *
+ * <pre>
+ * {@code
+ *  BoundedCache<String> cache = BoundedCache.<String>tinyLfu(10_000)
+ *                                           .expireAfterWrite(10, TimeUnit.MINUTES);
+ *  Function1<Integer,String> fn = Memoize.memoizeFunction(this::expensive,cache);
+ *
+ *  cache.stats().hitRate();
+ * }
+ * </pre>
+ *
+ * @param <OUT> Type of the cached values
+ */
+public final class BoundedCache<OUT> implements Cacheable<OUT> {
+
+    private static final int EXPIRY_SWEEP = 4;
+
+    private enum Eviction {
+        LRU, W_TINY_LFU
+    }
+
+    private final int maximumSize;
+    private final Eviction eviction;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+
+    private final ConcurrentHashMap<Object, Node<OUT>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    //guarded by lock
+    private final Policy<OUT> policy;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+
+    private BoundedCache(final int maximumSize, final Eviction eviction, final long expireAfterWriteNanos,
+                         final long expireAfterAccessNanos) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be greater than 0");
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.policy = eviction == Eviction.LRU ? new Lru<>() : new WindowTinyLfu<>(maximumSize);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries
+     * @param <OUT> Type of the cached values
+     * @return Empty cache that evicts the least recently used entry
+     */
+    public static <OUT> BoundedCache<OUT> lru(final int maximumSize) {
+        return new BoundedCache<>(maximumSize, Eviction.LRU, 0, 0);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries
+     * @param <OUT> Type of the cached values
+     * @return Empty cache that uses frequency based (W-TinyLFU) admission and eviction
+     */
+    public static <OUT> BoundedCache<OUT> tinyLfu(final int maximumSize) {
+        return new BoundedCache<>(maximumSize, Eviction.W_TINY_LFU, 0, 0);
+    }
+
+    /**
+     * @param time Time after an entry is computed that it expires
+     * @param unit Unit of time
+     * @return Empty cache with the same configuration as this one, that also expires entries after they are written
+     */
+    public BoundedCache<OUT> expireAfterWrite(final long time, final TimeUnit unit) {
+        return new BoundedCache<>(maximumSize, eviction, positive(time, unit), expireAfterAccessNanos);
+    }
+
+    /**
+     * @param time Time after an entry is last requested that it expires
+     * @param unit Unit of time
+     * @return Empty cache with the same configuration as this one, that also expires entries that are not requested
+     */
+    public BoundedCache<OUT> expireAfterAccess(final long time, final TimeUnit unit) {
+        return new BoundedCache<>(maximumSize, eviction, expireAfterWriteNanos, positive(time, unit));
+    }
+
+    @Override
+    public OUT computeIfAbsent(final Object key, final Function<Object, OUT> fn) {
+        final boolean expires = expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+        final long now = expires ? System.nanoTime() : 0;
+        final Node<OUT> node = data.get(key);
+        if (node != null && !isExpired(node, now)) {
+            hits.increment();
+            if (expireAfterAccessNanos > 0)
+                node.accessTime = now;
+            if (lock.tryLock()) {
+                try {
+                    if (node.queue != Node.NONE)
+                        policy.onAccess(node);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return node.value;
+        }
+        return load(key, fn);
+    }
+
+    private OUT load(final Object key, final Function<Object, OUT> fn) {
+        final Object[] replaced = { null };
+        final boolean[] loaded = { false };
+        final Node<OUT> result = data.compute(key, (k, current) -> {
+            if (current != null) {
+                final long now = expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0 ? System.nanoTime() : 0;
+                if (!isExpired(current, now))
+                    return current;
+                replaced[0] = current;
+            }
+            final long start = System.nanoTime();
+            final OUT value = fn.apply(k);
+            final long end = System.nanoTime();
+            loadTime.add(end - start);
+            loaded[0] = true;
+            return new Node<>(k, value, end);
+        });
+        if (!loaded[0]) {
+            //loaded concurrently
+            hits.increment();
+            return result.value;
+        }
+        misses.increment();
+        lock.lock();
+        try {
+            if (replaced[0] != null)
+                unlink((Node<OUT>) replaced[0]);
+            if (data.get(key) == result)
+                policy.onInsert(result);
+            while (policy.size() > maximumSize)
+                evict(policy.evict());
+            sweepExpired();
+        } finally {
+            lock.unlock();
+        }
+        return result.value;
+    }
+
+    /**
+     * @return Snapshot of the statistics recorded by this cache
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), loadTime.sum());
+    }
+
+    /**
+     * @return Number of entries currently held, including any that have expired but not yet been reclaimed
+     */
+    public int size() {
+        return data.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Remove all entries, statistics are retained
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            data.forEach((k, v) -> {
+                if (data.remove(k, v))
+                    unlink(v);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //called with the lock held
+    private void evict(final Node<OUT> victim) {
+        if (data.remove(victim.key, victim))
+            evictions.increment();
+    }
+
+    //called with the lock held
+    private void unlink(final Node<OUT> node) {
+        if (node.queue != Node.NONE)
+            policy.remove(node);
+    }
+
+    //called with the lock held
+    private void sweepExpired() {
+        if (expireAfterWriteNanos == 0 && expireAfterAccessNanos == 0)
+            return;
+        final long now = System.nanoTime();
+        for (int i = 0; i < EXPIRY_SWEEP; i++) {
+            final Node<OUT> eldest = policy.eldest();
+            if (eldest == null || !isExpired(eldest, now))
+                return;
+            policy.remove(eldest);
+            evict(eldest);
+        }
+    }
+
+    private boolean isExpired(final Node<OUT> node, final long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private static long positive(final long time, final TimeUnit unit) {
+        if (time <= 0)
+            throw new IllegalArgumentException("Expiry time must be greater than 0");
+        return unit.toNanos(time);
+    }
+
+    private static final class Node<OUT> {
+        static final int NONE = 0;
+        static final int WINDOW = 1;
+        static final int PROBATION = 2;
+        static final int PROTECTED = 3;
+
+        final Object key;
+        final OUT value;
+        final long writeTime;
+        volatile long accessTime;
+        //guarded by lock
+        int queue = NONE;
+        Node<OUT> prev;
+        Node<OUT> next;
+
+        Node(final Object key, final OUT value, final long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+    }
+
+    /*
+     * Doubly linked list of Nodes, eldest first
+     */
+    private static final class AccessOrder<OUT> {
+        private final int queue;
+        private Node<OUT> head;
+        private Node<OUT> tail;
+        private int size;
+
+        AccessOrder(final int queue) {
+            this.queue = queue;
+        }
+
+        void add(final Node<OUT> node) {
+            node.queue = queue;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null)
+                head = node;
+            else
+                tail.next = node;
+            tail = node;
+            size++;
+        }
+
+        void remove(final Node<OUT> node) {
+            if (node.prev == null)
+                head = node.next;
+            else
+                node.prev.next = node.next;
+            if (node.next == null)
+                tail = node.prev;
+            else
+                node.next.prev = node.prev;
+            node.prev = node.next = null;
+            node.queue = Node.NONE;
+            size--;
+        }
+
+        void moveToTail(final Node<OUT> node) {
+            if (node != tail) {
+                remove(node);
+                add(node);
+            }
+        }
+    }
+
+    /*
+     * Eviction policies, all methods are called with the lock held
+     */
+    private interface Policy<OUT> {
+        void onInsert(Node<OUT> node);
+
+        void onAccess(Node<OUT> node);
+
+        void remove(Node<OUT> node);
+
+        /*
+         * Unlink and return the entry to evict
+         */
+        Node<OUT> evict();
+
+        Node<OUT> eldest();
+
+        int size();
+    }
+
+    private static final class Lru<OUT> implements Policy<OUT> {
+        private final AccessOrder<OUT> order = new AccessOrder<>(Node.PROBATION);
+
+        @Override
+        public void onInsert(final Node<OUT> node) {
+            order.add(node);
+        }
+
+        @Override
+        public void onAccess(final Node<OUT> node) {
+            order.moveToTail(node);
+        }
+
+        @Override
+        public void remove(final Node<OUT> node) {
+            order.remove(node);
+        }
+
+        @Override
+        public Node<OUT> evict() {
+            final Node<OUT> victim = order.head;
+            order.remove(victim);
+            return victim;
+        }
+
+        @Override
+        public Node<OUT> eldest() {
+            return order.head;
+        }
+
+        @Override
+        public int size() {
+            return order.size;
+        }
+    }
+
+    /*
+     * New entries enter an LRU window of ~1% of the capacity, entries leaving the window join the main segmented LRU
+     * on probation and, once the cache is full, compete with its eldest entry on estimated frequency. Entries in the main area start on probation and are promoted
+     * to the protected segment (80% of the main area) when requested again.
+     */
+    private static final class WindowTinyLfu<OUT> implements Policy<OUT> {
+        private final AccessOrder<OUT> window = new AccessOrder<>(Node.WINDOW);
+        private final AccessOrder<OUT> probation = new AccessOrder<>(Node.PROBATION);
+        private final AccessOrder<OUT> protect = new AccessOrder<>(Node.PROTECTED);
+        private final int windowCapacity;
+        private final int protectedCapacity;
+        private final FrequencySketch sketch;
+
+        WindowTinyLfu(final int maximumSize) {
+            this.windowCapacity = Math.max(1, maximumSize / 100);
+            this.protectedCapacity = (int) ((maximumSize - windowCapacity) * 0.8);
+            this.sketch = new FrequencySketch(maximumSize);
+        }
+
+        @Override
+        public void onInsert(final Node<OUT> node) {
+            sketch.increment(node.key);
+            window.add(node);
+            while (window.size > windowCapacity) {
+                final Node<OUT> candidate = window.head;
+                window.remove(candidate);
+                probation.add(candidate);
+            }
+        }
+
+        @Override
+        public void onAccess(final Node<OUT> node) {
+            sketch.increment(node.key);
+            switch (node.queue) {
+                case Node.WINDOW:
+                    window.moveToTail(node);
+                    break;
+                case Node.PROBATION:
+                    probation.remove(node);
+                    protect.add(node);
+                    while (protect.size > protectedCapacity) {
+                        final Node<OUT> demoted = protect.head;
+                        protect.remove(demoted);
+                        probation.add(demoted);
+                    }
+                    break;
+                default:
+                    protect.moveToTail(node);
+            }
+        }
+
+        @Override
+        public void remove(final Node<OUT> node) {
+            queue(node).remove(node);
+        }
+
+        /*
+         * The entry most recently moved out of the window (the probation tail) is only admitted if it is estimated to
+         * be more frequently used than the eldest entry of the main area
+         */
+        @Override
+        public Node<OUT> evict() {
+            final Node<OUT> candidate = probation.tail;
+            if (candidate == null)
+                return evict(eldest());
+            final Node<OUT> victim = probation.head != candidate ? probation.head : protect.head;
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key))
+                return evict(candidate);
+            return evict(victim);
+        }
+
+        private Node<OUT> evict(final Node<OUT> node) {
+            queue(node).remove(node);
+            return node;
+        }
+
+        @Override
+        public Node<OUT> eldest() {
+            if (probation.head != null)
+                return probation.head;
+            if (protect.head != null)
+                return protect.head;
+            return window.head;
+        }
+
+        @Override
+        public int size() {
+            return window.size + probation.size + protect.size;
+        }
+
+        private AccessOrder<OUT> queue(final Node<OUT> node) {
+            switch (node.queue) {
+                case Node.WINDOW:
+                    return window;
+                case Node.PROBATION:
+                    return probation;
+                default:
+                    return protect;
+            }
+        }
+    }
+
+    /*
+     * Count-min sketch of 4 bit counters (16 per long), 4 counters per key. Counters are halved once the number of
+     * increments reaches 10x the maximum size, so the estimates favour recent history.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+                0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(final int maximumSize) {
+            final int length = Integer.highestOneBit(Math.max(2, Math.min(maximumSize, 1 << 26)) - 1) << 1;
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        int frequency(final Object key) {
+            final int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                final int index = indexOf(hash, i);
+                final int offset = counterOffset(hash, i);
+                frequency = Math.min(frequency, (int) ((table[index] >>> offset) & 0xfL));
+            }
+            return frequency;
+        }
+
+        void increment(final Object key) {
+            final int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                final int index = indexOf(hash, i);
+                final int offset = counterOffset(hash, i);
+                if (((table[index] >>> offset) & 0xfL) != 0xfL) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize)
+                reset();
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++)
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            additions = additions / 2;
+        }
+
+        private int indexOf(final int hash, final int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private static int counterOffset(final int hash, final int i) {
+            //each of the 4 rows uses a distinct quarter of the counters in a long
+            return (((hash >>> (i << 3)) & 3) + (i << 2)) << 2;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package cyclops.function;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Point in time snapshot of the statistics recorded by a {@link BoundedCache}
+ *
+ * <pre>
+ * {@code
+ *  BoundedCache<String> cache = BoundedCache.lru(10_000);
+ *  Function1<Integer,String> fn = Memoize.memoizeFunction(this::expensive,cache);
+ *  ...
+ *  double hitRate = cache.stats().hitRate();
+ * }
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    /**
+     * Total time spent computing values on a miss, in nanoseconds
+     */
+    private final long totalLoadTime;
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return Ratio of lookups that were served from the cache, 1.0 if there have been no lookups
+     */
+    public double hitRate() {
+        final long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return Average time spent computing a value on a miss, in nanoseconds
+     */
+    public double averageLoadPenalty() {
+        return missCount == 0 ? 0.0 : (double) totalLoadTime / missCount;
+    }
+
+    /**
+     * @param other Earlier snapshot
+     * @return Statistics recorded between other and this snapshot
+     */
+    public CacheStats minus(final CacheStats other) {
+        return new CacheStats(Math.max(0, hitCount - other.hitCount),
+                              Math.max(0, missCount - other.missCount),
+                              Math.max(0, evictionCount - other.evictionCount),
+                              Math.max(0, totalLoadTime - other.totalLoadTime));
+    }
+}
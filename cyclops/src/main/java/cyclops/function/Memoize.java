@@ -8,6 +8,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -64,6 +65,8 @@ public class Memoize {
     /**
      * Memoize a Supplier and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
+     * The value is only recomputed by an update if it was read since the previous update, an unread value is dropped
+     * and recomputed on the calling thread the next time it is read.
      *
      * @param fn Supplier to Memoize
      * @param ex Scheduled Executor Service
@@ -72,12 +75,14 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <R> Function0<R> memoizeSupplierAsync(final Supplier<R> fn, ScheduledExecutorService ex, long updateRateInMillis){
-        return ()-> Memoize.memoizeFunctionAsync(a-> fn.get(),ex,updateRateInMillis)
-                           .apply("k");
+        Function1<Object, R> memoized = Memoize.memoizeFunctionAsync(a -> fn.get(), ex, updateRateInMillis);
+        return ()-> memoized.apply("k");
     }
     /**
      * Memoize a Supplier and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
+     * The value is only recomputed by an update if it was read since the previous update, an unread value is dropped
+     * and recomputed on the calling thread the next time it is read.
      *
      * @param fn Supplier to Memoize
      * @param ex Scheduled Executor Service
@@ -86,8 +91,8 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <R> Function0<R> memoizeSupplierAsync(final Supplier<R> fn, ScheduledExecutorService ex, String cron){
-        return ()-> Memoize.memoizeFunctionAsync(a-> fn.get(),ex,cron)
-                .apply("k");
+        Function1<Object, R> memoized = Memoize.memoizeFunctionAsync(a -> fn.get(), ex, cron);
+        return ()-> memoized.apply("k");
     }
 
     /**
@@ -155,6 +160,8 @@ public class Memoize {
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn Function to Memoize
      * @param ex Scheduled Executor Service
@@ -164,22 +171,13 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T, R> Function1<T, R> memoizeFunctionAsync(final Function<T, R> fn, ScheduledExecutorService ex, long updateRateInMillis){
-        final Map<T, R> lazy = new ConcurrentHashMap<>();
-
-        ReactiveSeq.generate(()->{
-
-            lazy.forEach((k,v)->{
-
-                lazy.put(k,fn.apply(k));
-            });
-            return null;
-        }).scheduleFixedRate(updateRateInMillis,ex);
-
-        return t -> lazy.computeIfAbsent(t, fn);
+        return memoizeFunctionAsync(fn, refresh -> refresh.scheduleFixedRate(updateRateInMillis,ex));
     }
     /**
      * Memoize this function and update cached values on a schedule
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn  Function to Memoize
      * @param ex Scheduled Executor Service
@@ -189,18 +187,43 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T, R> Function1<T, R> memoizeFunctionAsync(final Function<T, R> fn, ScheduledExecutorService ex, String cron) {
-        final Map<T, R> lazy = new ConcurrentHashMap<>();
+        return memoizeFunctionAsync(fn, refresh -> refresh.schedule(cron,ex));
+    }
 
-        ReactiveSeq.generate(()->{
+    /*
+     * Only keys requested since the previous update are recomputed (refresh-ahead for hot keys), keys that were not
+     * requested are dropped and recomputed on demand, so the cache does not grow with every key ever seen
+     */
+    private static <T, R> Function1<T, R> memoizeFunctionAsync(final Function<T, R> fn, Consumer<ReactiveSeq<Object>> scheduler){
+        final Map<T, Refreshable<R>> lazy = new ConcurrentHashMap<>();
 
-            lazy.forEach((k,v)->{
+        scheduler.accept(ReactiveSeq.generate(()->{
 
-                lazy.put(k,fn.apply(k));
+            lazy.forEach((k,v)->{
+                if(v.accessed) {
+                    v.accessed = false;
+                    v.value = fn.apply(k);
+                }else {
+                    lazy.remove(k, v);
+                }
             });
             return null;
-        }).schedule(cron,ex);
+        }));
 
-        return t -> lazy.computeIfAbsent(t, fn);
+        return t -> {
+            Refreshable<R> entry = lazy.computeIfAbsent(t, k -> new Refreshable<>(fn.apply(k)));
+            entry.accessed = true;
+            return entry.value;
+        };
+    }
+
+    private static final class Refreshable<R> {
+        volatile R value;
+        volatile boolean accessed;
+
+        Refreshable(R value) {
+            this.value = value;
+        }
     }
 
 
@@ -220,6 +243,8 @@ public class Memoize {
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn Function to Memoize
      * @param ex Scheduled Executor Service
@@ -233,6 +258,8 @@ public class Memoize {
     /**
      * Memoize this function and update cached values on a schedule
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn  Function to Memoize
      * @param ex Scheduled Executor Service
@@ -281,6 +308,8 @@ public class Memoize {
     /**
      * Memoize this function and update cached values on a schedule
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn  Function to Memoize
      * @param ex Scheduled Executor Service
@@ -305,6 +334,8 @@ public class Memoize {
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn Function to Memoize
      * @param ex Scheduled Executor Service
@@ -328,6 +359,8 @@ public class Memoize {
     /**
      * Memoize this function and update cached values on a schedule
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn  Function to Memoize
      * @param ex Scheduled Executor Service
@@ -355,6 +388,8 @@ public class Memoize {
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
+     * Only keys read since the previous update are recomputed on each update, keys that were not read are dropped and
+     * recomputed on the calling thread the next time they are read.
      *
      * @param fn Function to Memoize
      * @param ex Scheduled Executor Service
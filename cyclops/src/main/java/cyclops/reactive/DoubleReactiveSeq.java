@@ -0,0 +1,164 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.ReactiveStreamX;
+import com.oath.cyclops.internal.stream.spliterators.push.BoxingDoubleOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleGroupingOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleScanOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.DoubleSourceOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.data.DoubleVector;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * A push based Stream of unboxed doubles.
+ *
+ * map, filter, scanLeft and the terminal folds run on {@link DoubleConsumer}s end to end, values are boxed
+ * only when converting back to a {@link ReactiveSeq} via {@link #boxed()} or {@link #grouped(int)}.
+ *
+ * <pre>
+ *     {@code
+ *      double total = DoubleReactiveSeq.of(1.5,2.5,3.5)
+ *                                    .filter(d->d>2)
+ *                                    .map(d->d*3)
+ *                                    .sum();
+ *     }
+ * </pre>
+ */
+public final class DoubleReactiveSeq {
+
+    private static final Consumer<? super Throwable> DEFAULT_ERROR_HANDLER = e -> {
+        throw ExceptionSoftener.throwSoftenedException(e);
+    };
+
+    private final DoubleOperator source;
+
+    private DoubleReactiveSeq(DoubleOperator source) {
+        this.source = source;
+    }
+
+    public static DoubleReactiveSeq of(double... values) {
+        return new DoubleReactiveSeq(new DoubleSourceOperator(() -> DoubleStream.of(values).iterator()));
+    }
+
+    public static DoubleReactiveSeq fromDoubleVector(DoubleVector vector) {
+        return new DoubleReactiveSeq(new DoubleSourceOperator(vector::iterator));
+    }
+
+    /**
+     * @param stream DoubleStream to push values from, as with all Java Streams it can only be traversed once
+     * @return DoubleReactiveSeq backed by stream
+     */
+    public static DoubleReactiveSeq fromStream(DoubleStream stream) {
+        PrimitiveIterator.OfDouble it = stream.iterator();
+        return new DoubleReactiveSeq(new DoubleSourceOperator(() -> it));
+    }
+
+    public DoubleReactiveSeq map(DoubleUnaryOperator fn) {
+        if (source instanceof DoubleMapOperator)
+            return new DoubleReactiveSeq(((DoubleMapOperator) source).compose(fn));
+        return new DoubleReactiveSeq(new DoubleMapOperator(source, fn));
+    }
+
+    public DoubleReactiveSeq filter(DoublePredicate predicate) {
+        return new DoubleReactiveSeq(new DoubleFilterOperator(source, predicate));
+    }
+
+    /**
+     * @return DoubleReactiveSeq of seed followed by each successive accumulation
+     */
+    public DoubleReactiveSeq scanLeft(double seed, DoubleBinaryOperator fn) {
+        return new DoubleReactiveSeq(new DoubleScanOperator(source, seed, fn));
+    }
+
+    /**
+     * @param groupSize Size of each group (the final group may be smaller)
+     * @return ReactiveSeq of DoubleVectors holding the unboxed doubles of each group
+     */
+    public ReactiveSeq<DoubleVector> grouped(int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException("Batch size must be 1 or more");
+        return new ReactiveStreamX<>(new DoubleGroupingOperator(source, groupSize));
+    }
+
+    /**
+     * @return Boxed ReactiveSeq of the values in this Stream
+     */
+    public ReactiveSeq<Double> boxed() {
+        return new ReactiveStreamX<>(new BoxingDoubleOperator(source));
+    }
+
+    public void forEach(DoubleConsumer consumer) {
+        source.subscribeAll(consumer, DEFAULT_ERROR_HANDLER, () -> {
+        });
+    }
+
+    public double reduce(double identity, DoubleBinaryOperator fn) {
+        double[] acc = {identity};
+        forEach(i -> acc[0] = fn.applyAsDouble(acc[0], i));
+        return acc[0];
+    }
+
+    public OptionalDouble reduce(DoubleBinaryOperator fn) {
+        double[] acc = {0};
+        boolean[] found = {false};
+        forEach(i -> {
+            if (found[0]) {
+                acc[0] = fn.applyAsDouble(acc[0], i);
+            } else {
+                acc[0] = i;
+                found[0] = true;
+            }
+        });
+        return found[0] ? OptionalDouble.of(acc[0]) : OptionalDouble.empty();
+    }
+
+    /**
+     * @return Sum of all values, using simple (uncompensated) summation
+     */
+    public double sum() {
+        double[] acc = {0};
+        forEach(i -> acc[0] += i);
+        return acc[0];
+    }
+
+    public long count() {
+        long[] acc = {0};
+        forEach(i -> acc[0]++);
+        return acc[0];
+    }
+
+    public OptionalDouble min() {
+        return reduce(Math::min);
+    }
+
+    public OptionalDouble max() {
+        return reduce(Math::max);
+    }
+
+    public double[] toArray() {
+        double[][] buffer = {new double[16]};
+        int[] size = {0};
+        forEach(i -> {
+            if (size[0] == buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+            buffer[0][size[0]++] = i;
+        });
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+    public DoubleVector intVector() {
+        return DoubleVector.of(toArray());
+    }
+}
@@ -0,0 +1,173 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.ReactiveStreamX;
+import com.oath.cyclops.internal.stream.spliterators.push.BoxingIntOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntGroupingOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntScanOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.IntSourceOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.data.IntVector;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * A push based Stream of unboxed ints.
+ *
+ * map, filter, scanLeft and the terminal folds run on {@link IntConsumer}s end to end, values are boxed
+ * only when converting back to a {@link ReactiveSeq} via {@link #boxed()} or {@link #grouped(int)}.
+ *
+ * <pre>
+ *     {@code
+ *      long total = IntReactiveSeq.range(0,1_000_000)
+ *                                 .filter(i->i%2==0)
+ *                                 .map(i->i*3)
+ *                                 .sum();
+ *     }
+ * </pre>
+ */
+public final class IntReactiveSeq {
+
+    private static final Consumer<? super Throwable> DEFAULT_ERROR_HANDLER = e -> {
+        throw ExceptionSoftener.throwSoftenedException(e);
+    };
+
+    private final IntOperator source;
+
+    private IntReactiveSeq(IntOperator source) {
+        this.source = source;
+    }
+
+    public static IntReactiveSeq of(int... values) {
+        return new IntReactiveSeq(new IntSourceOperator(() -> IntStream.of(values).iterator()));
+    }
+
+    /**
+     * @param start Inclusive start
+     * @param end Exclusive end
+     * @return IntReactiveSeq of the ints from start to end
+     */
+    public static IntReactiveSeq range(int start, int end) {
+        return new IntReactiveSeq(new IntSourceOperator(() -> IntStream.range(start, end).iterator()));
+    }
+
+    public static IntReactiveSeq fromIntVector(IntVector vector) {
+        return new IntReactiveSeq(new IntSourceOperator(vector::iterator));
+    }
+
+    /**
+     * @param stream IntStream to push values from, as with all Java Streams it can only be traversed once
+     * @return IntReactiveSeq backed by stream
+     */
+    public static IntReactiveSeq fromStream(IntStream stream) {
+        PrimitiveIterator.OfInt it = stream.iterator();
+        return new IntReactiveSeq(new IntSourceOperator(() -> it));
+    }
+
+    public IntReactiveSeq map(IntUnaryOperator fn) {
+        if (source instanceof IntMapOperator)
+            return new IntReactiveSeq(((IntMapOperator) source).compose(fn));
+        return new IntReactiveSeq(new IntMapOperator(source, fn));
+    }
+
+    public IntReactiveSeq filter(IntPredicate predicate) {
+        return new IntReactiveSeq(new IntFilterOperator(source, predicate));
+    }
+
+    /**
+     * @return IntReactiveSeq of seed followed by each successive accumulation
+     */
+    public IntReactiveSeq scanLeft(int seed, IntBinaryOperator fn) {
+        return new IntReactiveSeq(new IntScanOperator(source, seed, fn));
+    }
+
+    /**
+     * @param groupSize Size of each group (the final group may be smaller)
+     * @return ReactiveSeq of IntVectors holding the unboxed ints of each group
+     */
+    public ReactiveSeq<IntVector> grouped(int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException("Batch size must be 1 or more");
+        return new ReactiveStreamX<>(new IntGroupingOperator(source, groupSize));
+    }
+
+    /**
+     * @return Boxed ReactiveSeq of the values in this Stream
+     */
+    public ReactiveSeq<Integer> boxed() {
+        return new ReactiveStreamX<>(new BoxingIntOperator(source));
+    }
+
+    public void forEach(IntConsumer consumer) {
+        source.subscribeAll(consumer, DEFAULT_ERROR_HANDLER, () -> {
+        });
+    }
+
+    public int reduce(int identity, IntBinaryOperator fn) {
+        int[] acc = {identity};
+        forEach(i -> acc[0] = fn.applyAsInt(acc[0], i));
+        return acc[0];
+    }
+
+    public OptionalInt reduce(IntBinaryOperator fn) {
+        int[] acc = {0};
+        boolean[] found = {false};
+        forEach(i -> {
+            if (found[0]) {
+                acc[0] = fn.applyAsInt(acc[0], i);
+            } else {
+                acc[0] = i;
+                found[0] = true;
+            }
+        });
+        return found[0] ? OptionalInt.of(acc[0]) : OptionalInt.empty();
+    }
+
+    /**
+     * @return Sum of all values, accumulated as a long to avoid overflow
+     */
+    public long sum() {
+        long[] acc = {0};
+        forEach(i -> acc[0] += i);
+        return acc[0];
+    }
+
+    public long count() {
+        long[] acc = {0};
+        forEach(i -> acc[0]++);
+        return acc[0];
+    }
+
+    public OptionalInt min() {
+        return reduce(Math::min);
+    }
+
+    public OptionalInt max() {
+        return reduce(Math::max);
+    }
+
+    public int[] toArray() {
+        int[][] buffer = {new int[16]};
+        int[] size = {0};
+        forEach(i -> {
+            if (size[0] == buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+            buffer[0][size[0]++] = i;
+        });
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+    public IntVector intVector() {
+        return IntVector.of(toArray());
+    }
+}
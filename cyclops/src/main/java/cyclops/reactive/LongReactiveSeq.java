@@ -0,0 +1,170 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.ReactiveStreamX;
+import com.oath.cyclops.internal.stream.spliterators.push.BoxingLongOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongGroupingOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongScanOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.LongSourceOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.data.LongVector;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * A push based Stream of unboxed longs.
+ *
+ * map, filter, scanLeft and the terminal folds run on {@link LongConsumer}s end to end, values are boxed
+ * only when converting back to a {@link ReactiveSeq} via {@link #boxed()} or {@link #grouped(int)}.
+ *
+ * <pre>
+ *     {@code
+ *      long total = LongReactiveSeq.range(0,1_000_000)
+ *                                  .filter(i->i%2==0)
+ *                                  .map(i->i*3)
+ *                                  .sum();
+ *     }
+ * </pre>
+ */
+public final class LongReactiveSeq {
+
+    private static final Consumer<? super Throwable> DEFAULT_ERROR_HANDLER = e -> {
+        throw ExceptionSoftener.throwSoftenedException(e);
+    };
+
+    private final LongOperator source;
+
+    private LongReactiveSeq(LongOperator source) {
+        this.source = source;
+    }
+
+    public static LongReactiveSeq of(long... values) {
+        return new LongReactiveSeq(new LongSourceOperator(() -> LongStream.of(values).iterator()));
+    }
+
+    /**
+     * @param start Inclusive start
+     * @param end Exclusive end
+     * @return LongReactiveSeq of the ints from start to end
+     */
+    public static LongReactiveSeq range(long start, long end) {
+        return new LongReactiveSeq(new LongSourceOperator(() -> LongStream.range(start, end).iterator()));
+    }
+
+    public static LongReactiveSeq fromLongVector(LongVector vector) {
+        return new LongReactiveSeq(new LongSourceOperator(vector::iterator));
+    }
+
+    /**
+     * @param stream LongStream to push values from, as with all Java Streams it can only be traversed once
+     * @return LongReactiveSeq backed by stream
+     */
+    public static LongReactiveSeq fromStream(LongStream stream) {
+        PrimitiveIterator.OfLong it = stream.iterator();
+        return new LongReactiveSeq(new LongSourceOperator(() -> it));
+    }
+
+    public LongReactiveSeq map(LongUnaryOperator fn) {
+        if (source instanceof LongMapOperator)
+            return new LongReactiveSeq(((LongMapOperator) source).compose(fn));
+        return new LongReactiveSeq(new LongMapOperator(source, fn));
+    }
+
+    public LongReactiveSeq filter(LongPredicate predicate) {
+        return new LongReactiveSeq(new LongFilterOperator(source, predicate));
+    }
+
+    /**
+     * @return LongReactiveSeq of seed followed by each successive accumulation
+     */
+    public LongReactiveSeq scanLeft(long seed, LongBinaryOperator fn) {
+        return new LongReactiveSeq(new LongScanOperator(source, seed, fn));
+    }
+
+    /**
+     * @param groupSize Size of each group (the final group may be smaller)
+     * @return ReactiveSeq of LongVectors holding the unboxed longs of each group
+     */
+    public ReactiveSeq<LongVector> grouped(int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException("Batch size must be 1 or more");
+        return new ReactiveStreamX<>(new LongGroupingOperator(source, groupSize));
+    }
+
+    /**
+     * @return Boxed ReactiveSeq of the values in this Stream
+     */
+    public ReactiveSeq<Long> boxed() {
+        return new ReactiveStreamX<>(new BoxingLongOperator(source));
+    }
+
+    public void forEach(LongConsumer consumer) {
+        source.subscribeAll(consumer, DEFAULT_ERROR_HANDLER, () -> {
+        });
+    }
+
+    public long reduce(long identity, LongBinaryOperator fn) {
+        long[] acc = {identity};
+        forEach(i -> acc[0] = fn.applyAsLong(acc[0], i));
+        return acc[0];
+    }
+
+    public OptionalLong reduce(LongBinaryOperator fn) {
+        long[] acc = {0};
+        boolean[] found = {false};
+        forEach(i -> {
+            if (found[0]) {
+                acc[0] = fn.applyAsLong(acc[0], i);
+            } else {
+                acc[0] = i;
+                found[0] = true;
+            }
+        });
+        return found[0] ? OptionalLong.of(acc[0]) : OptionalLong.empty();
+    }
+
+    public long sum() {
+        long[] acc = {0};
+        forEach(i -> acc[0] += i);
+        return acc[0];
+    }
+
+    public long count() {
+        long[] acc = {0};
+        forEach(i -> acc[0]++);
+        return acc[0];
+    }
+
+    public OptionalLong min() {
+        return reduce(Math::min);
+    }
+
+    public OptionalLong max() {
+        return reduce(Math::max);
+    }
+
+    public long[] toArray() {
+        long[][] buffer = {new long[16]};
+        int[] size = {0};
+        forEach(i -> {
+            if (size[0] == buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+            buffer[0][size[0]++] = i;
+        });
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+    public LongVector intVector() {
+        return LongVector.of(toArray());
+    }
+}
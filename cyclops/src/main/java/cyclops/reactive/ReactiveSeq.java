@@ -26,6 +26,7 @@ import com.oath.cyclops.types.futurestream.Continuation;
 import com.oath.cyclops.types.recoverable.OnEmptySwitch;
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber;
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber.Counter;
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
 import com.oath.cyclops.types.traversable.IterableX;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.companion.Streams;
@@ -3620,6 +3621,29 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     ReactiveSeq<T> debounce(long time, TimeUnit t);
 
+    /**
+     * Fail with a {@link java.util.concurrent.TimeoutException} if no element (or completion) is received within
+     * the time period of subscribing or of the previous element.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.of(1,2,3)
+     *        .timeout(1,TimeUnit.SECONDS)
+     *        .forEach(System.out::println,e->System.err.println("Timed out " + e));
+     * }
+     * </pre>
+     *
+     * Precision is that of the shared timer (1 millisecond). Non push based Streams are converted via
+     * {@link Spouts#fromIterable(Iterable)}.
+     *
+     * @param time Maximum time to wait for each element
+     * @param t Time unit for the time period
+     * @return ReactiveSeq that errors if an element does not arrive in time
+     */
+    default ReactiveSeq<T> timeout(long time, TimeUnit t){
+        return Spouts.fromIterable(this).timeout(time, t);
+    }
+
     /**
      * emit elements after a fixed delay
      *
@@ -4576,6 +4600,42 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return Streams.toBufferingCopier(() -> iterator(),num,()->new ArrayDeque<T>(100))
                 .map(ReactiveSeq::fromIterable);
     }
+
+    /**
+     * Broadcast the contents of this Stream to multiple downstream Streams, giving each backpressure aware
+     * downstream Stream its own bounded buffer of bufferSize elements and its own demand.
+     * The slow consumer policy determines what happens when a downstream Stream's buffer is full :
+     * BLOCK paces this Stream to the slowest subscriber, DROP discards elements for the full subscriber and
+     * DISCONNECT terminates the full subscriber with an error. Other Stream types behave as {@link #multicast(int)}.
+     *
+     * <pre>
+     * {@code
+     *  Seq<ReactiveSeq<Tick>> feeds = marketData.multicast(50,1024,SlowConsumerPolicy.DROP);
+     * }
+     * </pre>
+     *
+     * @param num Number of downstream Streams to multicast to
+     * @param bufferSize Size of the buffer for each downstream Stream
+     * @param policy Policy to apply to downstream Streams that fall bufferSize elements behind
+     * @return List of Streams that recieve data from this Stream
+     */
+    default Seq<ReactiveSeq<T>> multicast(int num, int bufferSize, SlowConsumerPolicy policy){
+        return multicast(num);
+    }
+
+    /**
+     * As {@link #multicast(int,int,SlowConsumerPolicy)}, with each downstream Stream drained on the supplied Executor
+     * so that a slow subscriber does not hold up the thread delivering elements to the others.
+     *
+     * @param num Number of downstream Streams to multicast to
+     * @param bufferSize Size of the buffer for each downstream Stream
+     * @param policy Policy to apply to downstream Streams that fall bufferSize elements behind
+     * @param executor Executor to deliver elements to each downstream Stream on
+     * @return List of Streams that recieve data from this Stream
+     */
+    default Seq<ReactiveSeq<T>> multicast(int num, int bufferSize, SlowConsumerPolicy policy, Executor executor){
+        return multicast(num);
+    }
     default <R1,R2,R3> ReactiveSeq<R3> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
                                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R2>> path2,
                                                      BiFunction<? super R1, ? super R2, ? extends R3> zipFn){
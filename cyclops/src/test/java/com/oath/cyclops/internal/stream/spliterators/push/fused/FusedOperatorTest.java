@@ -0,0 +1,56 @@
+package com.oath.cyclops.internal.stream.spliterators.push.fused;
+
+import com.oath.cyclops.internal.stream.spliterators.push.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class FusedOperatorTest extends AbstractOperatorTest {
+
+    private static Operator<Integer> chain(Operator<Integer> source){
+        Operator<Integer> doubled = FusedOperator.map(source, i -> i * 4);
+        Operator<Integer> filtered = FusedOperator.filter(doubled, i -> i > 0);
+        return FusedOperator.lazyMap(filtered, () -> i -> i / 2);
+    }
+
+    public Operator<Integer> createEmpty(){
+       return chain(new ArrayOfValuesOperator<>());
+    }
+    public Operator<Integer> createOne(){
+        return chain(new SingleValueOperator<>(1));
+    }
+
+    public Operator<Integer> createThree(){
+        return chain(new ArrayOfValuesOperator<>(1,2,3));
+    }
+    public Operator<Integer> createTwoAndError(){
+        return chain(Fixtures.twoAndErrorSource);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return chain(Fixtures.threeErrorsSource);
+    }
+
+    @Test
+    public void fusesAdjacentStages(){
+        Operator<Integer> fused = FusedOperator.lazyFilter(createThree(), () -> i -> i != 4);
+        assertThat(fused, instanceOf(FusedOperator.class));
+        List<Integer> result = new ArrayList<>();
+        fused.subscribeAll(result::add, errors::add, () -> {});
+        assertThat(result, equalTo(Arrays.asList(2, 6)));
+    }
+
+    @Test
+    public void absorbsMapAndFilterOperators(){
+        Operator<Integer> legacy = new FilterOperator<>(new MapOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3), i -> i + 1), i -> i > 2);
+        Operator<Integer> fused = FusedOperator.map(legacy, i -> -i);
+        List<Integer> result = new ArrayList<>();
+        fused.subscribeAll(result::add, errors::add, () -> {});
+        assertThat(result, equalTo(Arrays.asList(-3, -4)));
+    }
+}
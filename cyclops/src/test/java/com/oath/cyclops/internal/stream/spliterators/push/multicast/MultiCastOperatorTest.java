@@ -0,0 +1,163 @@
+package com.oath.cyclops.internal.stream.spliterators.push.multicast;
+
+import com.oath.cyclops.internal.stream.spliterators.push.ArrayOfValuesOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.MultiCastOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.Operator;
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MultiCastOperatorTest {
+
+    private static Operator<Integer> range(int end){
+        return new ArrayOfValuesOperator<>(IntStream.range(0,end).boxed().toArray(Integer[]::new));
+    }
+
+    @Test
+    public void independentDemand(){
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(range(1000),2,16,SlowConsumerPolicy.BLOCK,null);
+        List<Integer> fast = new ArrayList<>();
+        List<Integer> slow = new ArrayList<>();
+        boolean[] complete = {false,false};
+        StreamSubscription fastSub = op.subscribe(fast::add,e->{},()->complete[0]=true);
+        StreamSubscription slowSub = op.subscribe(slow::add,e->{},()->complete[1]=true);
+
+        fastSub.request(Long.MAX_VALUE);
+        slowSub.request(3);
+        assertThat(slow,equalTo(Arrays.asList(0,1,2)));
+        assertThat(fast.size(),lessThanOrEqualTo(3+16+1));
+
+        slowSub.request(Long.MAX_VALUE);
+        assertThat(fast.size(),equalTo(1000));
+        assertThat(slow,equalTo(fast));
+        assertTrue(complete[0]);
+        assertTrue(complete[1]);
+    }
+
+    @Test
+    public void blockHoldsOverrunWithoutSpinning(){
+        Operator<Integer> overrun = new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                return new StreamSubscription(){
+                    boolean emitted;
+                    @Override
+                    public void request(long n) {
+                        if(emitted)
+                            return;
+                        emitted = true;
+                        for(int i=0;i<100;i++)
+                            onNext.accept(i);
+                        onError.accept(new IllegalStateException("boom"));
+                        onComplete.run();
+                    }
+                };
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                subscribe(onNext,onError,onComplete).request(Long.MAX_VALUE);
+            }
+        };
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(overrun,2,16,SlowConsumerPolicy.BLOCK,null);
+        List<Integer> fast = new ArrayList<>();
+        List<Integer> slow = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        boolean[] complete = {false};
+        StreamSubscription fastSub = op.subscribe(fast::add,e->{},()->{});
+        StreamSubscription slowSub = op.subscribe(slow::add,errors::add,()->complete[0]=true);
+
+        fastSub.request(Long.MAX_VALUE);
+        assertThat(fast.size(),equalTo(100));
+        assertThat(slow.size(),equalTo(0));
+
+        slowSub.request(10);
+        assertThat(slow,equalTo(fast.subList(0,10)));
+        assertFalse(complete[0]);
+
+        slowSub.request(Long.MAX_VALUE);
+        assertThat(slow,equalTo(fast));
+        assertThat(errors.size(),equalTo(1));
+        assertTrue(complete[0]);
+    }
+
+    @Test
+    public void dropDoesNotStallFastSubscriber(){
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(range(1000),2,16,SlowConsumerPolicy.DROP,null);
+        List<Integer> fast = new ArrayList<>();
+        List<Integer> slow = new ArrayList<>();
+        StreamSubscription fastSub = op.subscribe(fast::add,e->{},()->{});
+        StreamSubscription slowSub = op.subscribe(slow::add,e->{},()->{});
+
+        fastSub.request(Long.MAX_VALUE);
+        assertThat(fast.size(),equalTo(1000));
+
+        slowSub.request(Long.MAX_VALUE);
+        assertThat(slow,equalTo(fast.subList(0,16)));
+    }
+
+    @Test
+    public void disconnectSlowSubscriber(){
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(range(1000),2,16,SlowConsumerPolicy.DISCONNECT,null);
+        List<Integer> fast = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        boolean[] complete = {false};
+        StreamSubscription fastSub = op.subscribe(fast::add,e->{},()->{});
+        op.subscribe(e->{},errors::add,()->complete[0]=true);
+
+        fastSub.request(Long.MAX_VALUE);
+        assertThat(fast.size(),equalTo(1000));
+        assertThat(errors.size(),equalTo(1));
+        assertThat(errors.get(0),instanceOf(IllegalStateException.class));
+        assertFalse(complete[0]);
+    }
+
+    @Test
+    public void cancelOneSubscriber(){
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(range(100),2,16,SlowConsumerPolicy.BLOCK,null);
+        List<Integer> remaining = new ArrayList<>();
+        StreamSubscription cancelled = op.subscribe(e->{},e->{},()->{});
+        StreamSubscription sub = op.subscribe(remaining::add,e->{},()->{});
+        cancelled.cancel();
+
+        sub.request(Long.MAX_VALUE);
+        assertThat(remaining.size(),equalTo(100));
+    }
+
+    @Test
+    public void drainOnExecutor() throws InterruptedException {
+        ExecutorService ex = Executors.newFixedThreadPool(4);
+        try {
+            MultiCastOperator<Integer> op = new MultiCastOperator<>(range(100_000),3,64,SlowConsumerPolicy.BLOCK,ex);
+            CountDownLatch latch = new CountDownLatch(3);
+            AtomicLong[] sums = {new AtomicLong(),new AtomicLong(),new AtomicLong()};
+            for(int i=0;i<3;i++){
+                AtomicLong sum = sums[i];
+                op.subscribe(sum::addAndGet,e->{},latch::countDown).request(Long.MAX_VALUE);
+            }
+            assertTrue(latch.await(10,TimeUnit.SECONDS));
+            for(AtomicLong sum : sums)
+                assertThat(sum.get(),equalTo(99_999L*100_000/2));
+        }finally {
+            ex.shutdown();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.oath.cyclops.internal.stream.spliterators.push.timed;
+
+import com.oath.cyclops.internal.stream.spliterators.push.ArrayOfValuesOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.OnePerOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.Operator;
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+import com.oath.cyclops.internal.stream.spliterators.push.TimedGroupingOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.TimeoutOperator;
+import com.oath.cyclops.util.HashedWheelTimer;
+import cyclops.data.Vector;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class TimedOperatorsTest {
+
+    HashedWheelTimer timer = HashedWheelTimer.shared();
+
+    /*
+     * Emits 0,1,2... each after the corresponding delay (in millis), on its own thread
+     */
+    private static Operator<Integer> delayed(long... delays){
+        return new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                StreamSubscription sub = new StreamSubscription();
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < delays.length; i++) {
+                        try {
+                            Thread.sleep(delays[i]);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        while (sub.isOpen && sub.getRequested() == 0)
+                            Thread.yield();
+                        if (!sub.isOpen)
+                            return;
+                        onNext.accept(i);
+                    }
+                    onComplete.run();
+                });
+                thread.setDaemon(true);
+                thread.start();
+                return sub;
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                subscribe(onNext, onError, onComplete).request(Long.MAX_VALUE);
+            }
+        };
+    }
+
+    @Test
+    public void idleWindowIsFlushedByTimer() throws InterruptedException {
+        List<Vector<Integer>> groups = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstGroup = new CountDownLatch(1);
+        CountDownLatch complete = new CountDownLatch(1);
+        new TimedGroupingOperator<Integer, Vector<Integer>, Vector<Integer>>(delayed(0, 0, 0, 2000), () -> Vector.empty(),
+                Function.identity(), 50, TimeUnit.MILLISECONDS, Integer.MAX_VALUE, timer)
+                .subscribe(g -> {
+                    groups.add(g);
+                    firstGroup.countDown();
+                }, e -> {}, complete::countDown)
+                .request(Long.MAX_VALUE);
+
+        assertTrue(firstGroup.await(1, TimeUnit.SECONDS));
+        assertThat(groups.get(0), equalTo(Vector.of(0, 1, 2)));
+        complete.await();
+        assertThat(groups, equalTo(Arrays.asList(Vector.of(0, 1, 2), Vector.of(3))));
+    }
+
+    @Test
+    public void groupsClosedBySize() {
+        List<Vector<Integer>> groups = new ArrayList<>();
+        new TimedGroupingOperator<Integer, Vector<Integer>, Vector<Integer>>(new ArrayOfValuesOperator<>(1, 2, 3, 4, 5, 6, 7),
+                () -> Vector.empty(), Function.identity(), 10, TimeUnit.SECONDS, 3, timer)
+                .subscribeAll(groups::add, e -> {}, () -> {});
+
+        assertThat(groups, equalTo(Arrays.asList(Vector.of(1, 2, 3), Vector.of(4, 5, 6), Vector.of(7))));
+    }
+
+    @Test
+    public void onePerSpacesElements() throws InterruptedException {
+        List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch complete = new CountDownLatch(1);
+        long start = System.nanoTime();
+        new OnePerOperator<>(new ArrayOfValuesOperator<>(1, 2, 3, 4, 5), 10, TimeUnit.MILLISECONDS, timer)
+                .subscribe(values::add, e -> {}, complete::countDown)
+                .request(Long.MAX_VALUE);
+
+        complete.await();
+        assertThat(values, equalTo(Arrays.asList(1, 2, 3, 4, 5)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(40L));
+    }
+
+    @Test
+    public void onePerRespectsDemand() throws InterruptedException {
+        List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+        StreamSubscription sub = new OnePerOperator<>(new ArrayOfValuesOperator<>(1, 2, 3, 4, 5), 1, TimeUnit.MILLISECONDS, timer)
+                .subscribe(values::add, e -> {}, () -> {});
+        sub.request(2);
+        Thread.sleep(100);
+        assertThat(values, equalTo(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void timeoutWhenUpstreamStalls() throws InterruptedException {
+        List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch error = new CountDownLatch(1);
+        new TimeoutOperator<>(delayed(0, 0, 5000), 50, TimeUnit.MILLISECONDS, timer)
+                .subscribe(values::add, e -> {
+                    errors.add(e);
+                    error.countDown();
+                }, () -> {})
+                .request(Long.MAX_VALUE);
+
+        assertTrue(error.await(2, TimeUnit.SECONDS));
+        assertThat(values, equalTo(Arrays.asList(0, 1)));
+        assertThat(errors.get(0), instanceOf(TimeoutException.class));
+    }
+
+    @Test
+    public void noTimeoutWhenElementsArriveInTime() {
+        assertThat(Spouts.of(1, 2, 3)
+                         .timeout(1, TimeUnit.SECONDS)
+                         .toList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void timerDrivenStreamOperators() {
+        assertThat(Spouts.of(1, 2, 3, 4, 5, 6)
+                         .groupedByTime(1, TimeUnit.SECONDS)
+                         .toList(), equalTo(Arrays.asList(Vector.of(1, 2, 3, 4, 5, 6))));
+        assertThat(Spouts.of(1, 2, 3, 4, 5, 6)
+                         .debounce(1, TimeUnit.SECONDS)
+                         .toList(), equalTo(Arrays.asList(1)));
+        assertThat(Spouts.of(1, 2, 3)
+                         .onePer(1, TimeUnit.MILLISECONDS)
+                         .toList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+}
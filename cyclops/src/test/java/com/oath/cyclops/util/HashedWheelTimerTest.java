@@ -0,0 +1,61 @@
+package com.oath.cyclops.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HashedWheelTimerTest {
+
+    HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 64);
+
+    @Test
+    public void neverFiresEarly() throws InterruptedException {
+        //delays longer than a full rotation of the wheel
+        for (long delay : new long[]{1, 10, 100, 300}) {
+            CountDownLatch fired = new CountDownLatch(1);
+            long start = System.nanoTime();
+            timer.schedule(fired::countDown, delay, TimeUnit.MILLISECONDS);
+            assertTrue(fired.await(delay + 1000, TimeUnit.MILLISECONDS));
+            assertThat(System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(delay)));
+        }
+    }
+
+    @Test
+    public void cancelledTimeoutsDoNotRun() throws InterruptedException {
+        AtomicInteger fired = new AtomicInteger(0);
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            timeouts.add(timer.schedule(fired::incrementAndGet, 50 + i % 100, TimeUnit.MILLISECONDS));
+        }
+        int cancelled = 0;
+        for (int i = 0; i < timeouts.size(); i += 2) {
+            if (timeouts.get(i).cancel())
+                cancelled++;
+        }
+        Thread.sleep(500);
+        assertThat(fired.get(), equalTo(timeouts.size() - cancelled));
+        assertTrue(timeouts.get(1).isExpired());
+        assertFalse(timeouts.get(1).cancel());
+    }
+
+    @Test
+    public void resumesAfterIdle() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        timer.schedule(first::countDown, 1, TimeUnit.MILLISECONDS);
+        assertTrue(first.await(1, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        CountDownLatch second = new CountDownLatch(1);
+        timer.schedule(second::countDown, 5, TimeUnit.MILLISECONDS);
+        assertTrue(second.await(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,58 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+public class CronScheduleTest {
+
+    static final String[] EXPRESSIONS = {
+            "* * * * * ?",
+            "0/15 * * * * ?",
+            "0 0/5 * * * ?",
+            "0 30 2 * * ?",
+            "0 0 12 ? * MON-FRI",
+            "0 15 10 1,15 * ?",
+            "0 0 0 29 2 ?",
+            "0 0 0 L * ?",
+            "0 0 9 ? * 6#3"
+    };
+
+    @Test
+    public void matchesCronExpression() throws Exception {
+        TimeZone current = TimeZone.getDefault();
+        try {
+            for (String zone : new String[]{"UTC", "America/New_York", "Australia/Lord_Howe"}) {
+                //both pick up the default time zone when created
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                for (String cron : EXPRESSIONS) {
+                    CronExpression expression = new CronExpression(cron);
+                    CronSchedule schedule = CronSchedule.compile(cron);
+                    long time = 1_600_000_000_000L;
+                    for (int i = 0; i < 200; i++) {
+                        Date expected = expression.getNextValidTimeAfter(new Date(time));
+                        assertThat(cron + " " + zone + " " + time, schedule.nextFireAfter(time), equalTo(expected.getTime()));
+                        time += 86_400_000L * 3 + 3_599_999L;
+                    }
+                }
+            }
+        } finally {
+            TimeZone.setDefault(current);
+        }
+    }
+
+    @Test
+    public void cachedByExpression() {
+        assertThat(CronSchedule.of("0 0/5 * * * ?"), sameInstance(CronSchedule.of("0 0/5 * * * ?")));
+    }
+
+    @Test
+    public void noFireTime() {
+        assertThat(CronSchedule.of("0 0 0 30 2 ?").nextFireAfter(System.currentTimeMillis()), equalTo(-1L));
+    }
+}
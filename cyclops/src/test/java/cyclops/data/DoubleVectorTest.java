@@ -0,0 +1,29 @@
+package cyclops.data;
+
+import org.junit.Test;
+
+import java.util.stream.DoubleStream;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class DoubleVectorTest {
+
+    @Test
+    public void appendAndGet() {
+        DoubleVector v = DoubleVector.fromStream(DoubleStream.iterate(0.5, d -> d + 1).limit(3000));
+        assertThat(v.size(), equalTo(3000));
+        assertThat(v.getOrElse(2999, -1), equalTo(2999.5));
+        assertThat(v.updateAt(0, 1.0).getOrElse(0, -1), equalTo(1.0));
+    }
+
+    @Test
+    public void foldAndConvert() {
+        DoubleVector v = DoubleVector.of(1.5, 2.5, 3.0);
+        assertThat(v.map(d -> d * 2).sum(), closeTo(14.0, 0.0001));
+        assertThat(v.foldLeft(0, Math::max), equalTo(3.0));
+        assertThat(DoubleVector.fromVector(v.vector()), equalTo(v));
+        assertThat(v.append(Double.NaN), equalTo(v.append(Double.NaN)));
+    }
+}
@@ -2,7 +2,9 @@ package cyclops.data;
 
 import com.oath.cyclops.types.persistent.PersistentMap;
 import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 import lombok.ToString;
 import org.hamcrest.MatcherAssert;
@@ -21,6 +23,72 @@ public class HashMapTest {
         assertThat(TrieMap.empty().put("hello","world").size(),equalTo(1));
     }
 
+    @Test
+    public void transientPut(){
+        HashMap<Integer,Integer> base = HashMap.of(-1,-1,-2,-2);
+        HashMap.Transient<Integer,Integer> t = base.asTransient();
+        for(int i=0;i<10000;i++){
+            t.put(i,i);
+        }
+        t.remove(-2);
+        HashMap<Integer,Integer> map = t.persistent();
+        assertThat(map.size(),equalTo(10001));
+        assertThat(map.get(5000),equalTo(Option.some(5000)));
+        assertThat(map.get(-1),equalTo(Option.some(-1)));
+        assertThat(map.get(-2),equalTo(Option.none()));
+        assertThat(base.size(),equalTo(2));
+
+        HashMap.Transient<Integer,Integer> t2 = map.asTransient();
+        t2.put(5000,-5000);
+        assertThat(t2.persistent().get(5000),equalTo(Option.some(-5000)));
+        assertThat(map.get(5000),equalTo(Option.some(5000)));
+    }
+    @Test
+    public void fromParallelStream(){
+        HashMap<Integer,Integer> map = HashMap.fromStream(ReactiveSeq.range(0,10000).toList().parallelStream().map(i->Tuple.tuple(i,i)));
+        assertThat(map.size(),equalTo(10000));
+        assertThat(map.get(5000),equalTo(Option.some(5000)));
+    }
+    @Test(expected = IllegalStateException.class)
+    public void transientUseAfterPersistent(){
+        HashMap.Transient<Integer,Integer> t = HashMap.<Integer,Integer>empty().asTransient();
+        t.persistent();
+        t.put(1,1);
+    }
+
+    @Test
+    public void mergeSharedVersions(){
+        HashMap<Integer,Integer> base = HashMap.empty();
+        for(int i=0;i<10000;i++){
+            base = base.put(i,i);
+        }
+        HashMap<Integer,Integer> next = base.put(5,-5).put(20000,20000).remove(7);
+        HashMap<Integer,Integer> merged = base.merge(next,(a,b)->a+b);
+        assertThat(merged.size(),equalTo(10001));
+        assertThat(merged.get(5),equalTo(Option.some(0)));
+        assertThat(merged.get(7),equalTo(Option.some(7)));
+        assertThat(merged.get(20000),equalTo(Option.some(20000)));
+        assertThat(merged.get(1),equalTo(Option.some(2)));
+        assertThat(base.merge(base,(a,b)->a+b),equalTo(base.map(i->i*2)));
+        assertThat(HashMap.of(1,3).merge(HashMap.of(1,3),(x,y)->x*10+y),equalTo(HashMap.of(1,33)));
+        assertThat(base.putAll(base),equalTo(base));
+        assertThat(base.putAll(next),equalTo(next.put(7,7)));
+    }
+
+    @Test
+    public void differenceAndIntersection(){
+        HashMap<Integer,String> base = HashMap.empty();
+        for(int i=0;i<1000;i++){
+            base = base.put(i,""+i);
+        }
+        HashMap<Integer,String> next = base.remove(10).remove(500).put(2000,"2000");
+        assertThat(base.difference(next),equalTo(HashMap.of(10,"10",500,"500")));
+        assertThat(next.difference(base),equalTo(HashMap.of(2000,"2000")));
+        assertThat(base.difference(base).size(),equalTo(0));
+        assertThat(base.intersection(next),equalTo(base.remove(10).remove(500)));
+        assertThat(base.intersection(HashMap.empty()).size(),equalTo(0));
+    }
+
     @Test
     public void stream(){
 
@@ -110,7 +178,24 @@ public class HashMapTest {
     MatcherAssert.assertThat(HashMap.of(1,"a",2,"b").removeAll(0),equalTo(HashMap.of(1,"a",2,"b")));
   }
 
-
+    @Test
+    public void streamMatchesIterationOrder(){
+        HashMap<Integer,Integer> map = HashMap.empty();
+        for(int i=0;i<20000;i++){
+            map = map.put(i*31,i);
+        }
+        ArrayList<Tuple2<Integer,Integer>> iterated = new ArrayList<>();
+        for(Tuple2<Integer,Integer> next : map)
+            iterated.add(next);
+        ArrayList<Integer> keys = new ArrayList<>();
+        for(Tuple2<Integer,Integer> next : iterated)
+            keys.add(next._1());
+        ReactiveSeq<Tuple2<Integer,Integer>> stream = map.stream();
+
+        assertThat(stream.toList(),equalTo(iterated));
+        assertThat(stream.toList(),equalTo(iterated));
+        assertThat(HashSet.fromIterable(keys).stream().toList(),equalTo(keys));
+        assertThat(map.parallelStream().count(),equalTo(20000l));
+    }
 
 }
-
@@ -32,6 +32,26 @@ public class IntMapTest extends BaseImmutableListTest{
         return IntMap.of(values);
     }
 
+    @Test
+    public void transientAppend(){
+        IntMap<Integer> base = IntMap.of(0,1,2);
+        IntMap.Transient<Integer> t = base.asTransient();
+        for(int i=3;i<5000;i++){
+            t.append(i);
+        }
+        IntMap<Integer> map = t.persistent();
+        assertThat(map.size(),equalTo(5000));
+        assertThat(map.toList(),equalTo(IntMap.range(0,5000).toList()));
+        assertThat(base.size(),equalTo(3));
+        assertThat(map.plus(5000).getOrElse(4999,null),equalTo(4999));
+    }
+    @Test(expected = IllegalStateException.class)
+    public void transientUseAfterPersistent(){
+        IntMap.Transient<Integer> t = IntMap.<Integer>empty().asTransient();
+        t.persistent();
+        t.append(1);
+    }
+
     @Override
     public IntMap<Integer> range(int start, int end) {
         return IntMap.range(start,end);
@@ -0,0 +1,81 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class IntVectorTest {
+
+    @Test
+    public void empty() {
+        assertThat(IntVector.empty().size(), equalTo(0));
+        assertTrue(IntVector.empty().isEmpty());
+        assertThat(IntVector.empty().get(0), equalTo(Option.none()));
+        assertThat(IntVector.empty().sum(), equalTo(0L));
+    }
+
+    @Test
+    public void appendAndGet() {
+        IntVector v = IntVector.empty();
+        for (int i = 0; i < 40_000; i++) {
+            v = v.append(i);
+        }
+        assertThat(v.size(), equalTo(40_000));
+        for (int i = 0; i < 40_000; i++) {
+            assertThat(v.getOrElse(i, -1), equalTo(i));
+        }
+        assertThat(v.getOrElse(40_000, -1), equalTo(-1));
+        assertThat(v, equalTo(IntVector.range(0, 40_000)));
+    }
+
+    @Test
+    public void updateAt() {
+        IntVector v = IntVector.range(0, 2000);
+        IntVector updated = v.updateAt(10, -1).updateAt(1999, -2);
+        assertThat(updated.getOrElse(10, 0), equalTo(-1));
+        assertThat(updated.getOrElse(1999, 0), equalTo(-2));
+        assertThat(v.getOrElse(10, 0), equalTo(10));
+        assertThat(v.updateAt(2000, 5), equalTo(v));
+    }
+
+    @Test
+    public void mapFilterFold() {
+        IntVector v = IntVector.range(0, 1000);
+        assertThat(v.map(i -> i * 2).sum(), equalTo(999L * 1000));
+        assertThat(v.filter(i -> i % 2 == 0).size(), equalTo(500));
+        assertThat(v.foldLeft(0, Math::max), equalTo(999));
+        assertThat(v.stream().sum(), equalTo(999 * 500));
+    }
+
+    @Test
+    public void appendAll() {
+        IntVector v = IntVector.of(1, 2, 3).appendAll(IntVector.range(4, 100));
+        assertThat(v, equalTo(IntVector.range(1, 100)));
+        assertThat(v.toArray().length, equalTo(99));
+    }
+
+    @Test
+    public void vectorConversion() {
+        IntVector v = IntVector.range(0, 100);
+        Vector<Integer> boxed = v.vector();
+        assertThat(boxed, equalTo(Vector.range(0, 100)));
+        assertThat(v.hashCode(), equalTo(boxed.hashCode()));
+        assertThat(IntVector.fromVector(boxed), equalTo(v));
+    }
+
+    @Test
+    public void iterate() {
+        List<Integer> list = new ArrayList<>();
+        for (Integer next : IntVector.range(0, 70)) {
+            list.add(next);
+        }
+        assertThat(list.size(), equalTo(70));
+        assertThat(list.get(69), equalTo(69));
+        assertThat(IntVector.range(0, 70).toString(), equalTo(list.toString()));
+    }
+}
@@ -741,4 +741,35 @@ public class LazyStringTest {
         assertThat(empty.toString(),equalTo(""));
         assertThat(str.toString(),equalTo("hello world"));
     }
+
+    @Test
+    public void ropeAndLazyAgree() {
+        LazyString lazy = LazyString.fromLazySeq(longStr.lazySeq());
+        assertTrue(longStr.isRope());
+        assertFalse(lazy.isRope());
+        assertThat(longStr,equalTo(lazy));
+        assertThat(lazy,equalTo(longStr));
+        assertThat(longStr.hashCode(),equalTo(lazy.hashCode()));
+        assertThat(longStr.words(),equalTo(lazy.words()));
+        assertThat(longStr.substring(4,9),equalTo(lazy.substring(4,9)));
+        assertThat(longStr.reverse(),equalTo(lazy.reverse()));
+        assertThat(lazy.materialize().isRope(),equalTo(true));
+    }
+
+    @Test
+    public void largeConcatAndSubstring() {
+        StringBuilder expected = new StringBuilder();
+        LazyString s = LazyString.empty();
+        for(int i=0;i<5000;i++){
+            s = s.append("line "+i+"\n");
+            expected.append("line "+i+"\n");
+        }
+        assertThat(s.toString(),equalTo(expected.toString()));
+        assertThat(s.length(),equalTo(expected.length()));
+        assertThat(s.substring(1000,30000).toString(),equalTo(expected.substring(1000,30000)));
+        assertThat(s.getOrElse(12345,null),equalTo(expected.charAt(12345)));
+        assertThat(s.lines().size(),equalTo(5000));
+        assertThat(s.lines().getOrElse(4999,null).toString(),equalTo("line 4999"));
+        assertThat(s.chars().count(),equalTo((long)expected.length()));
+    }
 }
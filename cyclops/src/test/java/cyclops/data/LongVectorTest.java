@@ -0,0 +1,30 @@
+package cyclops.data;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class LongVectorTest {
+
+    @Test
+    public void appendAndGet() {
+        LongVector v = LongVector.empty();
+        for (long i = 0; i < 5000; i++) {
+            v = v.append(i * 1_000_000_000L);
+        }
+        assertThat(v.size(), equalTo(5000));
+        assertThat(v.getOrElse(4999, -1L), equalTo(4999 * 1_000_000_000L));
+        assertThat(v.map(l -> l / 1_000_000_000L), equalTo(LongVector.range(0, 5000)));
+    }
+
+    @Test
+    public void foldAndConvert() {
+        LongVector v = LongVector.range(0, 1000);
+        assertThat(v.sum(), equalTo(999L * 500));
+        assertThat(v.foldLeft(0, Math::max), equalTo(999L));
+        assertThat(v.filter(l -> l < 10).size(), equalTo(10));
+        assertThat(LongVector.fromVector(v.vector()), equalTo(v));
+        assertThat(v.stream().count(), equalTo(1000L));
+    }
+}
@@ -0,0 +1,79 @@
+package cyclops.data;
+
+import cyclops.companion.Monoids;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ParallelFoldTest {
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void shutdown(){
+        pool.shutdown();
+    }
+
+    @Test
+    public void vector(){
+        Vector<Integer> vector = Vector.range(0, 100_000);
+        assertThat(vector.parallelFold(pool, Monoids.intSum), equalTo(vector.foldLeft(Monoids.intSum)));
+        assertThat(vector.parallelCollect(pool, Collectors.toList()), equalTo(vector.stream().toList()));
+        assertThat(vector.parallelStream().collect(Collectors.toList()), equalTo(vector.stream().toList()));
+    }
+
+    @Test
+    public void vectorOrderIsPreserved(){
+        Vector<String> vector = Vector.range(0, 20_000).map(String::valueOf)
+                                      .prependAll(Vector.of("a","b","c"));
+        assertThat(vector.parallelFold(pool, Monoids.stringConcat), equalTo(vector.foldLeft(Monoids.stringConcat)));
+    }
+
+    @Test
+    public void empty(){
+        assertThat(Vector.<Integer>empty().parallelFold(pool, Monoids.intSum), equalTo(0));
+        assertThat(HashMap.<Integer,Integer>empty().parallelCollect(pool, Collectors.toList()).size(), equalTo(0));
+        assertThat(TreeMap.<Integer,Integer>empty(Comparator.naturalOrder()).parallelStream().count(), equalTo(0l));
+    }
+
+    @Test
+    public void hashMap(){
+        HashMap<Integer,Integer> map = HashMap.fromStream(ReactiveSeq.range(0, 50_000).map(i -> Tuple.tuple(i, i * 2)));
+        List<Tuple2<Integer,Integer>> entries = map.parallelCollect(pool, Collectors.toList());
+        assertThat(entries, equalTo(map.stream().toList()));
+        assertThat(map.parallelStream().mapToInt(Tuple2::_2).sum(), equalTo(map.stream().mapToInt(Tuple2::_2).sum()));
+    }
+
+    @Test
+    public void hashSet(){
+        HashSet<Integer> set = HashSet.range(0, 50_000);
+        assertThat(set.parallelFold(pool, Monoids.intSum), equalTo(set.foldLeft(Monoids.intSum)));
+        assertThat(set.parallelStream().collect(Collectors.toList()), equalTo(set.stream().toList()));
+    }
+
+    @Test
+    public void treeMapInKeyOrder(){
+        TreeMap<Integer,String> map = TreeMap.<Integer,String>fromStream(ReactiveSeq.range(0, 30_000).map(i -> Tuple.tuple((i * 7919) % 30_011, "" + i)),
+                                                                         Comparator.naturalOrder());
+        assertThat(map.parallelCollect(pool, Collectors.toList()), equalTo(map.stream().toList()));
+        assertThat(map.parallelStream().map(Tuple2::_1).collect(Collectors.toList()),
+                   equalTo(map.stream().map(Tuple2::_1).sorted().toList()));
+    }
+
+    @Test
+    public void intMap(){
+        IntMap<Integer> intMap = IntMap.range(0, 50_000);
+        assertThat(intMap.parallelFold(pool, Monoids.intSum), equalTo(intMap.foldLeft(Monoids.intSum)));
+        assertThat(intMap.parallelStream().collect(Collectors.toList()), equalTo(intMap.stream().toList()));
+    }
+}
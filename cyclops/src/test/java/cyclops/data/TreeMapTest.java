@@ -1,10 +1,16 @@
 package cyclops.data;
 
 
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Test;
 
 import java.util.Comparator;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
 /**
  * Created by johnmcclean on 02/09/2017.
  */
@@ -22,4 +28,76 @@ public class TreeMapTest {
 
         System.out.println(map.put(10,"boo!").elementAt(10).orElse(null));
     }
+    @Test
+    public void transientPut(){
+        TreeMap.Transient<Integer,Integer> t = TreeMap.<Integer,Integer>empty(Comparator.naturalOrder()).asTransient();
+        for(int i=9999;i>=0;i--){
+            t.put(i,i);
+        }
+        TreeMap<Integer,Integer> map = t.persistent();
+        assertThat(map.size(),equalTo(10000));
+        assertThat(map.stream().map(t2->t2._1()).toList(),equalTo(ReactiveSeq.range(0,10000).toList()));
+        assertThat(map.remove(5000).put(10000,10000).get(10000),equalTo(Option.some(10000)));
+    }
+    @Test
+    public void fromParallelStream(){
+        TreeMap<Integer,Integer> map = TreeMap.fromStream(ReactiveSeq.range(0,10000).toList().parallelStream().map(i->Tuple.tuple(i,i)), Comparator.<Integer>naturalOrder());
+        assertThat(map.size(),equalTo(10000));
+        assertThat(map.get(5000),equalTo(Option.some(5000)));
+    }
+    @Test
+    public void transientMerge(){
+        TreeMap<Integer,Integer> base = TreeMap.fromStream(ReactiveSeq.range(0,1000).map(i->Tuple.tuple(i*2,i)), Comparator.<Integer>naturalOrder());
+        TreeMap.Transient<Integer,Integer> t = base.asTransient();
+        for(int i=0;i<1000;i++){
+            t.put(i*2+1,i);
+        }
+        t.remove(0).remove(1).put(2,-2);
+        TreeMap<Integer,Integer> map = t.persistent();
+        assertThat(map.size(),equalTo(1998));
+        assertThat(map.stream().map(t2->t2._1()).toList(),equalTo(ReactiveSeq.range(2,2000).toList()));
+        assertThat(map.get(2),equalTo(Option.some(-2)));
+        assertThat(base.size(),equalTo(1000));
+
+        TreeMap.Transient<Integer,Integer> small = map.asTransient();
+        small.put(-1,-1).remove(1999);
+        TreeMap<Integer,Integer> smallRes = small.persistent();
+        assertThat(smallRes.size(),equalTo(1998));
+        assertThat(smallRes.get(-1),equalTo(Option.some(-1)));
+        assertThat(smallRes.get(1999),equalTo(Option.none()));
+    }
+    @Test(expected = IllegalStateException.class)
+    public void transientUseAfterPersistent(){
+        TreeMap.Transient<Integer,Integer> t = TreeMap.<Integer,Integer>empty(Comparator.naturalOrder()).asTransient();
+        t.persistent();
+        t.put(1,1);
+    }
+
+    @Test
+    public void navigation(){
+        TreeMap<Integer,Integer> map = TreeMap.fromStream(ReactiveSeq.range(0,1000).map(i->Tuple.tuple(i*10,i)), Comparator.<Integer>naturalOrder());
+        assertThat(map.floor(55).map(t2->t2._1()),equalTo(Option.some(50)));
+        assertThat(map.floor(50).map(t2->t2._1()),equalTo(Option.some(50)));
+        assertThat(map.ceiling(55).map(t2->t2._1()),equalTo(Option.some(60)));
+        assertThat(map.lower(50).map(t2->t2._1()),equalTo(Option.some(40)));
+        assertThat(map.higher(50).map(t2->t2._1()),equalTo(Option.some(60)));
+        assertThat(map.floor(-1),equalTo(Option.none()));
+        assertThat(map.ceiling(10000),equalTo(Option.none()));
+        assertThat(map.first().map(t2->t2._1()),equalTo(Option.some(0)));
+        assertThat(map.last().map(t2->t2._1()),equalTo(Option.some(9990)));
+        assertThat(map.rank(55),equalTo(6));
+        assertThat(map.getAt(6).map(t2->t2._1()),equalTo(Option.some(60)));
+        assertThat(map.getAt(1000),equalTo(Option.none()));
+    }
+    @Test
+    public void rangeSlices(){
+        TreeMap<Integer,Integer> map = TreeMap.fromStream(ReactiveSeq.range(0,1000).map(i->Tuple.tuple(i,i)), Comparator.<Integer>naturalOrder());
+        assertThat(map.subMap(100,200).stream().map(t2->t2._1()).toList(),equalTo(ReactiveSeq.range(100,200).toList()));
+        assertThat(map.subMap(100,false,200,true).stream().map(t2->t2._1()).toList(),equalTo(ReactiveSeq.range(101,201).toList()));
+        assertThat(map.headMap(10).stream().map(t2->t2._1()).toList(),equalTo(ReactiveSeq.range(0,10).toList()));
+        assertThat(map.tailMap(990).stream().map(t2->t2._1()).toList(),equalTo(ReactiveSeq.range(990,1000).toList()));
+        assertThat(map.subMap(2000,3000).size(),equalTo(0));
+        assertThat(map.subMap(100,200).put(150,-1).get(150),equalTo(Option.some(-1)));
+        assertThat(map.get(150),equalTo(Option.some(150)));
+    }
 }
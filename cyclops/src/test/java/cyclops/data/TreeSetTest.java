@@ -12,6 +12,7 @@ import org.hamcrest.MatcherAssert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -132,4 +133,68 @@ public class TreeSetTest extends BaseImmutableSortedSetTest{
         MatcherAssert.assertThat(of(1).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
         MatcherAssert.assertThat(of(0,1,2,3,4,5,6,1,2,3).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.just(1l)));
     }
+    private TreeSet<Integer> evens(){
+        return TreeSet.fromStream(Stream.iterate(0,i->i+2).limit(10), Comparator.<Integer>naturalOrder());
+    }
+
+    @Test
+    public void subSetPresentEndpoints(){
+        assertThat(evens().subSet(4,10).stream().toList(),equalTo(Arrays.asList(4,6,8)));
+        assertThat(evens().subSet(0,18).size(),equalTo(9));
+    }
+
+    @Test
+    public void subSetAbsentEndpoints(){
+        assertThat(evens().subSet(3,11).stream().toList(),equalTo(Arrays.asList(4,6,8,10)));
+        assertThat(evens().subSet(-5,1).stream().toList(),equalTo(Arrays.asList(0)));
+        assertThat(evens().subSet(17,100).stream().toList(),equalTo(Arrays.asList(18)));
+    }
+
+    @Test
+    public void subSetEmptyRange(){
+        assertThat(evens().subSet(6,6).size(),equalTo(0));
+        assertThat(evens().subSet(5,6).size(),equalTo(0));
+        assertThat(evens().subSet(10,4).size(),equalTo(0));
+        assertThat(evens().subSet(100,200).size(),equalTo(0));
+    }
+
+    @Test
+    public void headSetTailSetExtremes(){
+        assertThat(evens().headSet(0).size(),equalTo(0));
+        assertThat(evens().headSet(-1).size(),equalTo(0));
+        assertThat(evens().headSet(100).size(),equalTo(10));
+        assertThat(evens().headSet(18).last(),equalTo(Option.some(16)));
+        assertThat(evens().tailSet(0).size(),equalTo(10));
+        assertThat(evens().tailSet(18).stream().toList(),equalTo(Arrays.asList(18)));
+        assertThat(evens().tailSet(19).size(),equalTo(0));
+        assertThat(evens().tailSet(-100).first(),equalTo(Option.some(0)));
+    }
+
+    @Test
+    public void navigation(){
+        TreeSet<Integer> set = evens();
+        assertThat(set.floor(5),equalTo(Option.some(4)));
+        assertThat(set.floor(4),equalTo(Option.some(4)));
+        assertThat(set.floor(-1),equalTo(Option.none()));
+        assertThat(set.ceiling(5),equalTo(Option.some(6)));
+        assertThat(set.ceiling(19),equalTo(Option.none()));
+        assertThat(set.lower(4),equalTo(Option.some(2)));
+        assertThat(set.lower(0),equalTo(Option.none()));
+        assertThat(set.higher(4),equalTo(Option.some(6)));
+        assertThat(set.higher(18),equalTo(Option.none()));
+    }
+
+    @Test
+    public void rankAndGetMatchIteration(){
+        TreeSet<Integer> set = TreeSet.fromStream(Stream.iterate(7,i->(i*31)%1009).limit(500), Comparator.<Integer>naturalOrder());
+        int index = 0;
+        for(Integer next : set){
+            assertThat(set.get(index),equalTo(Option.some(next)));
+            assertThat(set.rank(next),equalTo(index));
+            index++;
+        }
+        assertThat(index,equalTo(set.size()));
+        assertThat(set.get(-1),equalTo(Option.none()));
+        assertThat(set.get(set.size()),equalTo(Option.none()));
+    }
 }
@@ -13,6 +13,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.function.Function;
@@ -62,6 +63,55 @@ public class VectorTest extends BaseImmutableListTest {
             .foldLeft((a, b) -> a + b);**/
     }
     @Test
+    public void concatLarge(){
+        Vector<Integer> left = Vector.range(0,10000);
+        Vector<Integer> right = Vector.range(10000,25000);
+        Vector<Integer> joined = left.concat(right);
+        assertThat(joined.size(),equalTo(25000));
+        assertThat(joined.toList(),equalTo(ReactiveSeq.range(0,25000).toList()));
+        assertThat(joined.appendAll(Vector.range(25000,26000)).toList(),equalTo(ReactiveSeq.range(0,26000).toList()));
+    }
+    @Test
+    public void prependLarge(){
+        Vector<Integer> vec = Vector.empty();
+        for(int i=0;i<5000;i++){
+            vec = vec.prepend(i);
+        }
+        assertThat(vec.toList(),equalTo(ReactiveSeq.range(0,5000).reverse().toList()));
+        assertThat(vec.plus(-1).getOrElse(5000,null),equalTo(-1));
+    }
+    @Test
+    public void spliceLarge(){
+        Vector<Integer> vec = Vector.range(0,100000);
+        Vector<Integer> spliced = vec.removeAt(50000).insertAt(50000,-1);
+        assertThat(spliced.size(),equalTo(100000));
+        assertThat(spliced.getOrElse(49999,null),equalTo(49999));
+        assertThat(spliced.getOrElse(50000,null),equalTo(-1));
+        assertThat(spliced.getOrElse(50001,null),equalTo(50001));
+        assertThat(vec.slice(1000,70000).toList(),equalTo(ReactiveSeq.range(1000,70000).toList()));
+    }
+    @Test
+    public void transientAppend(){
+        Vector<Integer> base = Vector.range(0,100);
+        Vector.Transient<Integer> t = base.asTransient();
+        for(int i=100;i<70000;i++){
+            t.append(i);
+        }
+        assertThat(t.size(),equalTo(70000));
+        Vector<Integer> vec = t.persistent();
+        assertThat(vec.size(),equalTo(70000));
+        assertThat(vec.toList(),equalTo(ReactiveSeq.range(0,70000).toList()));
+        assertThat(base.toList(),equalTo(ReactiveSeq.range(0,100).toList()));
+        assertThat(vec.plus(-1).getOrElse(70000,null),equalTo(-1));
+    }
+    @Test(expected = IllegalStateException.class)
+    public void transientUseAfterPersistent(){
+        Vector.Transient<Integer> t = Vector.<Integer>empty().asTransient();
+        t.append(1);
+        t.persistent();
+        t.append(2);
+    }
+    @Test
     public void zipWithIndexOperation(){
         Vector.of(1,2,3).zipWithIndex();
     }
@@ -463,4 +513,26 @@ public class VectorTest extends BaseImmutableListTest {
         assertThat(ints.delete(2),equalTo(Either.right(Vector.of(1,2))));
     }
 
+    @Test
+    public void streamAndIteratorWalkLeaves(){
+        Vector<Integer> vector = Vector.range(0,5000).prependAll(Vector.range(-40,0)).plus(5000);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for(int i=-40;i<=5000;i++)
+            expected.add(i);
+
+        ArrayList<Integer> iterated = new ArrayList<>();
+        for(Integer next : vector)
+            iterated.add(next);
+        ArrayList<Integer> visited = new ArrayList<>();
+        vector.forEach(visited::add);
+        ReactiveSeq<Integer> stream = vector.stream();
+
+        assertThat(iterated,equalTo(expected));
+        assertThat(visited,equalTo(expected));
+        assertThat(stream.toList(),equalTo(expected));
+        assertThat(stream.toList(),equalTo(expected));
+        assertThat(stream.count(),equalTo(5041l));
+        assertThat(vector.stream().reverse().limit(2).toList(),equalTo(Arrays.asList(5000,4999)));
+    }
+
 }
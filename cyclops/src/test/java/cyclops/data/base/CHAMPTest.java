@@ -0,0 +1,143 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.base.CHAMP.Node;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class CHAMPTest {
+
+    static final class Colliding {
+        final int hash;
+        final int id;
+
+        Colliding(int hash, int id) {
+            this.hash = hash;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Colliding && ((Colliding) o).hash == hash && ((Colliding) o).id == id;
+        }
+    }
+
+    @Test
+    public void empty() throws Exception {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        assertThat(node.size(), equalTo(0));
+        assertFalse(node.iterator().hasNext());
+    }
+
+    @Test
+    public void putMany() throws Exception {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        for (int i = 0; i < 10_000; i++) {
+            node = node.put(i * 1024, i);
+        }
+        assertThat(node.size(), equalTo(10_000));
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(node.get(i * 1024), equalTo(Option.some(i)));
+        }
+        assertThat(node.get(-1), equalTo(Option.none()));
+    }
+
+    @Test
+    public void replace() throws Exception {
+        Node<Integer, String> node = CHAMP.<Integer, String>empty().put(1, "one").put(33, "thirty three");
+        Node<Integer, String> replaced = node.put(33, "33");
+        assertThat(replaced.size(), equalTo(2));
+        assertThat(replaced.getOrElse(33, null), equalTo("33"));
+        assertThat(node.getOrElse(33, null), equalTo("thirty three"));
+    }
+
+    @Test
+    public void collisions() {
+        Node<Colliding, Integer> node = CHAMP.<Colliding, Integer>empty();
+        for (int i = 0; i < 10; i++) {
+            node = node.put(new Colliding(10, i), i);
+        }
+        node = node.put(new Colliding(42, 0), 42);
+        assertThat(node.size(), equalTo(11));
+        assertThat(node.get(new Colliding(10, 5)), equalTo(Option.some(5)));
+        for (int i = 0; i < 10; i++) {
+            node = node.minus(new Colliding(10, i));
+        }
+        assertThat(node.size(), equalTo(1));
+        assertThat(node.get(new Colliding(42, 0)), equalTo(Option.some(42)));
+    }
+
+    @Test
+    public void minusRestoresCanonicalShape() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        for (int i = 0; i < 1000; i++) {
+            node = node.put(i * 32, i);
+        }
+        for (int i = 1; i < 1000; i++) {
+            node = node.minus(i * 32);
+        }
+        assertThat(node, equalTo(CHAMP.<Integer, Integer>empty().put(0, 0)));
+        assertThat(node.minus(0), equalTo(CHAMP.<Integer, Integer>empty()));
+    }
+
+    @Test
+    public void insertionOrderIndependent() {
+        Random r = new Random(0);
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            keys.add(r.nextInt());
+        }
+        Node<Integer, Integer> a = CHAMP.<Integer, Integer>empty();
+        for (Integer k : keys) {
+            a = a.put(k, k);
+        }
+        Collections.shuffle(keys, r);
+        Node<Integer, Integer> b = CHAMP.<Integer, Integer>empty();
+        for (Integer k : keys) {
+            b = b.put(k, k);
+        }
+        assertThat(a, equalTo(b));
+        assertThat(a.hashCode(), equalTo(b.hashCode()));
+    }
+
+    @Test
+    public void iterate() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+        for (int i = 0; i < 2000; i++) {
+            node = node.put(i * 17, i);
+        }
+        assertThat(ReactiveSeq.fromIterator(node.keyIterator()).count(), equalTo(2000L));
+        assertThat(node.stream().map(t -> t._2()).sumInt(i -> i), equalTo(1999 * 1000));
+        assertThat(node.stream().count(), equalTo(2000L));
+    }
+
+    @Test
+    public void transientPlus() {
+        TransientOwner owner = new TransientOwner();
+        Node<Integer, Integer> base = CHAMP.<Integer, Integer>empty().put(1, 1);
+        Node<Integer, Integer> node = base;
+        for (int i = 0; i < 1000; i++) {
+            node = node.plus(owner, 0, i, i, i);
+        }
+        assertThat(base.size(), equalTo(1));
+        assertThat(node.size(), equalTo(1000));
+        Node<Integer, Integer> persistent = CHAMP.<Integer, Integer>empty();
+        for (int i = 999; i >= 0; i--) {
+            persistent = persistent.put(i, i);
+        }
+        assertThat(node, equalTo(persistent));
+    }
+}
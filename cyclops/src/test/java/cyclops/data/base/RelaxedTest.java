@@ -0,0 +1,115 @@
+package cyclops.data.base;
+
+import cyclops.data.Vector;
+import cyclops.data.base.BAMT.Relaxed;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class RelaxedTest {
+
+    @Test
+    public void concatLeaves(){
+        Relaxed<Integer> left = Relaxed.leaf(new Integer[]{1,2,3});
+        Relaxed<Integer> right = Relaxed.leaf(new Integer[]{4,5});
+        Relaxed<Integer> joined = Relaxed.concat(left,right);
+        assertThat(joined.size(),equalTo(5));
+        assertThat(ReactiveSeq.fromIterator(joined.iterator()).toList(),equalTo(ReactiveSeq.of(1,2,3,4,5).toList()));
+    }
+
+    @Test
+    public void concatUnevenHeights(){
+        for(int i=1;i<3000;i+=97) {
+            Relaxed<Integer> left = relaxed(0, i);
+            Relaxed<Integer> right = relaxed(i, i+2000);
+            Relaxed<Integer> joined = Relaxed.concat(left, right);
+            assertThat(joined.size(), equalTo(i+2000));
+            for (int k = 0; k < joined.size(); k++) {
+                assertThat(joined.getOrElse(k, -1), equalTo(k));
+            }
+            assertThat(ReactiveSeq.fromIterator(joined.iterator()).toList(),equalTo(ReactiveSeq.range(0,i+2000).toList()));
+        }
+    }
+
+    @Test
+    public void takeAndDrop(){
+        Relaxed<Integer> joined = Relaxed.concat(relaxed(0,1000),relaxed(1000,2500));
+        for(int i=1;i<2500;i+=37){
+            Relaxed<Integer> taken = joined.take(i);
+            Relaxed<Integer> dropped = joined.drop(i);
+            assertThat(ReactiveSeq.fromIterator(taken.iterator()).toList(),equalTo(ReactiveSeq.range(0,i).toList()));
+            assertThat(ReactiveSeq.fromIterator(dropped.iterator()).toList(),equalTo(ReactiveSeq.range(i,2500).toList()));
+        }
+    }
+
+    @Test
+    public void setAndMap(){
+        Relaxed<Integer> joined = Relaxed.concat(relaxed(0,100),relaxed(100,1100));
+        Relaxed<Integer> updated = joined.set(500,-1);
+        assertThat(updated.getOrElse(500,null),equalTo(-1));
+        assertThat(joined.getOrElse(500,null),equalTo(500));
+        assertThat(joined.map(i->i*2).getOrElse(1099,null),equalTo(2198));
+    }
+
+    @Test
+    public void repeatedPrependStaysShallow(){
+        Relaxed<Integer> tree = null;
+        for(int i=0;i<50000;i++){
+            tree = Relaxed.concat(Relaxed.leaf(new Integer[]{i}),tree);
+        }
+        assertThat(tree.height,lessThanOrEqualTo(4));
+        for(int i=0;i<50000;i++){
+            assertThat(tree.getOrElse(i,-1),equalTo(49999-i));
+        }
+    }
+
+    @Test
+    public void randomSplicesMatchArrayList(){
+        Random random = new Random(1);
+        Vector<Integer> vector = Vector.empty();
+        List<Integer> list = new ArrayList<>();
+        int next = 0;
+        for(int step=0;step<500;step++){
+            int pos = random.nextInt(list.size()+1);
+            int len = random.nextInt(200);
+            switch(random.nextInt(3)){
+                case 0:
+                    vector = vector.insertAt(pos,Vector.range(next,next+len));
+                    for(int i=0;i<len;i++)
+                        list.add(pos+i,next+i);
+                    next+=len;
+                    break;
+                case 1:
+                    if(pos<list.size()) {
+                        vector = vector.removeAt(pos);
+                        list.remove(pos);
+                    }
+                    break;
+                default:
+                    int end = Math.min(list.size(),pos+len);
+                    vector = vector.deleteBetween(pos,end);
+                    list.subList(pos,end).clear();
+            }
+            assertThat(vector.size(),equalTo(list.size()));
+            assertThat(vector.toList(),equalTo(list));
+        }
+    }
+
+    private Relaxed<Integer> relaxed(int start, int end){
+        Relaxed<Integer> tree = null;
+        for(int i=start;i<end;i+=32){
+            Integer[] leaf = new Integer[Math.min(32,end-i)];
+            for(int k=0;k<leaf.length;k++)
+                leaf[k]=i+k;
+            tree = Relaxed.concat(tree,Relaxed.leaf(leaf));
+        }
+        return tree;
+    }
+}
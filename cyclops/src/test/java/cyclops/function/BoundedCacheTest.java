@@ -0,0 +1,105 @@
+package cyclops.function;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertTrue;
+
+
+public class BoundedCacheTest {
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed() {
+        AtomicInteger called = new AtomicInteger(0);
+        BoundedCache<Integer> cache = BoundedCache.lru(2);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> { called.incrementAndGet(); return i * 2; }, cache);
+
+        assertThat(fn.apply(1), equalTo(2));
+        assertThat(fn.apply(2), equalTo(4));
+        assertThat(fn.apply(1), equalTo(2));
+        assertThat(fn.apply(3), equalTo(6));
+        assertThat(called.get(), equalTo(3));
+
+        assertThat(fn.apply(1), equalTo(2));
+        assertThat(called.get(), equalTo(3));
+        assertThat(fn.apply(2), equalTo(4));
+        assertThat(called.get(), equalTo(4));
+        assertThat(cache.size(), equalTo(2));
+    }
+
+    @Test
+    public void stats() {
+        BoundedCache<Integer> cache = BoundedCache.lru(2);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> i * 2, cache);
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(3);
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHitCount(), equalTo(1l));
+        assertThat(stats.getMissCount(), equalTo(3l));
+        assertThat(stats.getEvictionCount(), equalTo(1l));
+        assertThat(stats.hitRate(), equalTo(0.25));
+        assertTrue(stats.getTotalLoadTime() > 0);
+    }
+
+    @Test
+    public void tinyLfuRetainsFrequentKeysDuringScan() {
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(100);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> i, cache);
+        for (int i = 0; i < 10; i++) {
+            for (int hot = 0; hot < 50; hot++)
+                fn.apply(hot);
+        }
+        for (int cold = 1000; cold < 2000; cold++)
+            fn.apply(cold);
+
+        CacheStats before = cache.stats();
+        for (int hot = 0; hot < 50; hot++)
+            fn.apply(hot);
+        assertThat(cache.stats().minus(before).hitRate(), equalTo(1.0));
+        assertThat(cache.size(), lessThanOrEqualTo(100));
+    }
+
+    @Test
+    public void expireAfterWrite() throws InterruptedException {
+        AtomicInteger called = new AtomicInteger(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>lru(10).expireAfterWrite(20, TimeUnit.MILLISECONDS);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> called.incrementAndGet(), cache);
+
+        assertThat(fn.apply(1), equalTo(1));
+        assertThat(fn.apply(1), equalTo(1));
+        Thread.sleep(50);
+        assertThat(fn.apply(1), equalTo(2));
+        assertThat(cache.stats().getMissCount(), equalTo(2l));
+    }
+
+    @Test
+    public void expireAfterAccess() throws InterruptedException {
+        AtomicInteger called = new AtomicInteger(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>tinyLfu(10).expireAfterAccess(20, TimeUnit.MILLISECONDS);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> called.incrementAndGet(), cache);
+
+        assertThat(fn.apply(1), equalTo(1));
+        Thread.sleep(50);
+        assertThat(fn.apply(1), equalTo(2));
+    }
+
+    @Test
+    public void invalidateAll() {
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(10);
+        Function1<Integer, Integer> fn = Memoize.memoizeFunction(i -> i, cache);
+        for (int i = 0; i < 20; i++)
+            fn.apply(i);
+        cache.invalidateAll();
+        assertThat(cache.size(), equalTo(0));
+        fn.apply(1);
+        assertThat(cache.size(), equalTo(1));
+    }
+}
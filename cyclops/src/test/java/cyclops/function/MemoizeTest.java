@@ -4,6 +4,7 @@ import org.junit.Test;
 
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -22,4 +23,37 @@ public class MemoizeTest {
         assertThat(fn.apply(1),equalTo(2));
     }
 
+    @Test
+    public void coldKeyEvictedAndRecomputedOnDemand() throws InterruptedException {
+        ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer, Thread> fn = Memoize.memoizeFunctionAsync(i -> {
+            calls.incrementAndGet();
+            return Thread.currentThread();
+        }, ex, 10);
+        assertThat(fn.apply(1),equalTo(Thread.currentThread()));
+        //refreshed once (read since the first update), then dropped
+        Thread.sleep(300);
+        int afterEviction = calls.get();
+        Thread.sleep(100);
+        assertThat(calls.get(),equalTo(afterEviction));
+
+        assertThat(fn.apply(1),equalTo(Thread.currentThread()));
+        ex.shutdown();
+    }
+
+    @Test
+    public void hotKeyRefreshed() throws InterruptedException {
+        ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+        Function1<Integer, Thread> fn = Memoize.memoizeFunctionAsync(i -> Thread.currentThread(), ex, 10);
+        assertThat(fn.apply(2),equalTo(Thread.currentThread()));
+        boolean refreshed = false;
+        for(int i=0;i<400 && !refreshed;i++){
+            Thread.sleep(5);
+            refreshed = fn.apply(2)!=Thread.currentThread();
+        }
+        assertThat(refreshed,equalTo(true));
+        ex.shutdown();
+    }
+
 }
\ No newline at end of file
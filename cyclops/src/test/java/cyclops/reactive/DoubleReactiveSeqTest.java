@@ -0,0 +1,29 @@
+package cyclops.reactive;
+
+import cyclops.data.DoubleVector;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class DoubleReactiveSeqTest {
+
+    @Test
+    public void mapFilterSum() {
+        DoubleReactiveSeq seq = DoubleReactiveSeq.of(1.5, 2.5, 3.5).filter(d -> d > 2).map(d -> d * 2);
+        assertThat(seq.sum(), closeTo(12.0, 0.0001));
+        assertThat(seq.max(), equalTo(OptionalDouble.of(7.0)));
+    }
+
+    @Test
+    public void scanAndGroup() {
+        assertThat(DoubleReactiveSeq.of(1, 2, 3).scanLeft(0, Double::sum).toArray(), equalTo(new double[]{0, 1, 3, 6}));
+        assertThat(DoubleReactiveSeq.of(1, 2, 3).grouped(2).toList(),
+                equalTo(Arrays.asList(DoubleVector.of(1, 2), DoubleVector.of(3))));
+        assertThat(DoubleReactiveSeq.of(0.5).boxed().toList(), equalTo(Arrays.asList(0.5)));
+    }
+}
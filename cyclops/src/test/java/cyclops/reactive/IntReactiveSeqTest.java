@@ -0,0 +1,100 @@
+package cyclops.reactive;
+
+import cyclops.data.IntVector;
+import cyclops.data.Vector;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class IntReactiveSeqTest {
+
+    @Test
+    public void mapFilterSum() {
+        long expected = 0;
+        for (int i = 0; i < 1000; i += 2) {
+            expected += i * 3 + 1;
+        }
+        IntReactiveSeq seq = IntReactiveSeq.range(0, 1000)
+                                           .filter(i -> i % 2 == 0)
+                                           .map(i -> i * 3)
+                                           .map(i -> i + 1);
+        assertThat(seq.sum(), equalTo(expected));
+        assertThat(seq.count(), equalTo(500L));
+        assertThat(seq.max(), equalTo(OptionalInt.of(2995)));
+    }
+
+    @Test
+    public void reduce() {
+        assertThat(IntReactiveSeq.of(1, 2, 3).reduce(10, Integer::sum), equalTo(16));
+        assertThat(IntReactiveSeq.of(1, 2, 3).reduce(Integer::sum), equalTo(OptionalInt.of(6)));
+        assertThat(IntReactiveSeq.of().reduce(Integer::sum), equalTo(OptionalInt.empty()));
+    }
+
+    @Test
+    public void scanLeft() {
+        assertThat(IntReactiveSeq.of(1, 2, 3).scanLeft(0, Integer::sum).toArray(), equalTo(new int[]{0, 1, 3, 6}));
+        assertThat(IntReactiveSeq.of().scanLeft(5, Integer::sum).toArray(), equalTo(new int[]{5}));
+    }
+
+    @Test
+    public void grouped() {
+        List<IntVector> groups = IntReactiveSeq.range(0, 10).grouped(4).toList();
+        assertThat(groups, equalTo(Arrays.asList(IntVector.range(0, 4), IntVector.range(4, 8), IntVector.range(8, 10))));
+    }
+
+    @Test
+    public void boxed() {
+        assertThat(IntReactiveSeq.range(0, 5).map(i -> i * 2).boxed().toList(), equalTo(Arrays.asList(0, 2, 4, 6, 8)));
+        assertThat(Vector.fromStream(IntReactiveSeq.fromIntVector(IntVector.of(1, 2, 3)).boxed()), equalTo(Vector.of(1, 2, 3)));
+    }
+
+    @Test
+    public void backpressure() {
+        List<Integer> received = new ArrayList<>();
+        boolean[] complete = {false};
+        IntReactiveSeq seq = IntReactiveSeq.range(0, 20).filter(i -> i % 3 != 0).scanLeft(0, Integer::sum);
+        Subscription[] sub = {null};
+        seq.boxed().subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                sub[0] = s;
+            }
+
+            @Override
+            public void onNext(Integer value) {
+                received.add(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                complete[0] = true;
+            }
+        });
+        sub[0].request(2);
+        assertThat(received.size(), equalTo(2));
+        sub[0].request(3);
+        assertThat(received.size(), equalTo(5));
+        assertFalse(complete[0]);
+        sub[0].request(Long.MAX_VALUE);
+        assertTrue(complete[0]);
+        assertThat(received, equalTo(seq.boxed().toList()));
+    }
+
+    @Test
+    public void toIntVector() {
+        assertThat(IntReactiveSeq.range(0, 100).intVector(), equalTo(IntVector.range(0, 100)));
+    }
+}
@@ -0,0 +1,28 @@
+package cyclops.reactive;
+
+import cyclops.data.LongVector;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class LongReactiveSeqTest {
+
+    @Test
+    public void mapFilterSum() {
+        LongReactiveSeq seq = LongReactiveSeq.range(0, 100).map(l -> l * 1_000_000_000L);
+        assertThat(seq.sum(), equalTo(4950L * 1_000_000_000L));
+        assertThat(seq.filter(l -> l > 0).min(), equalTo(OptionalLong.of(1_000_000_000L)));
+    }
+
+    @Test
+    public void scanAndGroup() {
+        assertThat(LongReactiveSeq.of(1, 2, 3).scanLeft(0, Long::sum).toArray(), equalTo(new long[]{0, 1, 3, 6}));
+        assertThat(LongReactiveSeq.range(0, 5).grouped(2).toList(),
+                equalTo(Arrays.asList(LongVector.of(0, 1), LongVector.of(2, 3), LongVector.of(4))));
+        assertThat(LongReactiveSeq.of(1, 2).boxed().toList(), equalTo(Arrays.asList(1L, 2L)));
+    }
+}
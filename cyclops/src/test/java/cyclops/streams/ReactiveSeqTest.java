@@ -678,6 +678,19 @@ public class ReactiveSeqTest {
                     .count(), equalTo(1000L));
         }
     }
+    @Test
+    public void parallelSplittableSourcesKeepOrder(){
+        assertThat(ReactiveSeq.range(0, 10000)
+                              .parallel(s -> s.map(i -> i * 2))
+                              .toList(), equalTo(ReactiveSeq.range(0, 10000).map(i -> i * 2).toList()));
+        assertThat(ReactiveSeq.range(0, 10000).reverse()
+                              .parallel(new ForkJoinPool(4),s -> s.filter(i -> i % 2 == 0))
+                              .toList(), equalTo(ReactiveSeq.range(0, 10000).reverse().filter(i -> i % 2 == 0).toList()));
+        assertThat(ReactiveSeq.fromList(Arrays.asList(1,2,3,4,5))
+                              .foldParallel(s -> s.map(i -> i * 10).collect(Collectors.toList())), equalTo(Arrays.asList(10,20,30,40,50)));
+        assertThat(ReactiveSeq.of(1,2,3,4,5)
+                              .foldParallel(s -> s.mapToInt(i -> i).sum()), equalTo(15));
+    }
 
     @Test
     public void testLimit(){
@@ -1,15 +1,22 @@
 package cyclops.streams.push.hotstream;
 
+import com.oath.cyclops.types.reactive.SlowConsumerPolicy;
+import com.oath.cyclops.types.stream.Connectable;
 import com.oath.cyclops.types.stream.PausableConnectable;
+import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.*;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -23,6 +30,38 @@ public class ConnectableTest {
 	String captured;
 	long diff;
 	@Test
+	public void moreThanTenConnections(){
+		Connectable<Integer> hot = Spouts.range(0, 10)
+										 .primedHotStream(exec);
+		List<ReactiveSeq<Integer>> connections = new ArrayList<>();
+		for(int i=0;i<100;i++)
+			connections.add(hot.connect(16, SlowConsumerPolicy.BLOCK));
+
+		assertThat(connections.get(0).count(),equalTo(10L));
+		for(ReactiveSeq<Integer> next : connections)
+			assertThat(next.count(),lessThanOrEqualTo(10L));
+	}
+	@Test
+	public void slowConnectionDisconnected(){
+		Connectable<Integer> hot = Spouts.range(0, 1000)
+										 .primedHotStream(exec);
+		ReactiveSeq<Integer> fast = hot.connect(2000, SlowConsumerPolicy.BLOCK);
+		ReactiveSeq<Integer> slow = hot.connect(2, SlowConsumerPolicy.DISCONNECT);
+
+		assertThat(fast.count(),equalTo(1000L));
+		assertThat(slow.count(),lessThanOrEqualTo(2L));
+	}
+	@Test
+	public void slowConnectionDrops(){
+		Connectable<Integer> hot = Spouts.range(0, 1000)
+										 .primedHotStream(exec);
+		ReactiveSeq<Integer> fast = hot.connect(2000, SlowConsumerPolicy.BLOCK);
+		ReactiveSeq<Integer> slow = hot.connect(2, SlowConsumerPolicy.DROP);
+
+		assertThat(fast.count(),equalTo(1000L));
+		assertThat(slow.count(),lessThanOrEqualTo(2L));
+	}
+	@Test
     public void backpressureScheduledDelay(){
 
         captured= "";